@@ -29,7 +29,7 @@ public class SwaggerConfig {
                             All endpoints are accessible through port 8080:
                             - IAM Service: /api/v1/authentication/**, /api/v1/users/**, /api/v1/roles/**
                             - Profiles Service: /api/v1/lawyers/**, /api/v1/clients/**, /api/v1/lawyer-specialties/**
-                            - Cases Service: /api/v1/cases/**, /api/v1/applications/**, /api/v1/invitations/**, /api/v1/comments/**
+                            - Cases Service: /api/v1/cases/**, /api/v1/applications/**, /api/v1/invitations/**, /api/v1/comments/**, /api/v1/lawyers/*/dashboard
                             
                             Use the dropdown above to switch between different service documentations.
                             """)
@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan(basePackages = "com.qu3dena.lawconnect.backend")
 @EnableJpaRepositories(basePackages = "com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories")
 @EnableJpaAuditing
+@EnableScheduling
 public class CasesServiceApplication {
 
     public static void main(String[] args) {
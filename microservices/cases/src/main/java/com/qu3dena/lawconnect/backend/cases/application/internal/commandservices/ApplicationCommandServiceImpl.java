@@ -1,5 +1,7 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.AcceptApplicationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RejectApplicationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SubmitApplicationCommand;
@@ -10,10 +12,9 @@ import com.qu3dena.lawconnect.backend.cases.domain.model.events.ApplicationSubmi
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.services.ApplicationCommandService;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseEvaluationService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.ApplicationRepository;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
-import jakarta.transaction.Transactional;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -32,19 +33,28 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
 
     private final CaseRepository caseRepository;
     private final ApplicationRepository applicationRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final CaseEvaluationService caseEvaluationService;
+    private final DomainEventOutbox eventOutbox;
+    private final CaseSnapshotCache snapshotCache;
+    private final CaseCommandLanes commandLanes;
 
     /**
      * Constructs an instance of {@link ApplicationCommandServiceImpl}.
      *
      * @param caseRepository        the repository for managing legal cases
      * @param applicationRepository the repository for managing applications
-     * @param eventPublisher        the event publisher for domain events
+     * @param caseEvaluationService the domain service deciding whether a case under evaluation reopens
+     * @param eventOutbox           the outbox recording domain events
+     * @param snapshotCache         the cache of case snapshots, evicted when a case changes
+     * @param commandLanes          the lanes serializing the commands of each case
      */
-    public ApplicationCommandServiceImpl(CaseRepository caseRepository, ApplicationRepository applicationRepository, ApplicationEventPublisher eventPublisher) {
+    public ApplicationCommandServiceImpl(CaseRepository caseRepository, ApplicationRepository applicationRepository, CaseEvaluationService caseEvaluationService, DomainEventOutbox eventOutbox, CaseSnapshotCache snapshotCache, CaseCommandLanes commandLanes) {
         this.caseRepository = caseRepository;
         this.applicationRepository = applicationRepository;
-        this.eventPublisher = eventPublisher;
+        this.caseEvaluationService = caseEvaluationService;
+        this.eventOutbox = eventOutbox;
+        this.snapshotCache = snapshotCache;
+        this.commandLanes = commandLanes;
     }
 
     /**
@@ -57,6 +67,42 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
      */
     @Override
     public Optional<Application> handle(AcceptApplicationCommand command) {
+        var caseId = applicationRepository.findCaseIdById(command.applicationId())
+                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+
+        return commandLanes.execute(caseId, () -> acceptApplication(command));
+    }
+
+    /**
+     * Handles the submission of an application.
+     * Validates the case status, updates the case's status to EVALUATION,
+     * creates a new application, and publishes an event.
+     *
+     * @param command the command containing the details for submitting the application
+     * @return an {@link Optional} containing the submitted application, if successful
+     */
+    @Override
+    public Optional<Application> handle(SubmitApplicationCommand command) {
+        return commandLanes.execute(command.caseId(), () -> submitApplication(command));
+    }
+
+    /**
+     * Handles the rejection of an application.
+     * Validates the client ID and case status, updates the application's status to REJECTED,
+     * reopens the case if there are no pending invitations or applications, and publishes an event.
+     *
+     * @param command the command containing the details for rejecting the application
+     * @return an {@link Optional} containing the rejected application, if successful
+     */
+    @Override
+    public Optional<Application> handle(RejectApplicationCommand command) {
+        var caseId = applicationRepository.findCaseIdById(command.applicationId())
+                .orElseThrow(() -> new IllegalArgumentException("Application not found"));
+
+        return commandLanes.execute(caseId, () -> rejectApplication(command));
+    }
+
+    private Optional<Application> acceptApplication(AcceptApplicationCommand command) {
 
         // 1). Retrieve the application by its ID or throw an exception if not found
         var maybeApplication = applicationRepository.findById(command.applicationId())
@@ -74,9 +120,10 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
         var applicationCase = saved.getLegalCase();
         applicationCase.accept(saved.getLawyerId());
         caseRepository.save(applicationCase);
+        snapshotCache.evict(applicationCase.getId());
 
         // 5). Publish an event indicating that the application has been accepted
-        eventPublisher.publishEvent(new ApplicationAcceptedEvent(
+        eventOutbox.append(new ApplicationAcceptedEvent(
                 saved.getCaseId(),
                 saved.getId(),
                 saved.getClientId()
@@ -85,35 +132,27 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
         return Optional.of(saved);
     }
 
-    /**
-     * Handles the submission of an application.
-     * Validates the case status, updates the case's status to EVALUATION,
-     * creates a new application, and publishes an event.
-     *
-     * @param command the command containing the details for submitting the application
-     * @return an {@link Optional} containing the submitted application, if successful
-     */
-    @Override
-    public Optional<Application> handle(SubmitApplicationCommand command) {
+    private Optional<Application> submitApplication(SubmitApplicationCommand command) {
 
         // 1). Retrieve the case by its ID or throw an exception if not found
         var maybeCase = caseRepository.findById(command.caseId())
                 .orElseThrow(() -> new IllegalArgumentException("Case not found"));
 
         // 2). Validate that the case status is OPEN before proceeding
-        if (maybeCase.getStatus() != CaseStatus.OPEN)
+        if (maybeCase.getCurrentStatus() != CaseStatus.OPEN)
             throw new IllegalStateException("Applications can only be submitted to OPEN cases");
 
         // 3). Update the case's status to EVALUATION and save the changes
         maybeCase.evaluation();
         caseRepository.save(maybeCase);
+        snapshotCache.evict(maybeCase.getId());
 
         // 4). Create a new application, save it, and return the saved instance
         var application = Application.create(maybeCase, command.lawyerId(), ApplicationStatus.SUBMITTED, command.message());
         var saved = applicationRepository.save(application);
 
         // 5). Publish an event indicating that the application has been submitted
-        eventPublisher.publishEvent(new ApplicationSubmittedEvent(
+        eventOutbox.append(new ApplicationSubmittedEvent(
                 saved.getCaseId(),
                 saved.getId(),
                 saved.getLawyerId()
@@ -122,17 +161,7 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
         return Optional.of(saved);
     }
 
-    /**
-     * Handles the rejection of an application.
-     * Validates the client ID and case status, updates the application's status to REJECTED,
-     * reopens the case if there are no pending invitations or applications, and publishes an event.
-     *
-     * @param command the command containing the details for rejecting the application
-     * @return an {@link Optional} containing the rejected application, if successful
-     */
-    @Override
-    @Transactional
-    public Optional<Application> handle(RejectApplicationCommand command) {
+    private Optional<Application> rejectApplication(RejectApplicationCommand command) {
 
         // 1). Retrieve the application by its ID or throw an exception if not found
         var maybeApplication = applicationRepository.findById(command.applicationId())
@@ -144,7 +173,7 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
 
         // 3). Validate that the application's case is in EVALUATION status before proceeding
         var applicationCase = maybeApplication.getLegalCase();
-        if (applicationCase.getStatus() != CaseStatus.EVALUATION)
+        if (applicationCase.getCurrentStatus() != CaseStatus.EVALUATION)
             throw new IllegalStateException("Applications can only be accepted/rejected when case is in EVALUATION");
 
         // 4). Update the application's status to REJECTED, save it, and check if the case has no pending invitations or applications
@@ -152,13 +181,10 @@ public class ApplicationCommandServiceImpl implements ApplicationCommandService
         var saved = applicationRepository.save(maybeApplication);
 
         // 5). If the case has no pending invitations or applications, reopen it
-        if (applicationCase.hasNoPendingInvitationsOrApplications()) {
-            applicationCase.reopen();
-            caseRepository.save(applicationCase);
-        }
+        caseEvaluationService.reopenIfNoPendingResponses(applicationCase);
 
         // 6). Publish an event indicating that the application has been rejected
-        eventPublisher.publishEvent(new ApplicationRejectedEvent(
+        eventOutbox.append(new ApplicationRejectedEvent(
                 saved.getCaseId(),
                 saved.getId(),
                 saved.getClientId()
@@ -0,0 +1,96 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes the commands that change a case.
+ * <p>
+ * Each case is routed by its identifier onto one of {@code lanes} locks. A command holds the lock of its
+ * lane while its transaction runs and commits, so two commands on the same case never read and write the
+ * case row concurrently, while commands on cases of different lanes run fully in parallel. A command that
+ * cannot enter its lane within {@code timeout} fails instead of holding a request thread indefinitely.
+ * </p>
+ * <p>
+ * Lanes only serialize commands within one instance of the service; across instances the version of the
+ * case still rejects a conflicting update.
+ * </p>
+ */
+@Component
+public class CaseCommandLanes {
+
+    private final TransactionOperations transactions;
+    private final ReentrantLock[] lanes;
+    private final long timeoutNanos;
+
+    /**
+     * Constructs the lanes.
+     *
+     * @param transactionManager the transaction manager the commands run in
+     * @param lanes              the number of lanes, rounded up to a power of two
+     * @param timeout            how long a command waits to enter its lane
+     */
+    @Autowired
+    public CaseCommandLanes(PlatformTransactionManager transactionManager,
+                            @Value("${cases.commands.lanes:64}") int lanes,
+                            @Value("${cases.commands.lane-timeout:PT10S}") Duration timeout) {
+        this(new TransactionTemplate(transactionManager), lanes, timeout);
+    }
+
+    CaseCommandLanes(TransactionOperations transactions, int lanes, Duration timeout) {
+        if (lanes < 1 || lanes > 1 << 16)
+            throw new IllegalArgumentException("Case command lanes must be between 1 and 65536");
+
+        this.transactions = transactions;
+        int size = 1;
+        while (size < lanes)
+            size <<= 1;
+
+        this.lanes = new ReentrantLock[size];
+        for (int i = 0; i < this.lanes.length; i++)
+            this.lanes[i] = new ReentrantLock();
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Runs a command on a case in a transaction, after the commands of the same lane before it.
+     *
+     * @param caseId  the unique identifier of the case the command changes
+     * @param command the command
+     * @param <T>     the type of the result of the command
+     * @return the result of the command
+     * @throws IllegalStateException if the lane of the case stays busy for longer than the timeout
+     */
+    public <T> T execute(UUID caseId, Supplier<T> command) {
+        var lane = lanes[laneOf(caseId)];
+
+        try {
+            if (!lane.tryLock(timeoutNanos, TimeUnit.NANOSECONDS))
+                throw new IllegalStateException("The case is busy, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the case", e);
+        }
+
+        try {
+            return transactions.execute(status -> command.get());
+        } finally {
+            lane.unlock();
+        }
+    }
+
+    int laneOf(UUID caseId) {
+        int hash = caseId.hashCode();
+        return (hash ^ (hash >>> 16)) & (lanes.length - 1);
+    }
+}
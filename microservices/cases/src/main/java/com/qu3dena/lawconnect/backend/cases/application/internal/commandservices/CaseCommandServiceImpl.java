@@ -1,9 +1,11 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
 import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseCanceledEvent;
 import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseClosedEvent;
 import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseCreatedEvent;
-import org.springframework.context.ApplicationEventPublisher;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 import com.qu3dena.lawconnect.backend.cases.domain.services.CaseCommandService;
 import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
@@ -27,17 +29,23 @@ import java.util.Optional;
 public class CaseCommandServiceImpl implements CaseCommandService {
 
     private final CaseRepository caseRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox eventOutbox;
+    private final CaseSnapshotCache snapshotCache;
+    private final CaseCommandLanes commandLanes;
 
     /**
      * Constructs an instance of {@link CaseCommandServiceImpl}.
      *
      * @param caseRepository the repository for managing cases
-     * @param eventPublisher the event publisher for domain events
+     * @param eventOutbox    the outbox recording domain events
+     * @param snapshotCache  the cache of case snapshots, evicted when a case changes
+     * @param commandLanes   the lanes serializing the commands of each case
      */
-    public CaseCommandServiceImpl(CaseRepository caseRepository, ApplicationEventPublisher eventPublisher) {
+    public CaseCommandServiceImpl(CaseRepository caseRepository, DomainEventOutbox eventOutbox, CaseSnapshotCache snapshotCache, CaseCommandLanes commandLanes) {
         this.caseRepository = caseRepository;
-        this.eventPublisher = eventPublisher;
+        this.eventOutbox = eventOutbox;
+        this.snapshotCache = snapshotCache;
+        this.commandLanes = commandLanes;
     }
 
     /**
@@ -48,6 +56,7 @@ public class CaseCommandServiceImpl implements CaseCommandService {
      * @return an {@link Optional} containing the created case, if successful
      */
     @Override
+    @Transactional
     public Optional<CaseAggregate> handle(CreateCaseCommand command) {
 
         // 1). Create a new case
@@ -62,7 +71,7 @@ public class CaseCommandServiceImpl implements CaseCommandService {
         var saved = caseRepository.save(newCase);
 
         // 3). Publish a case created event
-        eventPublisher.publishEvent(new CaseCreatedEvent(
+        eventOutbox.append(new CaseCreatedEvent(
                 saved.getId(),
                 saved.getClientId()
         ));
@@ -80,6 +89,23 @@ public class CaseCommandServiceImpl implements CaseCommandService {
      */
     @Override
     public Optional<CaseAggregate> handle(CloseCaseCommand command) {
+        return commandLanes.execute(command.caseId(), () -> closeCase(command));
+    }
+
+    /**
+     * Handles the cancellation of a case.
+     * Validates the client ID, updates the case's status to CANCELED, saves it,
+     * and publishes a case canceled event.
+     *
+     * @param command the command containing the details for canceling the case
+     * @return an {@link Optional} containing the canceled case, if successful
+     */
+    @Override
+    public Optional<CaseAggregate> handle(CancelCaseCommand command) {
+        return commandLanes.execute(command.caseId(), () -> cancelCase(command));
+    }
+
+    private Optional<CaseAggregate> closeCase(CloseCaseCommand command) {
 
         // 1). Find the case by ID
         var maybeCase = caseRepository.findById(command.caseId())
@@ -91,12 +117,13 @@ public class CaseCommandServiceImpl implements CaseCommandService {
 
         // 3). Close the case
         maybeCase.close();
+        snapshotCache.evict(maybeCase.getId());
 
         // 4). Save the updated case
         var saved = caseRepository.save(maybeCase);
 
         // 5). Publish a case closed event
-        eventPublisher.publishEvent(new CaseClosedEvent(
+        eventOutbox.append(new CaseClosedEvent(
                 saved.getId(),
                 saved.getClientId()
         ));
@@ -104,16 +131,7 @@ public class CaseCommandServiceImpl implements CaseCommandService {
         return Optional.of(saved);
     }
 
-    /**
-     * Handles the cancellation of a case.
-     * Validates the client ID, updates the case's status to CANCELED, saves it,
-     * and publishes a case canceled event.
-     *
-     * @param command the command containing the details for canceling the case
-     * @return an {@link Optional} containing the canceled case, if successful
-     */
-    @Override
-    public Optional<CaseAggregate> handle(CancelCaseCommand command) {
+    private Optional<CaseAggregate> cancelCase(CancelCaseCommand command) {
 
         // 1). Find the case by ID
         var maybeCase = caseRepository.findById(command.caseId())
@@ -125,12 +143,13 @@ public class CaseCommandServiceImpl implements CaseCommandService {
 
         // 3). Cancel the case
         maybeCase.cancel();
+        snapshotCache.evict(maybeCase.getId());
 
         // 4). Save the updated case
         var saved = caseRepository.save(maybeCase);
 
         // 5). Publish a case canceled event
-        eventPublisher.publishEvent(new CaseCanceledEvent(
+        eventOutbox.append(new CaseCanceledEvent(
                 saved.getId(),
                 saved.getClientId()
         ));
@@ -0,0 +1,106 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseMessageSentEvent;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageSequenceRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseUnreadCounterRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a batch of case messages in a single transaction.
+ * <p>
+ * The messages are inserted together, so with {@code hibernate.jdbc.batch_size} set they reach the
+ * database as JDBC batches, and the unread counters are incremented once per participant and case
+ * of the batch instead of once per message.
+ * </p>
+ * <p>
+ * The messages of each case are numbered from a per-case sequence that the transaction keeps locked until
+ * it commits, so a batch writing to the same case waits for the previous one, and the messages of a case
+ * are numbered in commit order. Clients reading forward from the number of the last message they hold
+ * therefore never skip one.
+ * </p>
+ */
+@Component
+public class CaseMessageBatchWriter {
+
+    private static final Comparator<UnreadIncrement> LOCK_ORDER =
+            Comparator.comparing(UnreadIncrement::userId).thenComparing(UnreadIncrement::caseId);
+
+    private final CaseMessageRepository messageRepository;
+    private final CaseMessageSequenceRepository sequenceRepository;
+    private final CaseRepository caseRepository;
+    private final CaseUnreadCounterRepository unreadCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CaseMessageBatchWriter(CaseMessageRepository messageRepository,
+                                  CaseMessageSequenceRepository sequenceRepository,
+                                  CaseRepository caseRepository,
+                                  CaseUnreadCounterRepository unreadCounterRepository,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.messageRepository = messageRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.caseRepository = caseRepository;
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Saves the messages of the given commands.
+     *
+     * @param commands the send commands, in the order their messages are saved
+     * @return the saved messages, in the order of the commands
+     */
+    @Transactional
+    public List<CaseMessage> write(List<SendMessageCommand> commands) {
+        var messages = commands.stream()
+                .map(command -> new CaseMessage(command.caseId(), command.senderId(), command.content()))
+                .toList();
+
+        // 1). Number the messages of each case consecutively, taking the sequence rows in a fixed order
+        // so concurrent batches cannot deadlock on them
+        var messagesByCase = new TreeMap<UUID, List<CaseMessage>>();
+        messages.forEach(message -> messagesByCase.computeIfAbsent(message.getCaseId(), id -> new ArrayList<>()).add(message));
+        messagesByCase.forEach((caseId, caseMessages) -> {
+            sequenceRepository.reserve(caseId, caseMessages.size());
+            long sequenceNumber = sequenceRepository.findLastSequenceNumber(caseId) - caseMessages.size();
+            for (var message : caseMessages)
+                message.setSequenceNumber(++sequenceNumber);
+        });
+
+        var saved = messageRepository.saveAll(messages);
+
+        // 2). Count each message as unread for every other participant of its case, taking the
+        // counter rows in a fixed order so concurrent batches cannot deadlock on them
+        var increments = new TreeMap<UnreadIncrement, Long>(LOCK_ORDER);
+        commands.stream().map(SendMessageCommand::caseId).distinct().forEach(caseId ->
+                caseRepository.findParticipantsById(caseId).ifPresent(participants ->
+                        commands.stream()
+                                .filter(command -> command.caseId().equals(caseId))
+                                .forEach(command -> Stream.of(participants.clientId(), participants.assignedLawyerId())
+                                        .filter(userId -> userId != null && !userId.equals(command.senderId()))
+                                        .forEach(userId -> increments.merge(new UnreadIncrement(userId, caseId), 1L, Long::sum)))));
+
+        increments.forEach((key, count) -> unreadCounterRepository.increment(key.userId(), key.caseId(), count));
+
+        // 3). Subscribers of the case streams receive the messages once the transaction commits
+        saved.forEach(message -> eventPublisher.publishEvent(new CaseMessageSentEvent(
+                message.getId(), message.getCaseId(), message.getSenderId(), message.getContent(), message.getCreatedAt())));
+
+        return saved;
+    }
+
+    private record UnreadIncrement(UUID userId, UUID caseId) {
+    }
+}
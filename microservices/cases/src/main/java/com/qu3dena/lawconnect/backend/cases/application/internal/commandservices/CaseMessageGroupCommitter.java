@@ -0,0 +1,323 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Group commit for case messages.
+ * <p>
+ * Senders enqueue their message into a bounded queue and wait; a single flusher thread takes the
+ * queued messages, waits at most {@code max-delay} for more to arrive or until {@code max-batch-size}
+ * are pending, and writes them in one transaction, so a burst of messages costs one commit instead of
+ * one per message. Each sender returns once the transaction holding its message has committed.
+ * When a batch fails, its messages are retried one by one so a single invalid message fails only its sender.
+ * </p>
+ * <p>
+ * A sender that times out withdraws its message if the flusher has not taken it yet, so a reported timeout
+ * always means the message was never written; once taken, the sender waits for the outcome of its write.
+ * </p>
+ */
+@Component
+public class CaseMessageGroupCommitter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseMessageGroupCommitter.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Function<List<SendMessageCommand>, List<CaseMessage>> writer;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingMessage> queue;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final AtomicLong largestBatch = new AtomicLong();
+    private final LongAdder commitNanos = new LongAdder();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * Constructs the committer.
+     *
+     * @param batchWriter   the writer of message batches
+     * @param enabled       whether messages are group committed; when disabled each message is written on its own
+     * @param maxBatchSize  the most messages written per transaction
+     * @param maxDelay      how long the first message of a batch waits for others
+     * @param queueCapacity the most messages waiting to be written
+     * @param timeout       how long a sender waits to enqueue its message and for it to commit
+     */
+    @Autowired
+    public CaseMessageGroupCommitter(
+            CaseMessageBatchWriter batchWriter,
+            @Value("${messages.group-commit.enabled:false}") boolean enabled,
+            @Value("${messages.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${messages.group-commit.max-delay:PT0.005S}") Duration maxDelay,
+            @Value("${messages.group-commit.queue-capacity:2000}") int queueCapacity,
+            @Value("${messages.group-commit.timeout:PT5S}") Duration timeout) {
+        this(batchWriter::write, enabled, maxBatchSize, maxDelay, queueCapacity, timeout);
+    }
+
+    CaseMessageGroupCommitter(Function<List<SendMessageCommand>, List<CaseMessage>> writer,
+                              boolean enabled, int maxBatchSize, Duration maxDelay, int queueCapacity, Duration timeout) {
+        if (maxBatchSize < 1 || queueCapacity < 1)
+            throw new IllegalArgumentException("Group commit batch size and queue capacity must be positive");
+
+        this.writer = writer;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Statistics of the batches written since startup.
+     *
+     * @param batches                the number of committed batches
+     * @param messages               the number of committed messages
+     * @param failedBatches          the number of batches whose transaction failed
+     * @param averageBatchSize       the mean number of messages per committed batch
+     * @param largestBatch           the largest committed batch
+     * @param averageCommitMillis    the mean time spent writing and committing a batch
+     * @param maxCommitMillis        the longest time spent writing and committing a batch
+     * @param averageLatencyMillis   the mean time from enqueueing a message to its commit
+     * @param maxLatencyMillis       the longest time from enqueueing a message to its commit
+     * @param queued                 the number of messages waiting to be written
+     */
+    public record Stats(long batches, long messages, long failedBatches, double averageBatchSize, long largestBatch,
+                        double averageCommitMillis, double maxCommitMillis,
+                        double averageLatencyMillis, double maxLatencyMillis, int queued) {
+    }
+
+    private record PendingMessage(SendMessageCommand command, CompletableFuture<CaseMessage> result,
+                                  AtomicBoolean taken, long enqueuedAt) {
+
+        /**
+         * Takes the message, either for the flusher to write or for its sender to withdraw; only the first succeeds.
+         */
+        boolean take() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled)
+            return;
+
+        running = true;
+        flusher = new Thread(this::run, "case-message-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+        LOGGER.info("Case message group commit started (max batch size {}, max delay {} µs)",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxDelayNanos));
+    }
+
+    /**
+     * Stops accepting messages and writes the ones already queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running)
+            return;
+
+        running = false;
+        flusher.join(TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + IDLE_POLL_MILLIS);
+    }
+
+    /**
+     * Returns whether messages are currently group committed.
+     *
+     * @return {@code true} if {@link #submit(SendMessageCommand)} accepts messages
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Queues a message and waits until the batch holding it has committed.
+     *
+     * @param command the send command
+     * @return the saved message
+     * @throws IllegalStateException if the queue stays full or the message is not taken for writing within the
+     *                               timeout; the message is then never written
+     */
+    public CaseMessage submit(SendMessageCommand command) {
+        long start = System.nanoTime();
+        var pending = new PendingMessage(command, new CompletableFuture<>(), new AtomicBoolean(), start);
+
+        try {
+            if (!running || !queue.offer(pending, timeoutNanos, TimeUnit.NANOSECONDS))
+                throw new IllegalStateException("Message queue is full");
+
+            return pending.result().get(timeoutNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            withdraw(pending, new IllegalStateException("Interrupted while sending message", e));
+        } catch (TimeoutException e) {
+            withdraw(pending, new IllegalStateException("Message was not committed in time", e));
+        } catch (ExecutionException e) {
+            throw failureOf(e.getCause());
+        }
+
+        // The flusher took the message before it could be withdrawn, so the outcome of its write is reported
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            throw failureOf(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the statistics of the batches written so far.
+     *
+     * @return the group commit statistics
+     */
+    public Stats stats() {
+        long batchCount = batches.sum();
+        long messageCount = messages.sum();
+        return new Stats(
+                batchCount,
+                messageCount,
+                failedBatches.sum(),
+                batchCount == 0 ? 0 : (double) messageCount / batchCount,
+                largestBatch.get(),
+                batchCount == 0 ? 0 : toMillis(commitNanos.sum()) / batchCount,
+                toMillis(maxCommitNanos.get()),
+                messageCount == 0 ? 0 : toMillis(latencyNanos.sum()) / messageCount,
+                toMillis(maxLatencyNanos.get()),
+                queue.size());
+    }
+
+    private void run() {
+        var batch = new ArrayList<PendingMessage>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+
+                batch.add(first);
+                collect(batch);
+
+                // Messages withdrawn by their senders after timing out are dropped, never written
+                batch.removeIf(pending -> !pending.take());
+                if (!batch.isEmpty())
+                    flush(batch);
+            } catch (InterruptedException e) {
+                LOGGER.warn("Case message group commit interrupted, {} messages left queued", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Case message group commit failed", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds to the batch the messages that arrive before it is full or its delay runs out.
+     */
+    private void collect(List<PendingMessage> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                break;
+
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null)
+                break;
+
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        long start = System.nanoTime();
+        List<CaseMessage> saved;
+        try {
+            saved = writer.apply(batch.stream().map(PendingMessage::command).toList());
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+
+            LOGGER.warn("Batch of {} case messages failed, retrying them one by one", batch.size(), e);
+            for (var pending : batch)
+                flush(List.of(pending));
+            return;
+        }
+
+        long committed = System.nanoTime();
+        batches.increment();
+        messages.add(batch.size());
+        largestBatch.accumulateAndGet(batch.size(), Math::max);
+        commitNanos.add(committed - start);
+        maxCommitNanos.accumulateAndGet(committed - start, Math::max);
+
+        for (int i = 0; i < batch.size(); i++) {
+            var pending = batch.get(i);
+            latencyNanos.add(committed - pending.enqueuedAt());
+            maxLatencyNanos.accumulateAndGet(committed - pending.enqueuedAt(), Math::max);
+            pending.result().complete(saved.get(i));
+        }
+    }
+
+    /**
+     * Withdraws a message the flusher has not taken yet and fails its sender with the given failure.
+     * Returns normally when the flusher has already taken the message.
+     */
+    private void withdraw(PendingMessage pending, IllegalStateException failure) {
+        if (!pending.take())
+            return;
+
+        queue.remove(pending);
+        pending.result().completeExceptionally(failure);
+        throw failure;
+    }
+
+    private static RuntimeException failureOf(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException)
+            return runtimeException;
+        return new IllegalStateException("Message could not be saved", cause);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
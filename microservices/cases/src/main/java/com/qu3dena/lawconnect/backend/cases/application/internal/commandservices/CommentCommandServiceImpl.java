@@ -1,5 +1,6 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.CreateCommentCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteCommentCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Comment;
@@ -9,7 +10,7 @@ import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CommentTyp
 import com.qu3dena.lawconnect.backend.cases.domain.services.CommentCommandService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CommentRepository;
-import org.springframework.context.ApplicationEventPublisher;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -28,19 +29,19 @@ public class CommentCommandServiceImpl implements CommentCommandService {
 
     private final CaseRepository caseRepository;
     private final CommentRepository commentRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox eventOutbox;
 
     /**
      * Constructs an instance of {@link CommentCommandServiceImpl}.
      *
      * @param commentRepository the repository for managing comments
      * @param caseRepository    the repository for managing cases
-     * @param eventPublisher    the event publisher for domain events
+     * @param eventOutbox       the outbox recording domain events
      */
-    public CommentCommandServiceImpl(CommentRepository commentRepository, CaseRepository caseRepository, ApplicationEventPublisher eventPublisher) {
+    public CommentCommandServiceImpl(CommentRepository commentRepository, CaseRepository caseRepository, DomainEventOutbox eventOutbox) {
         this.commentRepository = commentRepository;
         this.caseRepository = caseRepository;
-        this.eventPublisher = eventPublisher;
+        this.eventOutbox = eventOutbox;
     }
 
     /**
@@ -52,6 +53,7 @@ public class CommentCommandServiceImpl implements CommentCommandService {
      * @return an {@link Optional} containing the created comment, if successful
      */
     @Override
+    @Transactional
     public Optional<Comment> handle(CreateCommentCommand command) {
         // 1). Retrieve the case by its ID or throw an exception if not found
         var maybeCase = caseRepository.findById(command.caseId())
@@ -66,7 +68,7 @@ public class CommentCommandServiceImpl implements CommentCommandService {
         var saved = commentRepository.save(comment);
 
         // 4). Publish a CommentCreatedEvent to notify other parts of the system
-        eventPublisher.publishEvent(new CommentCreatedEvent(
+        eventOutbox.append(new CommentCreatedEvent(
                 saved.getCaseId(),
                 saved.getId(),
                 saved.getAuthorId()
@@ -1,38 +1,214 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.DocumentCompressionPolicy;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.DocumentContentStore;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.StoredContent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.BackfillDocumentContentReferencesCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteCaseDocumentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MigrateDocumentContentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RegisterDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.StoreDocumentContentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SweepOrphanedDocumentContentsCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.UploadDocumentCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentReference;
 import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentCommandService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.DocumentContentRepository;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.DocumentRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class DocumentCommandServiceImpl implements DocumentCommandService {
 
     private final DocumentRepository documentRepository;
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentContentStore documentContentStore;
+    private final DocumentCompressionPolicy documentCompressionPolicy;
+    private final TransactionOperations transactions;
 
-    public DocumentCommandServiceImpl(DocumentRepository documentRepository) {
+    public DocumentCommandServiceImpl(DocumentRepository documentRepository,
+                                      DocumentContentRepository documentContentRepository,
+                                      DocumentContentStore documentContentStore,
+                                      DocumentCompressionPolicy documentCompressionPolicy,
+                                      PlatformTransactionManager transactionManager) {
         this.documentRepository = documentRepository;
+        this.documentContentRepository = documentContentRepository;
+        this.documentContentStore = documentContentStore;
+        this.documentCompressionPolicy = documentCompressionPolicy;
+        this.transactions = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Not transactional, so no connection is held while the upload is read; the reference and the metadata
+     * are then recorded in one short transaction.
+     */
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public Optional<Document> handle(UploadDocumentCommand command) {
+        String contentHash = null;
+        DocumentContentCodec contentCodec = null;
+        Long fileSize = command.fileSize();
+
+        // 1). Stream the content into the store first; digest and size are computed while it is written
+        if (command.content() != null) {
+            try (var content = command.content().getInputStream()) {
+                var stored = store(content, command.fileType());
+                contentHash = stored.contentHash();
+                contentCodec = stored.codec();
+                fileSize = stored.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the document content", e);
+            }
+        }
+
+        // 2). Reference the content and persist the metadata together
+        var document = new Document(
+                command.caseId(),
+                command.uploadedBy(),
+                command.filename(),
+                command.fileUrl(),
+                fileSize,
+                command.fileType(),
+                contentHash,
+                contentCodec
+        );
+
+        return transactions.execute(status -> {
+            if (document.getContentHash() != null)
+                addReference(document.getContentHash());
+            return Optional.of(documentRepository.save(document));
+        });
+    }
+
+    /**
+     * Not transactional, so no connection is held while the upload is read; the content record is written
+     * in its own short transaction once the content is stored.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public DocumentContentReference handle(StoreDocumentContentCommand command) {
+        var stored = store(command.content(), command.contentType());
+        return new DocumentContentReference(stored.contentHash(), stored.size(), stored.codec());
+    }
+
+    @Override
+    public Optional<Document> handle(RegisterDocumentCommand command) {
+        addReference(command.content().contentHash());
+
         var document = new Document(
                 command.caseId(),
                 command.uploadedBy(),
                 command.filename(),
                 command.fileUrl(),
-                command.fileSize(),
+                command.content().size(),
                 command.fileType(),
-                command.fileContent()
+                command.content().contentHash(),
+                command.content().codec()
         );
 
         var saved = documentRepository.save(document);
         return Optional.of(saved);
     }
-}
 
+    @Override
+    public void handle(DeleteDocumentCommand command) {
+        var document = documentRepository.findByIdAndCaseId(command.documentId(), command.caseId())
+                .orElseThrow(() -> new IllegalArgumentException("Document not found"));
+
+        if (document.getContentHash() != null)
+            documentContentRepository.adjustReferenceCount(document.getContentHash(), -1, LocalDateTime.now());
+
+        documentRepository.delete(document);
+    }
+
+    @Override
+    public int handle(DeleteCaseDocumentsCommand command) {
+        var now = LocalDateTime.now();
+
+        // 1). Release one reference per document, grouped so shared content is updated once
+        documentRepository.findContentHashesByCaseId(command.caseId()).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .forEach((contentHash, references) ->
+                        documentContentRepository.adjustReferenceCount(contentHash, -references, now));
+
+        // 2). Delete the rows; unreferenced content is left to the sweep
+        return documentRepository.deleteByCaseId(command.caseId());
+    }
+
+    @Override
+    public int handle(SweepOrphanedDocumentContentsCommand command) {
+        var threshold = LocalDateTime.now().minus(command.gracePeriod());
+        var contentHashes = documentContentRepository.findOrphanedContentHashes(threshold, PageRequest.ofSize(command.batchSize()));
+
+        int removed = 0;
+        for (var contentHash : contentHashes) {
+            // The conditional delete locks the row, so a concurrent reference either lands first and keeps
+            // the content, or waits and then finds the record gone
+            if (documentContentRepository.deleteIfOrphaned(contentHash, threshold) == 1) {
+                documentContentStore.delete(contentHash);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public int handle(BackfillDocumentContentReferencesCommand command) {
+        return documentContentRepository.createMissingReferenceCounts(LocalDateTime.now());
+    }
+
+    @Override
+    public int handle(MigrateDocumentContentsCommand command) {
+        var ids = documentRepository.findIdsWithInlineContent(PageRequest.ofSize(command.batchSize()));
+
+        // Contents are read one at a time as plain values, so the persistence context never holds the blobs
+        for (var id : ids) {
+            var fileType = documentRepository.findById(id).map(Document::getFileType).orElse(null);
+            var content = documentRepository.findInlineContentById(id).orElseThrow();
+            var stored = store(new ByteArrayInputStream(content), fileType);
+            addReference(stored.contentHash());
+            documentRepository.updateContentReference(id, stored.contentHash(), stored.codec(), stored.size());
+            documentRepository.clearInlineContent(id);
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * Writes content to the store, compressed if its media type calls for it, and records it unreferenced,
+     * so the sweep only removes it after the grace period.
+     */
+    private StoredContent store(InputStream content, String contentType) {
+        var stored = documentContentStore.store(content, documentCompressionPolicy.codecFor(contentType));
+        documentContentRepository.touch(stored.contentHash(), stored.size(), LocalDateTime.now());
+        return stored;
+    }
+
+    /**
+     * Adds a document reference to stored content.
+     *
+     * @throws IllegalStateException if the content was swept before the reference was taken
+     */
+    private void addReference(String contentHash) {
+        if (documentContentRepository.adjustReferenceCount(contentHash, 1, LocalDateTime.now()) == 0
+                || !documentContentStore.exists(contentHash))
+            throw new IllegalStateException("Document content is no longer available, upload it again");
+    }
+}
@@ -1,7 +1,10 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.AcceptInvitationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyerCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyersCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RejectInvitationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
 import com.qu3dena.lawconnect.backend.cases.domain.model.events.InvitationAcceptedEvent;
@@ -9,13 +12,14 @@ import com.qu3dena.lawconnect.backend.cases.domain.model.events.InvitationReject
 import com.qu3dena.lawconnect.backend.cases.domain.model.events.LawyerInvitedEvent;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseEvaluationService;
 import com.qu3dena.lawconnect.backend.cases.domain.services.InvitationCommandService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
-import jakarta.transaction.Transactional;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,19 +37,28 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
 
     private final CaseRepository caseRepository;
     private final InvitationRepository invitationRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final CaseEvaluationService caseEvaluationService;
+    private final DomainEventOutbox eventOutbox;
+    private final CaseSnapshotCache snapshotCache;
+    private final CaseCommandLanes commandLanes;
 
     /**
      * Constructs an instance of {@link InvitationCommandServiceImpl}.
      *
-     * @param caseRepository       the repository for managing legal cases
-     * @param invitationRepository the repository for managing invitations
-     * @param eventPublisher       the event publisher for domain events
+     * @param caseRepository        the repository for managing legal cases
+     * @param invitationRepository  the repository for managing invitations
+     * @param caseEvaluationService the domain service deciding whether a case under evaluation reopens
+     * @param eventOutbox           the outbox recording domain events
+     * @param snapshotCache         the cache of case snapshots, evicted when a case changes
+     * @param commandLanes          the lanes serializing the commands of each case
      */
-    public InvitationCommandServiceImpl(CaseRepository caseRepository, InvitationRepository invitationRepository, ApplicationEventPublisher eventPublisher) {
+    public InvitationCommandServiceImpl(CaseRepository caseRepository, InvitationRepository invitationRepository, CaseEvaluationService caseEvaluationService, DomainEventOutbox eventOutbox, CaseSnapshotCache snapshotCache, CaseCommandLanes commandLanes) {
         this.caseRepository = caseRepository;
         this.invitationRepository = invitationRepository;
-        this.eventPublisher = eventPublisher;
+        this.caseEvaluationService = caseEvaluationService;
+        this.eventOutbox = eventOutbox;
+        this.snapshotCache = snapshotCache;
+        this.commandLanes = commandLanes;
     }
 
     /**
@@ -57,9 +70,11 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
      * @return an {@link Optional} containing the rejected invitation, if successful
      */
     @Override
-    @Transactional
     public Optional<Invitation> handle(RejectInvitationCommand command) {
-        return handleInvitation(command.invitationId(), command.lawyerId(), InvitationStatus.REJECTED);
+        var caseId = invitationRepository.findCaseIdById(command.invitationId())
+                .orElseThrow(() -> new IllegalArgumentException("Invitation not found"));
+
+        return commandLanes.execute(caseId, () -> handleInvitation(command.invitationId(), command.lawyerId(), InvitationStatus.REJECTED));
     }
 
     /**
@@ -71,9 +86,11 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
      * @return an {@link Optional} containing the accepted invitation, if successful
      */
     @Override
-    @Transactional
     public Optional<Invitation> handle(AcceptInvitationCommand command) {
-        return handleInvitation(command.invitationId(), command.lawyerId(), InvitationStatus.ACCEPTED);
+        var caseId = invitationRepository.findCaseIdById(command.invitationId())
+                .orElseThrow(() -> new IllegalArgumentException("Invitation not found"));
+
+        return commandLanes.execute(caseId, () -> handleInvitation(command.invitationId(), command.lawyerId(), InvitationStatus.ACCEPTED));
     }
 
     /**
@@ -85,40 +102,22 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
      * @return an {@link Optional} containing the created invitation, if successful
      */
     @Override
-    @Transactional
     public Optional<Invitation> handle(InviteLawyerCommand command) {
+        return commandLanes.execute(command.caseId(), () -> inviteLawyer(command));
+    }
 
-        // 1). Check if the case exists and is in the OPEN status
-        var maybeCase = caseRepository.findById(command.caseId())
-                .orElseThrow(() -> new RuntimeException("Case not found"));
-
-        // 2). If the case is not OPEN, throw an exception
-        if (maybeCase.getStatus() == CaseStatus.OPEN) {
-            maybeCase.evaluation();
-            caseRepository.save(maybeCase);
-        }
-
-        // 3). Check if the lawyer has already been invited to this case
-        var alreadyInvited = invitationRepository
-                .findByLawyerIdAndLegalCase_Id(command.lawyerId(), command.caseId());
-
-        // 4). If the lawyer has already been invited, throw an exception
-        if (alreadyInvited.isPresent())
-            throw new RuntimeException("Lawyer has already been invited to this case");
-
-        // 5). Create a new invitation and save it
-        var invitation = Invitation.create(maybeCase, command.lawyerId(), InvitationStatus.PENDING);
-        var saved = invitationRepository.save(invitation);
-
-        // 6). Publish an event indicating that a lawyer has been invited
-        eventPublisher.publishEvent(new LawyerInvitedEvent(
-                saved.getCaseId(),
-                saved.getId(),
-                saved.getClientId(),
-                saved.getLawyerId()
-        ));
-
-        return Optional.of(saved);
+    /**
+     * Handles the invitation of several lawyers to a case at once.
+     * Rejects cases that are neither OPEN nor in EVALUATION.
+     * Finds the lawyers already invited with a single query, skips them, moves the case to EVALUATION
+     * once if it is open, saves the new invitations together and records their events in one batch.
+     *
+     * @param command the command containing the case and the lawyers to invite
+     * @return the invitations created, in the order of the command
+     */
+    @Override
+    public List<Invitation> handle(InviteLawyersCommand command) {
+        return commandLanes.execute(command.caseId(), () -> inviteLawyers(command));
     }
 
     /**
@@ -145,7 +144,7 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
         var invitationCase = maybeInvitation.getLegalCase();
 
         // 4). Check if the case is in EVALUATION status
-        if (invitationCase.getStatus() != CaseStatus.EVALUATION)
+        if (invitationCase.getCurrentStatus() != CaseStatus.EVALUATION)
             throw new IllegalStateException("Invitations can only be accepted/rejected when case is in EVALUATION");
 
         // 5). Update the invitation status and save it
@@ -156,20 +155,18 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
         if (status == InvitationStatus.ACCEPTED) {
             invitationCase.accept(saved.getLawyerId());
             caseRepository.save(invitationCase);
+            snapshotCache.evict(invitationCase.getId());
 
-            eventPublisher.publishEvent(new InvitationAcceptedEvent(
+            eventOutbox.append(new InvitationAcceptedEvent(
                     saved.getCaseId(),
                     saved.getId(),
                     saved.getLawyerId()
             ));
         } else if (status == InvitationStatus.REJECTED) {
 
-            if (invitationCase.hasNoPendingInvitationsOrApplications()) {
-                invitationCase.reopen();
-                caseRepository.save(invitationCase);
-            }
+            caseEvaluationService.reopenIfNoPendingResponses(invitationCase);
 
-            eventPublisher.publishEvent(new InvitationRejectedEvent(
+            eventOutbox.append(new InvitationRejectedEvent(
                     saved.getCaseId(),
                     saved.getId(),
                     saved.getLawyerId()
@@ -178,4 +175,80 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
 
         return Optional.of(saved);
     }
+
+    private Optional<Invitation> inviteLawyer(InviteLawyerCommand command) {
+
+        // 1). Check if the case exists and is in the OPEN status
+        var maybeCase = caseRepository.findById(command.caseId())
+                .orElseThrow(() -> new RuntimeException("Case not found"));
+
+        // 2). If the case is not OPEN, throw an exception
+        if (maybeCase.getCurrentStatus() == CaseStatus.OPEN) {
+            maybeCase.evaluation();
+            caseRepository.save(maybeCase);
+            snapshotCache.evict(maybeCase.getId());
+        }
+
+        // 3). Check if the lawyer has already been invited to this case
+        var alreadyInvited = invitationRepository
+                .findByLawyerIdAndLegalCase_Id(command.lawyerId(), command.caseId());
+
+        // 4). If the lawyer has already been invited, throw an exception
+        if (alreadyInvited.isPresent())
+            throw new RuntimeException("Lawyer has already been invited to this case");
+
+        // 5). Create a new invitation and save it
+        var invitation = Invitation.create(maybeCase, command.lawyerId(), InvitationStatus.PENDING);
+        var saved = invitationRepository.save(invitation);
+
+        // 6). Publish an event indicating that a lawyer has been invited
+        eventOutbox.append(new LawyerInvitedEvent(
+                saved.getCaseId(),
+                saved.getId(),
+                saved.getClientId(),
+                saved.getLawyerId()
+        ));
+
+        return Optional.of(saved);
+    }
+
+    private List<Invitation> inviteLawyers(InviteLawyersCommand command) {
+
+        // 1). Check if the case exists and still takes invitations
+        var maybeCase = caseRepository.findById(command.caseId())
+                .orElseThrow(() -> new IllegalArgumentException("Case not found"));
+
+        if (maybeCase.getCurrentStatus() != CaseStatus.OPEN && maybeCase.getCurrentStatus() != CaseStatus.EVALUATION)
+            throw new IllegalStateException("Lawyers can only be invited when case is OPEN or in EVALUATION");
+
+        // 2). Skip the lawyers that have already been invited to this case
+        var alreadyInvited = new HashSet<>(invitationRepository.findInvitedLawyerIds(command.caseId(), command.lawyerIds()));
+        var invitations = command.lawyerIds().stream()
+                .filter(lawyerId -> !alreadyInvited.contains(lawyerId))
+                .map(lawyerId -> Invitation.create(maybeCase, lawyerId, InvitationStatus.PENDING))
+                .toList();
+        if (invitations.isEmpty())
+            return List.of();
+
+        // 3). If the case is OPEN, move it to EVALUATION once for the whole batch
+        if (maybeCase.getCurrentStatus() == CaseStatus.OPEN) {
+            maybeCase.evaluation();
+            caseRepository.save(maybeCase);
+            snapshotCache.evict(maybeCase.getId());
+        }
+
+        // 4). Save the new invitations together
+        var saved = invitationRepository.saveAll(invitations);
+
+        // 5). Record an event for each invited lawyer in one batch
+        eventOutbox.appendAll(saved.stream()
+                .map(invitation -> new LawyerInvitedEvent(
+                        invitation.getCaseId(),
+                        invitation.getId(),
+                        invitation.getClientId(),
+                        invitation.getLawyerId()))
+                .toList());
+
+        return saved;
+    }
 }
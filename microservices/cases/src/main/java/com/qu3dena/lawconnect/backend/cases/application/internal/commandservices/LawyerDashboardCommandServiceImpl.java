@@ -0,0 +1,88 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.projections.LawyerDashboardProjector;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RebuildLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RefreshLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardCommandService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.LawyerDashboardEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link LawyerDashboardCommandService}.
+ * <p>
+ * A rebuild refreshes every case on a fixed pool of workers, each case in its own transaction.
+ * Cases are independent rows of the read model, so they are projected in parallel; a case that
+ * fails is logged and left to the next event of that case or the next rebuild.
+ * </p>
+ */
+@Service
+public class LawyerDashboardCommandServiceImpl implements LawyerDashboardCommandService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LawyerDashboardCommandServiceImpl.class);
+
+    private final LawyerDashboardProjector projector;
+    private final CaseRepository caseRepository;
+    private final LawyerDashboardEntryRepository dashboardRepository;
+    private final int rebuildParallelism;
+
+    /**
+     * Constructs the service.
+     *
+     * @param projector           the projector writing the dashboard rows of a case
+     * @param caseRepository      the repository the cases to rebuild are listed from
+     * @param dashboardRepository the repository of the dashboard rows
+     * @param rebuildParallelism  the number of cases refreshed at once by a rebuild
+     */
+    public LawyerDashboardCommandServiceImpl(LawyerDashboardProjector projector,
+                                             CaseRepository caseRepository,
+                                             LawyerDashboardEntryRepository dashboardRepository,
+                                             @Value("${lawyers.dashboard.rebuild.parallelism:4}") int rebuildParallelism) {
+        this.projector = projector;
+        this.caseRepository = caseRepository;
+        this.dashboardRepository = dashboardRepository;
+        this.rebuildParallelism = Math.max(1, rebuildParallelism);
+    }
+
+    @Override
+    public int handle(RefreshLawyerDashboardCommand command) {
+        return projector.refresh(command.caseId());
+    }
+
+    @Override
+    public int handle(RebuildLawyerDashboardCommand command) {
+        if (command.onlyIfEmpty() && dashboardRepository.count() > 0)
+            return 0;
+
+        var caseIds = caseRepository.findAllIds();
+        var refreshed = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(rebuildParallelism);
+        try {
+            var tasks = new ArrayList<CompletableFuture<Void>>(caseIds.size());
+            for (var caseId : caseIds) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        projector.refresh(caseId);
+                        refreshed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Lawyer dashboard rebuild skipped case {}", caseId, e);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        LOGGER.info("Rebuilt the lawyer dashboard of {} of {} cases", refreshed.get(), caseIds.size());
+        return refreshed.get();
+    }
+}
@@ -1,34 +1,94 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MarkMessagesReadCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RecountUnreadMessagesCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.UnreadCountDrift;
 import com.qu3dena.lawconnect.backend.cases.domain.services.MessageCommandService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseUnreadCounterRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 @Service
-@Transactional
 public class MessageCommandServiceImpl implements MessageCommandService {
 
     private final CaseMessageRepository messageRepository;
+    private final CaseRepository caseRepository;
+    private final CaseUnreadCounterRepository unreadCounterRepository;
+    private final CaseMessageBatchWriter batchWriter;
+    private final CaseMessageGroupCommitter groupCommitter;
 
-    public MessageCommandServiceImpl(CaseMessageRepository messageRepository) {
+    public MessageCommandServiceImpl(CaseMessageRepository messageRepository,
+                                     CaseRepository caseRepository,
+                                     CaseUnreadCounterRepository unreadCounterRepository,
+                                     CaseMessageBatchWriter batchWriter,
+                                     CaseMessageGroupCommitter groupCommitter) {
         this.messageRepository = messageRepository;
+        this.caseRepository = caseRepository;
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.batchWriter = batchWriter;
+        this.groupCommitter = groupCommitter;
     }
 
+    /**
+     * Saves a message, sharing its transaction with concurrent sends when group commit is enabled.
+     * Not transactional itself, so no connection is held while the message waits for its batch.
+     */
     @Override
     public Optional<CaseMessage> handle(SendMessageCommand command) {
-        var message = new CaseMessage(
-                command.caseId(),
-                command.senderId(),
-                command.content()
-        );
-
-        var saved = messageRepository.save(message);
-        return Optional.of(saved);
+        if (groupCommitter.isRunning())
+            return Optional.of(groupCommitter.submit(command));
+
+        return Optional.of(batchWriter.write(List.of(command)).get(0));
     }
-}
 
+    @Override
+    @Transactional
+    public int handle(MarkMessagesReadCommand command) {
+        var participants = caseRepository.findParticipantsById(command.caseId())
+                .orElseThrow(() -> new IllegalArgumentException("Case not found"));
+
+        if (!command.readerId().equals(participants.clientId()) && !command.readerId().equals(participants.assignedLawyerId()))
+            throw new IllegalArgumentException("Reader is not a participant of the case");
+
+        var upTo = messageRepository.findById(command.upToMessageId())
+                .filter(message -> message.getCaseId().equals(command.caseId()))
+                .orElseThrow(() -> new IllegalArgumentException("Message not found"));
+
+        int marked = messageRepository.markReadUpTo(command.caseId(), command.readerId(),
+                upTo.getSequenceNumber(), upTo.getCreatedAt(), upTo.getId());
+        if (marked > 0)
+            unreadCounterRepository.decrement(command.readerId(), command.caseId(), marked);
+
+        return marked;
+    }
+
+    /**
+     * Corrects each drifted counter by its difference instead of overwriting it. The differences come from
+     * one consistent read of messages and counters, and a send or read changes both in one transaction, so
+     * the changes committed after that read are kept on top of the correction.
+     */
+    @Override
+    @Transactional
+    public int handle(RecountUnreadMessagesCommand command) {
+        var drifts = new ArrayList<>(unreadCounterRepository.findDrifts());
+
+        // Taken in the order message batches take counter rows, so the two cannot deadlock
+        drifts.sort(Comparator.comparing(UnreadCountDrift::getUserId).thenComparing(UnreadCountDrift::getCaseId));
+        for (var drift : drifts) {
+            if (drift.getDelta() > 0)
+                unreadCounterRepository.increment(drift.getUserId(), drift.getCaseId(), drift.getDelta());
+            else
+                unreadCounterRepository.decrement(drift.getUserId(), drift.getCaseId(), -drift.getDelta());
+        }
+        return drifts.size();
+    }
+}
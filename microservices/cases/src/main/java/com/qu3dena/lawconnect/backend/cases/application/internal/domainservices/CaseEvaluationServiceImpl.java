@@ -0,0 +1,64 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.domainservices;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
+import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseEvaluationService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.ApplicationRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation of the {@link CaseEvaluationService} interface.
+ * </p>
+ * Pending responses are checked with existence queries on the invitations and applications
+ * tables, so the {@code invitations} and {@code applications} collections of the case are
+ * never loaded.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+@Service
+public class CaseEvaluationServiceImpl implements CaseEvaluationService {
+
+    private final CaseRepository caseRepository;
+    private final InvitationRepository invitationRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CaseSnapshotCache snapshotCache;
+
+    /**
+     * Constructs an instance of {@link CaseEvaluationServiceImpl}.
+     *
+     * @param caseRepository        the repository for managing legal cases
+     * @param invitationRepository  the repository for managing invitations
+     * @param applicationRepository the repository for managing applications
+     * @param snapshotCache         the cache of case snapshots, evicted when a case reopens
+     */
+    public CaseEvaluationServiceImpl(CaseRepository caseRepository, InvitationRepository invitationRepository, ApplicationRepository applicationRepository, CaseSnapshotCache snapshotCache) {
+        this.caseRepository = caseRepository;
+        this.invitationRepository = invitationRepository;
+        this.applicationRepository = applicationRepository;
+        this.snapshotCache = snapshotCache;
+    }
+
+    @Override
+    public boolean hasPendingResponses(CaseAggregate legalCase) {
+        var caseId = legalCase.getId();
+
+        return invitationRepository.existsByLegalCase_IdAndStatus(caseId, InvitationStatus.PENDING)
+                || applicationRepository.existsByLegalCase_IdAndStatus(caseId, ApplicationStatus.SUBMITTED);
+    }
+
+    @Override
+    public boolean reopenIfNoPendingResponses(CaseAggregate legalCase) {
+        if (hasPendingResponses(legalCase))
+            return false;
+
+        legalCase.reopen();
+        caseRepository.save(legalCase);
+        snapshotCache.evict(legalCase.getId());
+        return true;
+    }
+}
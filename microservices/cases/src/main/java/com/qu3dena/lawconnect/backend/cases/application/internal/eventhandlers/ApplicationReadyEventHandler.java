@@ -0,0 +1,138 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.eventhandlers;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.BackfillDocumentContentReferencesCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MigrateDocumentContentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RebuildLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RecountUnreadMessagesCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentCommandService;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardCommandService;
+import com.qu3dena.lawconnect.backend.cases.domain.services.MessageCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+
+/**
+ * Event handler that brings stored data up to date when the application is ready.
+ * <p>
+ * Listens for the {@link ApplicationReadyEvent} and first creates the reference counts missing for content
+ * stored before documents were deduplicated, so the orphan sweep never removes content still referenced.
+ * It then migrates legacy {@code file_content} blobs into the document content store in batches, each batch
+ * in its own transaction, until none is left.
+ * </p>
+ * <p>
+ * Recounting the unread message counters and building the lawyer dashboard read model when it is still
+ * empty each read whole tables, so they run on a background thread and do not hold up readiness; both
+ * are corrected incrementally by the commands running meanwhile.
+ * </p>
+ *
+ * @author LawConnect Team
+ * @since 1.0.0
+ */
+@Service(value = "CasesApplicationReadyEventHandler")
+public class ApplicationReadyEventHandler {
+
+    private final DocumentCommandService documentCommandService;
+    private final MessageCommandService messageCommandService;
+    private final LawyerDashboardCommandService dashboardCommandService;
+    private final boolean migrationEnabled;
+    private final int migrationBatchSize;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationReadyEventHandler.class);
+
+    /**
+     * Constructs the event handler.
+     *
+     * @param documentCommandService  the service used to backfill reference counts and migrate document contents
+     * @param messageCommandService   the service used to recount unread messages
+     * @param dashboardCommandService the service used to build the lawyer dashboard read model
+     * @param migrationEnabled        whether the migration runs on startup
+     * @param migrationBatchSize      the number of documents migrated per transaction
+     */
+    public ApplicationReadyEventHandler(
+            DocumentCommandService documentCommandService,
+            MessageCommandService messageCommandService,
+            LawyerDashboardCommandService dashboardCommandService,
+            @Value("${documents.storage.migration.enabled:true}") boolean migrationEnabled,
+            @Value("${documents.storage.migration.batch-size:10}") int migrationBatchSize) {
+        this.documentCommandService = documentCommandService;
+        this.messageCommandService = messageCommandService;
+        this.dashboardCommandService = dashboardCommandService;
+        this.migrationEnabled = migrationEnabled;
+        this.migrationBatchSize = migrationBatchSize;
+    }
+
+    /**
+     * Handles the {@link ApplicationReadyEvent} by backfilling reference counts, starting the read model
+     * rebuilds in the background and migrating inline document contents if needed.
+     * <p>
+     * Logs the start and end of the migration process.
+     * </p>
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        var applicationName = event.getApplicationContext().getId();
+
+        try {
+            int backfilled = documentCommandService.handle(new BackfillDocumentContentReferencesCommand());
+            if (backfilled > 0)
+                LOGGER.info("Created {} document content reference counts for {}", backfilled, applicationName);
+        } catch (RuntimeException e) {
+            LOGGER.error("Document content reference counts backfill failed, it is retried on next startup", e);
+        }
+
+        var rebuild = new Thread(this::rebuildReadModels, "cases-read-model-rebuild");
+        rebuild.setDaemon(true);
+        rebuild.start();
+
+        if (!migrationEnabled)
+            return;
+
+        LOGGER.info("Starting to migrate inline document contents for {} at {}", applicationName, currentTimestamp());
+
+        var command = new MigrateDocumentContentsCommand(migrationBatchSize);
+        int migrated = 0;
+        try {
+            int batch;
+            while ((batch = documentCommandService.handle(command)) > 0)
+                migrated += batch;
+        } catch (RuntimeException e) {
+            LOGGER.error("Inline document contents migration stopped after {} documents, it resumes on next startup", migrated, e);
+            return;
+        }
+
+        LOGGER.info("Migrated {} inline document contents for {} at {}", migrated, applicationName, currentTimestamp());
+    }
+
+    /**
+     * Recounts the unread message counters, then builds the lawyer dashboard read model if it is empty.
+     * Each step fails on its own, leaving the other to run.
+     */
+    private void rebuildReadModels() {
+        try {
+            messageCommandService.handle(new RecountUnreadMessagesCommand());
+        } catch (RuntimeException e) {
+            LOGGER.error("Unread message counters recount failed, counters keep their previous values", e);
+        }
+
+        try {
+            dashboardCommandService.handle(new RebuildLawyerDashboardCommand(true));
+        } catch (RuntimeException e) {
+            LOGGER.error("Lawyer dashboard build failed, it is retried on next startup", e);
+        }
+    }
+
+    /**
+     * Returns the current timestamp.
+     *
+     * @return the current {@link Timestamp}
+     */
+    private Timestamp currentTimestamp() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
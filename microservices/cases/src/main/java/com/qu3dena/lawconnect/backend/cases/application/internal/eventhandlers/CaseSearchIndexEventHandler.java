@@ -0,0 +1,61 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.eventhandlers;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.projections.CaseSearchProjector;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseDomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler that keeps the case search index up to date.
+ * <p>
+ * Loads the index from the cases table once the application is ready, then refreshes a case whenever one of
+ * its domain events, such as {@code CaseCreatedEvent}, {@code CaseClosedEvent} or {@code CaseCanceledEvent},
+ * is dispatched from the outbox. Every event refreshes the case, since invitations and applications move its
+ * status too, which searches can filter on.
+ * </p>
+ */
+@Service
+public class CaseSearchIndexEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseSearchIndexEventHandler.class);
+
+    private final CaseSearchProjector searchProjector;
+
+    /**
+     * Constructs the event handler.
+     *
+     * @param searchProjector the projector writing cases to the search index
+     */
+    public CaseSearchIndexEventHandler(CaseSearchProjector searchProjector) {
+        this.searchProjector = searchProjector;
+    }
+
+    /**
+     * Handles the {@link ApplicationReadyEvent} by loading every case into the search index.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        try {
+            long start = System.nanoTime();
+            int loaded = searchProjector.load();
+            LOGGER.info("Indexed {} cases for search in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            LOGGER.error("Case search index load failed, searches only find cases changed since startup", e);
+        }
+    }
+
+    /**
+     * Handles a domain event of a case by refreshing the case in the search index.
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    public void on(CaseDomainEvent event) {
+        searchProjector.refresh(event.caseId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.eventhandlers;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RefreshLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseDomainEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardCommandService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler that keeps the lawyer dashboard read model up to date.
+ * <p>
+ * Listens for the domain events of cases, such as {@code LawyerInvitedEvent}, {@code InvitationAcceptedEvent},
+ * {@code ApplicationAcceptedEvent} or {@code CaseClosedEvent}, as they are dispatched from the outbox, and
+ * refreshes the dashboard rows of the case. A failed refresh fails the dispatch, so the outbox retries it.
+ * </p>
+ */
+@Service
+public class LawyerDashboardEventHandler {
+
+    private final LawyerDashboardCommandService dashboardCommandService;
+
+    /**
+     * Constructs the event handler.
+     *
+     * @param dashboardCommandService the service refreshing the dashboard rows of a case
+     */
+    public LawyerDashboardEventHandler(LawyerDashboardCommandService dashboardCommandService) {
+        this.dashboardCommandService = dashboardCommandService;
+    }
+
+    /**
+     * Handles a domain event of a case by refreshing the dashboard rows of the case.
+     *
+     * @param event the domain event
+     */
+    @EventListener
+    public void on(CaseDomainEvent event) {
+        dashboardCommandService.handle(new RefreshLawyerDashboardCommand(event.caseId()));
+    }
+}
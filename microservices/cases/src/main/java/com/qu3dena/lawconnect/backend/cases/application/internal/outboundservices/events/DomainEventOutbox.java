@@ -0,0 +1,218 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.OutboxEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseDomainEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.OutboxEventStatus;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.OutboxSequenceRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for the domain events of cases.
+ * <p>
+ * Command handlers {@link #append(CaseDomainEvent) append} events inside their own transaction instead of
+ * publishing them, so a command returns as soon as it commits and no event is lost or published for a
+ * change that rolled back. The {@code OutboxDispatchScheduler} later publishes the recorded events to the
+ * application's listeners. Delivery is at least once: an event whose dispatch was not recorded is published again.
+ * </p>
+ * <p>
+ * Each event is numbered within its case from a per-case sequence that its transaction keeps locked until it
+ * commits, so a transaction appending events to the same case waits for the previous one, and the events of a
+ * case are numbered, and dispatched, in commit order.
+ * </p>
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainEventOutbox.class);
+    private static final String EVENTS_PACKAGE = CaseDomainEvent.class.getPackageName() + ".";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSequenceRepository outboxSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * Constructs the outbox.
+     *
+     * @param outboxEventRepository    the repository of recorded events
+     * @param outboxSequenceRepository the repository of the per-case event sequences
+     * @param eventPublisher           the publisher the recorded events are dispatched to
+     * @param objectMapper             the mapper serializing event payloads
+     * @param maxAttempts              how many times an event is dispatched before it is given up
+     * @param initialBackoff           the delay before the first retry, doubled on each further failure
+     * @param maxBackoff               the longest delay between retries
+     */
+    public DomainEventOutbox(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSequenceRepository outboxSequenceRepository,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${outbox.dispatch.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.dispatch.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${outbox.dispatch.max-backoff:PT5M}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSequenceRepository = outboxSequenceRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Records an event in the transaction of the change that raised it.
+     *
+     * @param event the event to deliver once the transaction commits
+     * @throws IllegalStateException if the event cannot be serialized
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(CaseDomainEvent event) {
+        var payload = serialize(event);
+        long sequenceNumber = reserveSequenceNumbers(event.caseId(), 1);
+        outboxEventRepository.save(new OutboxEvent(event.caseId(), sequenceNumber, event.getClass().getName(), payload));
+    }
+
+    /**
+     * Records several events in the transaction of the change that raised them, in one batch.
+     *
+     * @param events the events to deliver once the transaction commits, in order
+     * @throws IllegalStateException if an event cannot be serialized
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void appendAll(Collection<? extends CaseDomainEvent> events) {
+        var payloads = new ArrayList<String>(events.size());
+        var eventsByCase = new LinkedHashMap<UUID, Long>();
+        for (var event : events) {
+            payloads.add(serialize(event));
+            eventsByCase.merge(event.caseId(), 1L, Long::sum);
+        }
+
+        // One reservation per case, numbering its events consecutively in the given order
+        var nextSequenceNumbers = new HashMap<UUID, Long>();
+        eventsByCase.forEach((caseId, count) -> nextSequenceNumbers.put(caseId, reserveSequenceNumbers(caseId, count)));
+
+        var outboxEvents = new ArrayList<OutboxEvent>(events.size());
+        int i = 0;
+        for (var event : events) {
+            long sequenceNumber = nextSequenceNumbers.merge(event.caseId(), 1L, Long::sum) - 1;
+            outboxEvents.add(new OutboxEvent(event.caseId(), sequenceNumber, event.getClass().getName(), payloads.get(i++)));
+        }
+        outboxEventRepository.saveAll(outboxEvents);
+    }
+
+    /**
+     * Finds the events that can be dispatched now, each case in commit order.
+     *
+     * @param batchSize the most events returned
+     * @return the due events grouped by case, without events whose case has an earlier event waiting for a retry
+     */
+    public List<OutboxEvent> findDispatchable(int batchSize) {
+        return outboxEventRepository.findDispatchable(OutboxEventStatus.PENDING, Instant.now(), PageRequest.ofSize(batchSize));
+    }
+
+    /**
+     * Publishes a recorded event to the application's listeners, outside any transaction.
+     *
+     * @param outboxEvent the recorded event
+     * @throws RuntimeException if the event cannot be read or a listener fails
+     */
+    public void publish(OutboxEvent outboxEvent) {
+        if (!outboxEvent.getEventType().startsWith(EVENTS_PACKAGE))
+            throw new IllegalStateException("Unknown event type " + outboxEvent.getEventType());
+
+        try {
+            var type = Class.forName(outboxEvent.getEventType());
+            eventPublisher.publishEvent(objectMapper.readValue(outboxEvent.getPayload(), type));
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not read event " + outboxEvent.getId(), e);
+        }
+    }
+
+    /**
+     * Records that events were published.
+     *
+     * @param ids the identifiers of the published events
+     */
+    @Transactional
+    public void markDispatched(Collection<Long> ids) {
+        outboxEventRepository.markDispatched(ids, OutboxEventStatus.DISPATCHED, Instant.now());
+    }
+
+    /**
+     * Records a failed dispatch and schedules the next attempt, or gives the event up after the last one.
+     *
+     * @param outboxEvent the event that failed
+     * @param error       the failure
+     */
+    @Transactional
+    public void recordFailure(OutboxEvent outboxEvent, RuntimeException error) {
+        int attempts = outboxEvent.getAttempts() + 1;
+        var message = String.valueOf(error.getMessage());
+        if (message.length() > MAX_ERROR_LENGTH)
+            message = message.substring(0, MAX_ERROR_LENGTH);
+
+        if (attempts >= maxAttempts) {
+            LOGGER.error("Giving up event {} of case {} after {} attempts", outboxEvent.getId(), outboxEvent.getAggregateId(), attempts, error);
+            outboxEventRepository.recordFailure(outboxEvent.getId(), OutboxEventStatus.FAILED, attempts, outboxEvent.getNextAttemptAt(), message);
+            return;
+        }
+
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0)
+            backoff = maxBackoff;
+
+        LOGGER.warn("Dispatch of event {} of case {} failed, retrying in {}", outboxEvent.getId(), outboxEvent.getAggregateId(), backoff, error);
+        outboxEventRepository.recordFailure(outboxEvent.getId(), OutboxEventStatus.PENDING, attempts, Instant.now().plus(backoff), message);
+    }
+
+    /**
+     * Reserves consecutive sequence numbers for the events of a case.
+     *
+     * @return the first reserved sequence number
+     */
+    private long reserveSequenceNumbers(UUID caseId, long count) {
+        outboxSequenceRepository.reserve(caseId, count);
+        return outboxSequenceRepository.findLastSequenceNumber(caseId) - count + 1;
+    }
+
+    private String serialize(CaseDomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not record event " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deletes the events dispatched before the given instant.
+     *
+     * @param before the retention limit
+     * @return the number of deleted events
+     */
+    @Transactional
+    public int deleteDispatchedBefore(Instant before) {
+        return outboxEventRepository.deleteDispatchedBefore(OutboxEventStatus.DISPATCHED, before);
+    }
+}
@@ -0,0 +1,41 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+
+import java.util.List;
+
+/**
+ * CaseSearchIndex
+ * <p>
+ *     Interface for the full-text index of the titles and descriptions of cases.
+ *     The index only ranks cases; the cases themselves are read from the database.
+ * </p>
+ */
+public interface CaseSearchIndex {
+
+    /**
+     * Add a case to the index, or bring an indexed case up to date.
+     * A summary older than the indexed one, by its update timestamp, is ignored.
+     * @param legalCase the summary of the case
+     */
+    void index(CaseSummaryView legalCase);
+
+    /**
+     * Find the cases matching any word of a text, ordered by descending relevance and then by identifier.
+     * @param text the words to search for
+     * @param status the status to restrict the results to, or {@code null} for any status
+     * @param specialtyId the specialty to restrict the results to, or {@code null} for any specialty
+     * @param after the position to return the results after, or {@code null} to start with the most relevant
+     * @param limit the maximum number of matches to return
+     * @return the matching cases
+     */
+    List<CaseSearchMatch> search(String text, CaseStatus status, Long specialtyId, CaseSearchCursor after, int limit);
+
+    /**
+     * Count the indexed cases.
+     * @return the number of cases in the index
+     */
+    int size();
+}
@@ -0,0 +1,23 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+
+import java.util.UUID;
+
+/**
+ * A case matching a search of the {@link CaseSearchIndex}.
+ *
+ * @param caseId the unique identifier of the case
+ * @param score  the relevance of the case to the search, higher is more relevant
+ */
+public record CaseSearchMatch(UUID caseId, float score) {
+
+    /**
+     * Returns the position of this match in the results.
+     *
+     * @return the cursor pointing at this match
+     */
+    public CaseSearchCursor cursor() {
+        return new CaseSearchCursor(score, caseId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * OpenCaseSpecialtyIndex
+ * <p>
+ *     Interface for the index of the open cases of each specialty.
+ *     Cases are kept by their {@code (createdAt, id)} keyset position, so the open cases of several
+ *     specialties can be listed newest first, from any cursor, without reading the cases table.
+ * </p>
+ */
+public interface OpenCaseSpecialtyIndex {
+
+    /**
+     * Add a case that is open and has a specialty, or remove it otherwise.
+     * The summary is expected to be the current state of the case, as read after its latest change.
+     * @param legalCase the current summary of the case
+     */
+    void index(CaseSummaryView legalCase);
+
+    /**
+     * Start loading the index from a snapshot of the cases table.
+     * Until {@link #endLoad()}, cases applied through {@link #index(CaseSummaryView)} are remembered,
+     * so an older snapshot row cannot undo them.
+     */
+    void beginLoad();
+
+    /**
+     * Apply a case read from the snapshot of the cases table.
+     * @param legalCase the summary of the case as read by the load
+     */
+    void load(CaseSummaryView legalCase);
+
+    /**
+     * Finish loading the index.
+     */
+    void endLoad();
+
+    /**
+     * List the positions of the open cases of some specialties, newest first.
+     * @param specialtyIds the specialties of the cases
+     * @param after the position to list the cases after, or {@code null} to start with the newest
+     * @return a lazy iterator over the positions, whose {@code id} is the case identifier
+     */
+    Iterator<KeysetCursor> newestFirst(Collection<Long> specialtyIds, KeysetCursor after);
+
+    /**
+     * Count the indexed open cases.
+     * @return the number of open cases with a specialty
+     */
+    int size();
+}
@@ -0,0 +1,52 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Decides, by media type, which codec new document content is stored with.
+ * <p>
+ * Only formats that are not compressed already are worth deflating: legacy Word documents, text and
+ * uncompressed images. PDF, JPEG, PNG and Office Open XML files (which are ZIP archives) are stored as uploaded.
+ * </p>
+ */
+@Component
+public class DocumentCompressionPolicy {
+
+    private final boolean enabled;
+    private final List<MediaType> compressibleTypes;
+
+    public DocumentCompressionPolicy(
+            @Value("${documents.storage.compression.enabled:true}") boolean enabled,
+            @Value("${documents.storage.compression.content-types:application/msword,application/rtf,text/*,image/bmp,image/tiff,image/svg+xml}") List<String> compressibleTypes) {
+        this.enabled = enabled;
+        this.compressibleTypes = compressibleTypes.stream().map(MediaType::parseMediaType).toList();
+    }
+
+    /**
+     * Returns the codec to store content of the given media type with.
+     *
+     * @param contentType the media type of the content; may be {@code null} or malformed
+     * @return {@link DocumentContentCodec#DEFLATE} for compressible media types, {@link DocumentContentCodec#IDENTITY} otherwise
+     */
+    public DocumentContentCodec codecFor(String contentType) {
+        if (!enabled || contentType == null)
+            return DocumentContentCodec.IDENTITY;
+
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return DocumentContentCodec.IDENTITY;
+        }
+
+        return compressibleTypes.stream().anyMatch(type -> type.includes(mediaType))
+                ? DocumentContentCodec.DEFLATE
+                : DocumentContentCodec.IDENTITY;
+    }
+}
@@ -0,0 +1,73 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * DocumentContentStore
+ * <p>
+ *     Interface for the store holding the binary content of case documents.
+ *     Content is addressed by its SHA-256 digest, so the same bytes are kept only once
+ *     and the {@code documents} table only needs to record the digest and the size.
+ * </p>
+ */
+public interface DocumentContentStore {
+
+    /**
+     * Store content read from a stream, computing its digest and size while it is written.
+     * The stream is read once and is not closed.
+     * @param content the content to store
+     * @return the reference to the stored content
+     * @throws java.io.UncheckedIOException if the content cannot be read or written
+     */
+    default StoredContent store(InputStream content) {
+        return store(content, DocumentContentCodec.IDENTITY);
+    }
+
+    /**
+     * Store content read from a stream, encoding it with the given codec while it is written.
+     * The digest and the size are computed over the original bytes. When the same content is already
+     * stored, the existing copy is kept whatever its codec; otherwise the new copy is kept with the given codec.
+     * @param content the content to store
+     * @param codec the codec to encode new content with
+     * @return the reference to the stored content, with the codec it is actually kept in
+     * @throws java.io.UncheckedIOException if the content cannot be read or written
+     */
+    StoredContent store(InputStream content, DocumentContentCodec codec);
+
+    /**
+     * Load stored content kept without encoding.
+     * @param contentHash the digest of the content
+     * @return the content as a resource, or empty if nothing is stored under the digest
+     */
+    default Optional<Resource> load(String contentHash) {
+        return load(contentHash, DocumentContentCodec.IDENTITY);
+    }
+
+    /**
+     * Load stored content as it is kept, that is, still encoded with the given codec. Concurrent uploads of
+     * the same bytes with different codecs may each keep a copy, so the codec must be the one recorded when
+     * the content was stored.
+     * @param contentHash the digest of the content
+     * @param codec the codec recorded for the content
+     * @return the content as a resource, or empty if nothing is stored under the digest with that codec
+     */
+    Optional<Resource> load(String contentHash, DocumentContentCodec codec);
+
+    /**
+     * Check whether content is stored.
+     * @param contentHash the digest of the content
+     * @return true if content is stored under the digest, false otherwise
+     */
+    boolean exists(String contentHash);
+
+    /**
+     * Delete stored content. Deleting missing content is a no-op.
+     * @param contentHash the digest of the content
+     * @throws java.io.UncheckedIOException if the content cannot be deleted
+     */
+    void delete(String contentHash);
+}
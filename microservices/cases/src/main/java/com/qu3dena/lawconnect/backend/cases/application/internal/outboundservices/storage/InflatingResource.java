@@ -0,0 +1,67 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Resource exposing the original bytes of deflated content kept by a {@link DocumentContentStore}.
+ * <p>
+ * The content is inflated while it is read, so it is never expanded in memory. The original size is
+ * known up front, which lets callers announce a {@code Content-Length} and serve byte ranges.
+ * </p>
+ */
+public class InflatingResource extends AbstractResource {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Resource deflated;
+    private final long size;
+
+    /**
+     * @param deflated the deflated content
+     * @param size     the size of the original content in bytes
+     */
+    public InflatingResource(Resource deflated, long size) {
+        this.deflated = deflated;
+        this.size = size;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new InflaterInputStream(deflated.getInputStream(), new Inflater(), BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        };
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public boolean exists() {
+        return deflated.exists();
+    }
+
+    @Override
+    public String getFilename() {
+        return deflated.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Inflated " + deflated.getDescription();
+    }
+}
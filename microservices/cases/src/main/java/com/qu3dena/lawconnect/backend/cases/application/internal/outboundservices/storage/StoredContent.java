@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+
+/**
+ * Reference to content held by a {@link DocumentContentStore}.
+ *
+ * @param contentHash the lowercase hex SHA-256 digest of the content, which is also its storage key
+ * @param size        the size of the original content in bytes
+ * @param codec       the codec the content is kept in
+ */
+public record StoredContent(String contentHash, long size, DocumentContentCodec codec) {
+}
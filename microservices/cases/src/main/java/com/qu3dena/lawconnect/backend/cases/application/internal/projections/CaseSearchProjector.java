@@ -0,0 +1,85 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.projections;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchIndex;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.OpenCaseSpecialtyIndex;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Projects cases into the {@link CaseSearchIndex} and the {@link OpenCaseSpecialtyIndex}.
+ * <p>
+ * Both indexes live in memory, so they are loaded from the cases table when the service starts and then
+ * kept up to date case by case as their domain events are dispatched.
+ * </p>
+ */
+@Component
+public class CaseSearchProjector {
+
+    private final CaseRepository caseRepository;
+    private final CaseSearchIndex searchIndex;
+    private final OpenCaseSpecialtyIndex specialtyIndex;
+    private final int loadBatchSize;
+
+    /**
+     * Constructs the projector.
+     *
+     * @param caseRepository the repository the cases are read from
+     * @param searchIndex    the full-text index the cases are written to
+     * @param specialtyIndex the index of the open cases of each specialty
+     * @param loadBatchSize  the number of cases read per query while loading the indexes
+     */
+    public CaseSearchProjector(CaseRepository caseRepository,
+                               CaseSearchIndex searchIndex,
+                               OpenCaseSpecialtyIndex specialtyIndex,
+                               @Value("${cases.search.load-batch-size:1000}") int loadBatchSize) {
+        this.caseRepository = caseRepository;
+        this.searchIndex = searchIndex;
+        this.specialtyIndex = specialtyIndex;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    /**
+     * Brings a case up to date in the indexes.
+     *
+     * @param caseId the unique identifier of the case
+     */
+    public void refresh(UUID caseId) {
+        caseRepository.findSummaryById(caseId).ifPresent(legalCase -> {
+            searchIndex.index(legalCase);
+            specialtyIndex.index(legalCase);
+        });
+    }
+
+    /**
+     * Indexes every case, walking the cases table in keyset pages.
+     *
+     * @return the number of cases read
+     */
+    public int load() {
+        specialtyIndex.beginLoad();
+        try {
+            var page = PageRequest.ofSize(loadBatchSize);
+            var batch = caseRepository.findFirstPage(page);
+            int loaded = 0;
+            while (true) {
+                for (var legalCase : batch) {
+                    searchIndex.index(legalCase);
+                    specialtyIndex.load(legalCase);
+                }
+                loaded += batch.size();
+                if (batch.size() < loadBatchSize)
+                    return loaded;
+
+                var last = batch.get(batch.size() - 1);
+                batch = caseRepository.findPageAfter(Timestamp.from(last.createdAt().toInstant()), last.id(), page);
+            }
+        } finally {
+            specialtyIndex.endLoad();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Application;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.LawyerDashboardEntry;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CommentType;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.ApplicationRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CommentRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.LawyerDashboardEntryRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Projects a case into the lawyer dashboard read model.
+ * <p>
+ * A refresh recomputes every dashboard row of one case from the current state of the case, so it is
+ * idempotent: replaying an event, receiving events twice or refreshing a case that did not change
+ * leaves the same rows. Rows of lawyers no longer related to the case are removed.
+ * </p>
+ */
+@Component
+public class LawyerDashboardProjector {
+
+    private final CaseRepository caseRepository;
+    private final InvitationRepository invitationRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CommentRepository commentRepository;
+    private final LawyerDashboardEntryRepository dashboardRepository;
+
+    public LawyerDashboardProjector(CaseRepository caseRepository,
+                                    InvitationRepository invitationRepository,
+                                    ApplicationRepository applicationRepository,
+                                    CommentRepository commentRepository,
+                                    LawyerDashboardEntryRepository dashboardRepository) {
+        this.caseRepository = caseRepository;
+        this.invitationRepository = invitationRepository;
+        this.applicationRepository = applicationRepository;
+        this.commentRepository = commentRepository;
+        this.dashboardRepository = dashboardRepository;
+    }
+
+    /**
+     * Brings the dashboard rows of a case up to date.
+     *
+     * @param caseId the unique identifier of the case
+     * @return the number of rows kept for the case
+     */
+    @Transactional
+    public int refresh(UUID caseId) {
+        var existing = dashboardRepository.findByCaseId(caseId).stream()
+                .collect(Collectors.toMap(LawyerDashboardEntry::getLawyerId, Function.identity()));
+
+        var legalCase = caseRepository.findById(caseId).orElse(null);
+        if (legalCase == null) {
+            dashboardRepository.deleteAll(existing.values());
+            return 0;
+        }
+
+        // 1). Keep the latest invitation and application of each lawyer
+        Map<UUID, Invitation> invitations = invitationRepository.findByLegalCase_Id(caseId).stream()
+                .collect(Collectors.toMap(Invitation::getLawyerId, Function.identity(),
+                        latest(Comparator.comparing(Invitation::getId))));
+        Map<UUID, Application> applications = applicationRepository.findByLegalCase_Id(caseId).stream()
+                .collect(Collectors.toMap(Application::getLawyerId, Function.identity(),
+                        latest(Comparator.comparing(Application::getId))));
+        var finalComment = commentRepository
+                .findFirstByLegalCase_IdAndTypeOrderByCreatedAtDescIdDesc(caseId, CommentType.FINAL_REVIEW)
+                .orElse(null);
+
+        // 2). Every lawyer related to the case gets a row
+        var lawyerIds = new LinkedHashSet<UUID>();
+        if (legalCase.getAssignedLawyerId() != null)
+            lawyerIds.add(legalCase.getAssignedLawyerId());
+        lawyerIds.addAll(invitations.keySet());
+        lawyerIds.addAll(applications.keySet());
+
+        var stale = new HashMap<>(existing);
+        var entries = new ArrayList<LawyerDashboardEntry>(lawyerIds.size());
+        for (var lawyerId : lawyerIds) {
+            var entry = stale.remove(lawyerId);
+            if (entry == null)
+                entry = new LawyerDashboardEntry(lawyerId, caseId);
+            entry.refresh(legalCase, invitations.get(lawyerId), applications.get(lawyerId), finalComment);
+            entries.add(entry);
+        }
+
+        // 3). Drop the rows of lawyers that are no longer related to the case
+        dashboardRepository.deleteAll(stale.values());
+        dashboardRepository.saveAll(entries);
+        return entries.size();
+    }
+
+    private static <T> BinaryOperator<T> latest(Comparator<T> order) {
+        return (a, b) -> order.compare(a, b) >= 0 ? a : b;
+    }
+}
@@ -1,23 +1,25 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Application;
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.OpenCaseSpecialtyIndex;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.*;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.services.CaseQueryService;
-import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.ApplicationRepository;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
-import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.CursorPage;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
  * Service implementation of the {@code CaseQueryService} interface.
- * Handles queries related to cases using repositories for cases, invitations, and applications.
+ * Handles queries related to cases using the case repository.
  *
  * @author LawConnect Team
  * @since 1.0
@@ -26,109 +28,166 @@ import java.util.stream.Collectors;
 public class CaseQueryServiceImpl implements CaseQueryService {
 
     private final CaseRepository caseRepository;
-    private final InvitationRepository invitationRepository;
-    private final ApplicationRepository applicationRepository;
+    private final OpenCaseSpecialtyIndex specialtyIndex;
+    private final CaseSnapshotCache snapshotCache;
 
     /**
-     * Constructs a CaseQueryServiceImpl with the specified repositories.
+     * Constructs a CaseQueryServiceImpl with the specified repository.
      *
-     * @param caseRepository        the repository for accessing case data
-     * @param invitationRepository  the repository for accessing invitation data
-     * @param applicationRepository the repository for accessing application data
+     * @param caseRepository the repository for accessing case data
+     * @param specialtyIndex the index of the open cases of each specialty
+     * @param snapshotCache  the cache of case snapshots read by identifier
      */
-    public CaseQueryServiceImpl(
-            CaseRepository caseRepository,
-            InvitationRepository invitationRepository,
-            ApplicationRepository applicationRepository
-    ) {
+    public CaseQueryServiceImpl(CaseRepository caseRepository, OpenCaseSpecialtyIndex specialtyIndex, CaseSnapshotCache snapshotCache) {
         this.caseRepository = caseRepository;
-        this.invitationRepository = invitationRepository;
-        this.applicationRepository = applicationRepository;
+        this.specialtyIndex = specialtyIndex;
+        this.snapshotCache = snapshotCache;
     }
 
+    /**
+     * Handles the GetAllCasesQuery to retrieve one page of cases.
+     *
+     * <p>Pages are read with a seek predicate on {@code (createdAt, id)}, so every page costs
+     * the same index range scan regardless of how deep the client has paginated.</p>
+     *
+     * @param query the query object containing the cursor and page size
+     * @return the page of {@code CaseSummaryView}, newest first
+     */
     @Override
-    public List<CaseAggregate> handle(GetAllCasesQuery query) {
-        return caseRepository.findAll();
+    public CursorPage<CaseSummaryView> handle(GetAllCasesQuery query) {
+        var limit = PageRequest.ofSize(query.size() + 1);
+        var after = query.after();
+
+        var rows = after == null
+                ? caseRepository.findFirstPage(limit)
+                : caseRepository.findPageAfter(Timestamp.from(after.timestamp()), after.id(), limit);
+
+        return CursorPage.of(rows, query.size(), CaseQueryServiceImpl::cursorOf);
     }
 
     /**
      * Handles the GetCaseByIdQuery to retrieve a case by its identifier.
      *
+     * <p>The case is served from the snapshot cache, which reads the columns of the case row
+     * on a miss and is evicted by every command changing the case.</p>
+     *
      * @param query the query object containing the case identifier
-     * @return an Optional containing the {@code CaseAggregate} if found, or empty otherwise
+     * @return an Optional containing the {@code CaseSummaryView} if found, or empty otherwise
      */
     @Override
-    public Optional<CaseAggregate> handle(GetCaseByIdQuery query) {
-        return caseRepository.findById(query.caseId());
+    public Optional<CaseSummaryView> handle(GetCaseByIdQuery query) {
+        return snapshotCache.get(query.caseId(), caseRepository::findSummaryById);
     }
 
     /**
-     * Handles the GetSuggestedCasesQuery to retrieve suggested cases for a lawyer.
+     * Handles the GetCaseVersionByIdQuery to retrieve the version of a case.
      *
-     * <p>This method retrieves all open cases and then excludes cases to which the lawyer
-     * has already been invited or applied for.</p>
+     * @param query the query object containing the case identifier
+     * @return an Optional containing the version of the case if found, or empty otherwise
+     */
+    @Override
+    public Optional<Long> handle(GetCaseVersionByIdQuery query) {
+        return caseRepository.findVersionById(query.caseId());
+    }
+
+    /**
+     * Handles the GetSuggestedCasesQuery to retrieve one page of suggested cases for a lawyer.
      *
-     * @param query the query object containing the lawyer identifier
-     * @return a list of suggested {@code CaseAggregate} for the lawyer
+     * <p>Open cases to which the lawyer has already been invited or applied for are excluded
+     * by the database through an anti-join, so only eligible rows are ever read. When the query is
+     * restricted to specialties, the candidates are the open cases of those specialties listed newest
+     * first by the in-memory specialty index, and the database only checks the candidates of the page.</p>
+     *
+     * @param query the query object containing the lawyer identifier, optional specialties, cursor and page size
+     * @return the page of suggested {@code CaseSummaryView} for the lawyer, newest first
      */
     @Override
-    public List<CaseAggregate> handle(GetSuggestedCasesQuery query) {
-        // 1. Retrieve all cases in the OPEN state.
-        var openCases = caseRepository.findByCurrentStatus(CaseStatus.OPEN);
-
-        // 2. Get IDs of cases where the lawyer has already been invited.
-        var casesWhereHeWasInvited = invitationRepository
-                .findByLawyerId(query.lawyerId())
-                .stream()
-                .map(Invitation::getLegalCase)
-                .map(CaseAggregate::getId)
-                .collect(Collectors.toSet());
-
-        // 3. Get IDs of cases where the lawyer has already applied.
-        var casesWhereHeApplied = applicationRepository
-                .findByLawyerId(query.lawyerId())
-                .stream()
-                .map(Application::getLegalCase)
-                .map(CaseAggregate::getId)
-                .collect(Collectors.toSet());
-
-        // 4. Filter out cases where the lawyer was already invited or applied.
-        return openCases.stream()
-                .filter(case_ -> !casesWhereHeWasInvited.contains(case_.getId()))
-                .filter(case_ -> !casesWhereHeApplied.contains(case_.getId()))
-                .collect(Collectors.toList());
+    public CursorPage<CaseSummaryView> handle(GetSuggestedCasesQuery query) {
+        if (!query.specialtyIds().isEmpty())
+            return CursorPage.of(findSuggestedInSpecialties(query), query.size(), CaseQueryServiceImpl::cursorOf);
+
+        var limit = PageRequest.ofSize(query.size() + 1);
+        var after = query.after();
+
+        var rows = after == null
+                ? caseRepository.findFirstSuggestedPage(CaseStatus.OPEN, query.lawyerId(), limit)
+                : caseRepository.findSuggestedPageAfter(CaseStatus.OPEN, query.lawyerId(),
+                Timestamp.from(after.timestamp()), after.id(), limit);
+
+        return CursorPage.of(rows, query.size(), CaseQueryServiceImpl::cursorOf);
+    }
+
+    /**
+     * Reads the eligible candidates of the specialty index in chunks until one row beyond the page is found.
+     * <p>
+     * Each chunk is a contiguous run of the newest-first candidates, and the database returns the eligible
+     * ones in the same order, so concatenating the chunks keeps the order of the whole listing.
+     * </p>
+     */
+    private List<CaseSummaryView> findSuggestedInSpecialties(GetSuggestedCasesQuery query) {
+        var candidates = specialtyIndex.newestFirst(query.specialtyIds(), query.after());
+        int wanted = query.size() + 1;
+        int chunkSize = wanted * 2;
+
+        var rows = new ArrayList<CaseSummaryView>(wanted);
+        var chunk = new ArrayList<UUID>(chunkSize);
+        while (rows.size() < wanted && candidates.hasNext()) {
+            chunk.clear();
+            while (chunk.size() < chunkSize && candidates.hasNext())
+                chunk.add(candidates.next().id());
+            rows.addAll(caseRepository.findSuggestedAmong(CaseStatus.OPEN, query.lawyerId(), chunk));
+        }
+        return rows.size() > wanted ? rows.subList(0, wanted) : rows;
     }
 
     /**
      * Handles the GetCasesByClientIdQuery to retrieve cases for a specific client.
      *
-     * @param query the query object containing the client identifier
-     * @return a list of {@code CaseAggregate} associated with the client
+     * @param query the query object containing the client identifier, cursor and page size
+     * @return the page of {@code CaseSummaryView} associated with the client, newest first
      */
     @Override
-    public List<CaseAggregate> handle(GetCasesByClientIdQuery query) {
-        return caseRepository.findByClientId(query.clientId());
+    public CursorPage<CaseSummaryView> handle(GetCasesByClientIdQuery query) {
+        var limit = PageRequest.ofSize(query.size() + 1);
+        var after = query.after();
+
+        var rows = after == null
+                ? caseRepository.findFirstPageByClientId(query.clientId(), limit)
+                : caseRepository.findPageByClientIdAfter(query.clientId(), Timestamp.from(after.timestamp()), after.id(), limit);
+
+        return CursorPage.of(rows, query.size(), CaseQueryServiceImpl::cursorOf);
     }
 
     /**
      * Handles the GetCasesByStatusQuery to retrieve cases by their current status.
      *
-     * @param query the query object containing the case status
-     * @return a list of {@code CaseAggregate} with the specified status
+     * @param query the query object containing the case status, cursor and page size
+     * @return the page of {@code CaseSummaryView} with the specified status, newest first
      */
     @Override
-    public List<CaseAggregate> handle(GetCasesByStatusQuery query) {
-        return caseRepository.findByCurrentStatus(query.status());
+    public CursorPage<CaseSummaryView> handle(GetCasesByStatusQuery query) {
+        var limit = PageRequest.ofSize(query.size() + 1);
+        var after = query.after();
+
+        var rows = after == null
+                ? caseRepository.findFirstPageByCurrentStatus(query.status(), limit)
+                : caseRepository.findPageByCurrentStatusAfter(query.status(), Timestamp.from(after.timestamp()), after.id(), limit);
+
+        return CursorPage.of(rows, query.size(), CaseQueryServiceImpl::cursorOf);
     }
 
     /**
      * Handles the GetCasesByLawyerIdQuery to retrieve cases accepted by a specific lawyer.
      *
      * @param query the query object containing the lawyer identifier
-     * @return a list of {@code CaseAggregate} accepted by the lawyer
+     * @return a list of {@code CaseSummaryView} accepted by the lawyer, newest first
      */
     @Override
-    public List<CaseAggregate> handle(GetCasesByLawyerIdQuery query) {
-        return caseRepository.findByAssignedLawyerIdAndCurrentStatus(query.lawyerId(), CaseStatus.ACCEPTED);
+    public List<CaseSummaryView> handle(GetCasesByLawyerIdQuery query) {
+        return caseRepository.findSummariesByAssignedLawyerIdAndCurrentStatus(query.lawyerId(), CaseStatus.ACCEPTED);
+    }
+
+    private static KeysetCursor cursorOf(CaseSummaryView legalCase) {
+        return new KeysetCursor(legalCase.createdAt().toInstant(), legalCase.id());
     }
 }
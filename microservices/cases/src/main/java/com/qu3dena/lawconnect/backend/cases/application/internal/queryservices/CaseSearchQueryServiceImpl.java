@@ -0,0 +1,58 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchIndex;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchMatch;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSearchPage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.SearchCasesQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseSearchQueryService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link CaseSearchQueryService}.
+ * <p>
+ * The search index ranks the cases and the page of matches is then read from the database by primary key,
+ * so results always show the current state of the cases.
+ * </p>
+ */
+@Service
+public class CaseSearchQueryServiceImpl implements CaseSearchQueryService {
+
+    private final CaseSearchIndex searchIndex;
+    private final CaseRepository caseRepository;
+
+    public CaseSearchQueryServiceImpl(CaseSearchIndex searchIndex, CaseRepository caseRepository) {
+        this.searchIndex = searchIndex;
+        this.caseRepository = caseRepository;
+    }
+
+    @Override
+    public CaseSearchPage handle(SearchCasesQuery query) {
+        // 1). Rank one match beyond the page, which only tells whether another page exists
+        var matches = searchIndex.search(query.text(), query.status(), query.specialtyId(), query.after(), query.size() + 1);
+        var hasMore = matches.size() > query.size();
+        if (hasMore)
+            matches = matches.subList(0, query.size());
+
+        if (matches.isEmpty())
+            return new CaseSearchPage(List.of(), null);
+
+        // 2). Read the cases of the page, keeping the order of the ranking
+        var casesById = caseRepository.findSummariesByIdIn(matches.stream().map(CaseSearchMatch::caseId).toList())
+                .stream()
+                .collect(Collectors.toMap(CaseSummaryView::id, Function.identity()));
+        var items = matches.stream()
+                .map(match -> casesById.get(match.caseId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        var nextCursor = hasMore ? matches.get(matches.size() - 1).cursor() : null;
+        return new CaseSearchPage(items, nextCursor);
+    }
+}
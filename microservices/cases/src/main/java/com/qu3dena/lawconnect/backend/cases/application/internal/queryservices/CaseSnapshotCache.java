@@ -0,0 +1,210 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of case snapshots keyed by case id.
+ * <p>
+ * Snapshots are immutable {@link CaseSummaryView} rows, so a cached case can be handed to any number of
+ * readers without a persistence context. The cache keeps at most {@code max-size} cases, evicting the least
+ * recently read one, and drops a snapshot once it is older than {@code ttl}. Command handlers evict the case
+ * they change both immediately and again once their transaction commits, and a snapshot loaded while its
+ * case was evicted is not kept, so a reader never caches the state a concurrent command is replacing.
+ * Evictions of other cases leave the load alone.
+ * </p>
+ */
+@Component
+public class CaseSnapshotCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<UUID, Snapshot> snapshots;
+
+    // The cases being loaded, so an eviction only discards the loads of its own case
+    private final Map<UUID, PendingLoad> pendingLoads = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+
+    /**
+     * Constructs the cache.
+     *
+     * @param enabled whether snapshots are cached; when disabled every read goes to the loader
+     * @param maxSize the most cases kept
+     * @param ttl     how long a snapshot is served after being loaded
+     */
+    @Autowired
+    public CaseSnapshotCache(@Value("${cases.cache.enabled:true}") boolean enabled,
+                             @Value("${cases.cache.max-size:10000}") int maxSize,
+                             @Value("${cases.cache.ttl:PT5M}") Duration ttl) {
+        this(enabled, maxSize, ttl, System::nanoTime);
+    }
+
+    CaseSnapshotCache(boolean enabled, int maxSize, Duration ttl, LongSupplier nanoTime) {
+        if (maxSize < 1 || ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Case cache size and time to live must be positive");
+
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Snapshot> eldest) {
+                if (size() <= CaseSnapshotCache.this.maxSize)
+                    return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Statistics of the cache since startup.
+     *
+     * @param enabled     whether snapshots are cached
+     * @param size        the number of cached cases
+     * @param maxSize     the most cases kept
+     * @param hits        the reads served from the cache
+     * @param misses      the reads that went to the loader
+     * @param hitRatio    the share of reads served from the cache
+     * @param evictions   the snapshots dropped to stay within the maximum size
+     * @param expirations the snapshots dropped for being older than the time to live
+     * @param invalidated the snapshots dropped because their case changed
+     */
+    public record Stats(boolean enabled, int size, int maxSize, long hits, long misses, double hitRatio,
+                        long evictions, long expirations, long invalidated) {
+    }
+
+    /**
+     * Returns the snapshot of a case, loading and caching it when it is missing or expired.
+     *
+     * @param caseId the unique identifier of the case
+     * @param loader reads the current snapshot of a case
+     * @return an Optional containing the snapshot, or empty when the case does not exist
+     */
+    public Optional<CaseSummaryView> get(UUID caseId, Function<UUID, Optional<CaseSummaryView>> loader) {
+        if (!enabled)
+            return loader.apply(caseId);
+
+        PendingLoad pending;
+        long seenGeneration;
+        synchronized (this) {
+            var snapshot = snapshots.get(caseId);
+            if (snapshot != null) {
+                if (nanoTime.getAsLong() - snapshot.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return Optional.of(snapshot.view());
+                }
+                snapshots.remove(caseId);
+                expirations.increment();
+            }
+            misses.increment();
+            pending = pendingLoads.computeIfAbsent(caseId, id -> new PendingLoad());
+            pending.loads++;
+            seenGeneration = pending.generation;
+        }
+
+        // Loaded outside the lock; kept only if the case was not evicted meanwhile
+        Optional<CaseSummaryView> loaded = Optional.empty();
+        try {
+            loaded = loader.apply(caseId);
+            return loaded;
+        } finally {
+            synchronized (this) {
+                if (loaded.isPresent() && pending.generation == seenGeneration)
+                    snapshots.put(caseId, new Snapshot(loaded.get(), nanoTime.getAsLong()));
+                if (--pending.loads == 0)
+                    pendingLoads.remove(caseId);
+            }
+        }
+    }
+
+    /**
+     * Evicts a case that is being changed.
+     * <p>
+     * Inside a transaction the case is evicted again after the commit, so readers that loaded the
+     * previous state while the transaction was running do not keep it.
+     * </p>
+     *
+     * @param caseId the unique identifier of the case
+     */
+    public void evict(UUID caseId) {
+        if (!enabled || caseId == null)
+            return;
+
+        remove(caseId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(caseId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the cache statistics
+     */
+    public Stats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        int size;
+        synchronized (this) {
+            size = snapshots.size();
+        }
+        return new Stats(
+                enabled,
+                size,
+                maxSize,
+                hitCount,
+                missCount,
+                hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount),
+                evictions.sum(),
+                expirations.sum(),
+                invalidated.sum());
+    }
+
+    private synchronized void remove(UUID caseId) {
+        var pending = pendingLoads.get(caseId);
+        if (pending != null)
+            pending.generation++;
+        if (snapshots.remove(caseId) != null)
+            invalidated.increment();
+    }
+
+    private record Snapshot(CaseSummaryView view, long loadedAt) {
+    }
+
+    /**
+     * The loads of one case in flight, and how many times the case was evicted since the first of them began.
+     */
+    private static final class PendingLoad {
+
+        private int loads;
+        private long generation;
+    }
+}
@@ -0,0 +1,257 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Application;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseState;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Comment;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseTimelineEntry;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseTimelinePage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetCaseTimelineQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineEntryType;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseTimelineQueryService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.ApplicationRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseStateRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CommentRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.DocumentRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KWayMergeIterator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builds the timeline of a case by merging its states, invitations, applications, comments, messages and documents.
+ * <p>
+ * Each kind of activity is read from its own table with a keyset query ordered by timestamp, in chunks of one
+ * page, and the six streams are merged lazily, so a page costs one indexed range scan per kind whatever the
+ * size of the case history.
+ * </p>
+ */
+@Service
+public class CaseTimelineQueryServiceImpl implements CaseTimelineQueryService {
+
+    private static final Instant ORIGIN = Instant.EPOCH;
+
+    private final CaseStateRepository caseStateRepository;
+    private final InvitationRepository invitationRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CommentRepository commentRepository;
+    private final CaseMessageRepository messageRepository;
+    private final DocumentRepository documentRepository;
+
+    public CaseTimelineQueryServiceImpl(CaseStateRepository caseStateRepository,
+                                        InvitationRepository invitationRepository,
+                                        ApplicationRepository applicationRepository,
+                                        CommentRepository commentRepository,
+                                        CaseMessageRepository messageRepository,
+                                        DocumentRepository documentRepository) {
+        this.caseStateRepository = caseStateRepository;
+        this.invitationRepository = invitationRepository;
+        this.applicationRepository = applicationRepository;
+        this.commentRepository = commentRepository;
+        this.messageRepository = messageRepository;
+        this.documentRepository = documentRepository;
+    }
+
+    @Override
+    public CaseTimelinePage handle(GetCaseTimelineQuery query) {
+        var caseId = query.caseId();
+        var limit = PageRequest.ofSize(query.size() + 1);
+
+        // 1). One seeking stream per kind of activity, each starting after the cursor
+        var sources = List.of(
+                new TimelineSource(CaseTimelineEntryType.STATE, query.after(), limit, (seek, pageable) ->
+                        map(caseStateRepository.findTimelinePageAfter(caseId, seek.at(), seek.longId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)),
+                new TimelineSource(CaseTimelineEntryType.INVITATION, query.after(), limit, (seek, pageable) ->
+                        map(invitationRepository.findTimelinePageAfter(caseId, seek.timestamp(), seek.longId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)),
+                new TimelineSource(CaseTimelineEntryType.APPLICATION, query.after(), limit, (seek, pageable) ->
+                        map(applicationRepository.findTimelinePageAfter(caseId, seek.timestamp(), seek.longId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)),
+                new TimelineSource(CaseTimelineEntryType.COMMENT, query.after(), limit, (seek, pageable) ->
+                        map(commentRepository.findTimelinePageAfter(caseId, seek.timestamp(), seek.longId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)),
+                new TimelineSource(CaseTimelineEntryType.MESSAGE, query.after(), limit, (seek, pageable) ->
+                        map(messageRepository.findTimelinePageAfter(caseId, seek.localDateTime(), seek.uuidId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)),
+                new TimelineSource(CaseTimelineEntryType.DOCUMENT, query.after(), limit, (seek, pageable) ->
+                        map(documentRepository.findTimelinePageAfter(caseId, seek.localDateTime(), seek.uuidId(), pageable),
+                                CaseTimelineQueryServiceImpl::toEntry)));
+
+        // 2). Merge them until one entry past the page is known
+        var merged = new KWayMergeIterator<>(sources, CaseTimelineEntry.TIMELINE_ORDER);
+        var entries = new ArrayList<CaseTimelineEntry>(query.size() + 1);
+        while (entries.size() <= query.size() && merged.hasNext())
+            entries.add(merged.next());
+
+        return CaseTimelinePage.of(entries, query.size());
+    }
+
+    private static <T> List<CaseTimelineEntry> map(List<T> rows, Function<T, CaseTimelineEntry> mapper) {
+        return rows.stream().map(mapper).toList();
+    }
+
+    private static CaseTimelineEntry toEntry(CaseState state) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.STATE, state.getAt(), state.getId().toString(),
+                null, state.getStatus() != null ? state.getStatus().name() : null);
+    }
+
+    private static CaseTimelineEntry toEntry(Invitation invitation) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.INVITATION, invitation.getCreatedAt().toInstant(),
+                invitation.getId().toString(), invitation.getLawyerId(),
+                invitation.getStatus() != null ? invitation.getStatus().name() : null);
+    }
+
+    private static CaseTimelineEntry toEntry(Application application) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.APPLICATION, application.getCreatedAt().toInstant(),
+                application.getId().toString(), application.getLawyerId(),
+                application.getStatus() != null ? application.getStatus().name() : null);
+    }
+
+    private static CaseTimelineEntry toEntry(Comment comment) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.COMMENT, comment.getCreatedAt().toInstant(),
+                comment.getId().toString(), comment.getAuthorId(),
+                comment.getText() != null ? comment.getText().comment() : null);
+    }
+
+    private static CaseTimelineEntry toEntry(CaseMessage message) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.MESSAGE, toInstant(message.getCreatedAt()),
+                message.getId().toString(), message.getSenderId(), message.getContent());
+    }
+
+    private static CaseTimelineEntry toEntry(DocumentMetadataView document) {
+        return new CaseTimelineEntry(CaseTimelineEntryType.DOCUMENT, toInstant(document.uploadedAt()),
+                document.id().toString(), document.uploadedBy(), document.filename());
+    }
+
+    /**
+     * Messages and documents are audited with {@link LocalDateTime#now()}, that is in the system zone.
+     */
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /**
+     * How entries recorded at the seek timestamp are treated.
+     */
+    private enum Tie {
+        /** All of them follow the position: their kind sorts after the cursor's. */
+        INCLUDE,
+        /** Those with a greater identifier follow the position: they are of the cursor's kind. */
+        AFTER_ID,
+        /** None of them follow the position: their kind sorts before the cursor's. */
+        EXCLUDE
+    }
+
+    /**
+     * The position one kind of activity is read from, translated to the types of its table.
+     */
+    private record Seek(Instant at, Tie tie, String id) {
+
+        Timestamp timestamp() {
+            return Timestamp.from(at);
+        }
+
+        LocalDateTime localDateTime() {
+            return LocalDateTime.ofInstant(at, ZoneId.systemDefault());
+        }
+
+        Long longId() {
+            return switch (tie) {
+                case INCLUDE -> Long.MIN_VALUE;
+                case EXCLUDE -> Long.MAX_VALUE;
+                case AFTER_ID -> parse(id, Long::valueOf);
+            };
+        }
+
+        UUID uuidId() {
+            return switch (tie) {
+                case INCLUDE -> new UUID(0L, 0L);
+                case EXCLUDE -> new UUID(-1L, -1L);
+                case AFTER_ID -> parse(id, UUID::fromString);
+            };
+        }
+
+        private static <T> T parse(String id, Function<String, T> parser) {
+            try {
+                return parser.apply(id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface TimelineFetcher {
+        List<CaseTimelineEntry> fetch(Seek seek, Pageable pageable);
+    }
+
+    /**
+     * Entries of one kind of activity in timeline order, fetched a chunk at a time as the merge consumes them.
+     */
+    private static final class TimelineSource implements Iterator<CaseTimelineEntry> {
+
+        private final CaseTimelineEntryType type;
+        private final Pageable chunk;
+        private final TimelineFetcher fetcher;
+        private CaseTimelineCursor position;
+        private Iterator<CaseTimelineEntry> buffered = Collections.emptyIterator();
+        private boolean exhausted;
+
+        TimelineSource(CaseTimelineEntryType type, CaseTimelineCursor after, Pageable chunk, TimelineFetcher fetcher) {
+            this.type = type;
+            this.position = after;
+            this.chunk = chunk;
+            this.fetcher = fetcher;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (buffered.hasNext())
+                return true;
+            if (exhausted)
+                return false;
+
+            var rows = fetcher.fetch(seek(), chunk);
+            exhausted = rows.size() < chunk.getPageSize();
+            buffered = rows.iterator();
+            return buffered.hasNext();
+        }
+
+        @Override
+        public CaseTimelineEntry next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            var entry = buffered.next();
+            position = entry.cursor();
+            return entry;
+        }
+
+        private Seek seek() {
+            if (position == null)
+                return new Seek(ORIGIN, Tie.INCLUDE, null);
+
+            int order = type.compareTo(position.type());
+            var tie = order == 0 ? Tie.AFTER_ID : order > 0 ? Tie.INCLUDE : Tie.EXCLUDE;
+            return new Seek(position.at(), tie, position.sourceId());
+        }
+    }
+}
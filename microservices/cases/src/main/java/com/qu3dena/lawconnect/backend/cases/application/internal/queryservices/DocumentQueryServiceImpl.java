@@ -1,9 +1,15 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.DocumentContentStore;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.InflatingResource;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentContentQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentInlineContentQuery;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentsByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
 import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentQueryService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.DocumentRepository;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,19 +20,36 @@ import java.util.UUID;
 public class DocumentQueryServiceImpl implements DocumentQueryService {
 
     private final DocumentRepository documentRepository;
+    private final DocumentContentStore documentContentStore;
 
-    public DocumentQueryServiceImpl(DocumentRepository documentRepository) {
+    public DocumentQueryServiceImpl(DocumentRepository documentRepository, DocumentContentStore documentContentStore) {
         this.documentRepository = documentRepository;
+        this.documentContentStore = documentContentStore;
     }
 
     @Override
-    public List<Document> handle(GetDocumentsByCaseIdQuery query) {
-        return documentRepository.findByCaseIdOrderByUploadedAtDesc(query.caseId());
+    public List<DocumentMetadataView> handle(GetDocumentsByCaseIdQuery query) {
+        return documentRepository.findMetadataByCaseId(query.caseId());
     }
 
     @Override
-    public Optional<Document> findByCaseIdAndFileUrl(UUID caseId, String fileUrl) {
-        return documentRepository.findByCaseIdAndFileUrl(caseId, fileUrl);
+    public Optional<DocumentMetadataView> findByCaseIdAndFileUrl(UUID caseId, String fileUrl) {
+        return documentRepository.findMetadataByCaseIdAndFileUrl(caseId, fileUrl);
+    }
+
+    @Override
+    public Optional<Resource> handle(GetDocumentContentQuery query) {
+        var codec = query.codec() != null ? query.codec() : DocumentContentCodec.IDENTITY;
+        var stored = documentContentStore.load(query.contentHash(), codec);
+
+        // Compressed content is inflated while it is streamed, so callers always see the original bytes
+        if (codec == DocumentContentCodec.DEFLATE)
+            return stored.map(resource -> new InflatingResource(resource, query.size()));
+        return stored;
     }
-}
 
+    @Override
+    public Optional<byte[]> handle(GetDocumentInlineContentQuery query) {
+        return documentRepository.findInlineContentById(query.documentId());
+    }
+}
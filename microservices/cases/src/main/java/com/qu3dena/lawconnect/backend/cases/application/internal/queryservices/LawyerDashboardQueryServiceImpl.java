@@ -0,0 +1,27 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.LawyerDashboardEntry;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetLawyerDashboardQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardQueryService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.LawyerDashboardEntryRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link LawyerDashboardQueryService}, reading the lawyer dashboard read model.
+ */
+@Service
+public class LawyerDashboardQueryServiceImpl implements LawyerDashboardQueryService {
+
+    private final LawyerDashboardEntryRepository dashboardRepository;
+
+    public LawyerDashboardQueryServiceImpl(LawyerDashboardEntryRepository dashboardRepository) {
+        this.dashboardRepository = dashboardRepository;
+    }
+
+    @Override
+    public List<LawyerDashboardEntry> handle(GetLawyerDashboardQuery query) {
+        return dashboardRepository.findByLawyerIdOrderByCaseUpdatedAtDescCaseIdDesc(query.lawyerId());
+    }
+}
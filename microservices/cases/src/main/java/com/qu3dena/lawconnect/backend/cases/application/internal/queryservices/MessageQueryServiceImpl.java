@@ -1,25 +1,62 @@
 package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseUnreadCounter;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseMessagePage;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetMessagesByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetUnreadCountsByUserIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
 import com.qu3dena.lawconnect.backend.cases.domain.services.MessageQueryService;
 import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseUnreadCounterRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
 public class MessageQueryServiceImpl implements MessageQueryService {
 
     private final CaseMessageRepository messageRepository;
+    private final CaseUnreadCounterRepository unreadCounterRepository;
 
-    public MessageQueryServiceImpl(CaseMessageRepository messageRepository) {
+    public MessageQueryServiceImpl(CaseMessageRepository messageRepository, CaseUnreadCounterRepository unreadCounterRepository) {
         this.messageRepository = messageRepository;
+        this.unreadCounterRepository = unreadCounterRepository;
     }
 
     @Override
-    public List<CaseMessage> handle(GetMessagesByCaseIdQuery query) {
-        return messageRepository.findByCaseIdOrderByCreatedAtAsc(query.caseId());
+    public CaseMessagePage handle(GetMessagesByCaseIdQuery query) {
+        var limit = PageRequest.ofSize(query.size() + 1);
+
+        // 1). Reading forward already yields the chat order
+        if (query.after() != null) {
+            var after = query.after();
+            var rows = messageRepository.findPageAfter(query.caseId(), after.sequenceNumber(), toCreatedAt(after), after.id(), limit);
+            return CaseMessagePage.of(rows, query.size());
+        }
+
+        // 2). Reading backward walks newest first; the page is flipped so it reads oldest first
+        var before = query.before();
+        var rows = before == null
+                ? messageRepository.findLatestPage(query.caseId(), limit)
+                : messageRepository.findPageBefore(query.caseId(), before.sequenceNumber(), toCreatedAt(before), before.id(), limit);
+
+        var page = CaseMessagePage.of(rows, query.size());
+        var items = new ArrayList<>(page.items());
+        Collections.reverse(items);
+        return new CaseMessagePage(items, page.nextCursor());
     }
-}
 
+    @Override
+    public List<CaseUnreadCounter> handle(GetUnreadCountsByUserIdQuery query) {
+        return unreadCounterRepository.findUnreadByUserId(query.userId());
+    }
+
+    private static LocalDateTime toCreatedAt(CaseMessageCursor cursor) {
+        return LocalDateTime.ofInstant(cursor.createdAt(), ZoneOffset.UTC);
+    }
+}
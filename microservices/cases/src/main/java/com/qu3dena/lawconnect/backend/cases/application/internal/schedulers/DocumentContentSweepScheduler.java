@@ -0,0 +1,65 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.schedulers;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SweepOrphanedDocumentContentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodically removes stored document content that no document references any more.
+ * <p>
+ * Each batch runs in its own transaction; the sweep stops when a batch finds nothing to remove.
+ * </p>
+ */
+@Component
+public class DocumentContentSweepScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentContentSweepScheduler.class);
+
+    private final DocumentCommandService documentCommandService;
+    private final boolean sweepEnabled;
+    private final SweepOrphanedDocumentContentsCommand command;
+
+    /**
+     * Constructs the scheduler.
+     *
+     * @param documentCommandService the service used to sweep document contents
+     * @param sweepEnabled           whether the sweep runs
+     * @param gracePeriod            how long content must have been unreferenced before it is removed
+     * @param batchSize              the number of contents removed per transaction
+     */
+    public DocumentContentSweepScheduler(
+            DocumentCommandService documentCommandService,
+            @Value("${documents.storage.sweep.enabled:true}") boolean sweepEnabled,
+            @Value("${documents.storage.sweep.grace-period:PT1H}") Duration gracePeriod,
+            @Value("${documents.storage.sweep.batch-size:100}") int batchSize) {
+        this.documentCommandService = documentCommandService;
+        this.sweepEnabled = sweepEnabled;
+        this.command = new SweepOrphanedDocumentContentsCommand(gracePeriod, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${documents.storage.sweep.fixed-delay:PT15M}",
+            initialDelayString = "${documents.storage.sweep.initial-delay:PT5M}")
+    public void sweep() {
+        if (!sweepEnabled)
+            return;
+
+        int removed = 0;
+        try {
+            int batch;
+            while ((batch = documentCommandService.handle(command)) > 0)
+                removed += batch;
+        } catch (RuntimeException e) {
+            LOGGER.error("Document content sweep stopped after removing {} contents", removed, e);
+            return;
+        }
+
+        if (removed > 0)
+            LOGGER.info("Removed {} orphaned document contents", removed);
+    }
+}
@@ -0,0 +1,111 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.schedulers;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+
+/**
+ * Publishes the events recorded in the outbox.
+ * <p>
+ * Events are read in batches, grouped by case and in the order their transactions committed within each case.
+ * Once an event of a case fails, the later events of that case wait until it is dispatched or given up, so the
+ * events of each case are delivered in order.
+ * Successful dispatches of a batch are recorded with a single update. A single dispatcher is expected
+ * per database; running several service instances would need the batch to be claimed with row locks.
+ * </p>
+ */
+@Component
+public class OutboxDispatchScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatchScheduler.class);
+
+    private final DomainEventOutbox eventOutbox;
+    private final boolean dispatchEnabled;
+    private final int batchSize;
+    private final Duration retention;
+
+    /**
+     * Constructs the scheduler.
+     *
+     * @param eventOutbox     the outbox the events are read from
+     * @param dispatchEnabled whether recorded events are dispatched
+     * @param batchSize       the number of events read per query
+     * @param retention       how long dispatched events are kept
+     */
+    public OutboxDispatchScheduler(
+            DomainEventOutbox eventOutbox,
+            @Value("${outbox.dispatch.enabled:true}") boolean dispatchEnabled,
+            @Value("${outbox.dispatch.batch-size:100}") int batchSize,
+            @Value("${outbox.retention:P7D}") Duration retention) {
+        this.eventOutbox = eventOutbox;
+        this.dispatchEnabled = dispatchEnabled;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.fixed-delay:PT0.5S}")
+    public void dispatch() {
+        if (!dispatchEnabled)
+            return;
+
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize);
+        } catch (RuntimeException e) {
+            LOGGER.error("Outbox dispatch stopped", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.fixed-delay:PT1H}", initialDelayString = "${outbox.cleanup.initial-delay:PT10M}")
+    public void cleanup() {
+        try {
+            int removed = eventOutbox.deleteDispatchedBefore(Instant.now().minus(retention));
+            if (removed > 0)
+                LOGGER.info("Removed {} dispatched outbox events", removed);
+        } catch (RuntimeException e) {
+            LOGGER.error("Outbox cleanup failed", e);
+        }
+    }
+
+    /**
+     * Dispatches one batch of events.
+     *
+     * @return the number of events published
+     */
+    private int dispatchBatch() {
+        var batch = eventOutbox.findDispatchable(batchSize);
+        var dispatched = new ArrayList<Long>(batch.size());
+        var blockedCases = new HashSet<UUID>();
+
+        for (var event : batch) {
+            // 1). Keep the order of the case: nothing after one of its events failed
+            if (blockedCases.contains(event.getAggregateId()))
+                continue;
+
+            try {
+                eventOutbox.publish(event);
+                dispatched.add(event.getId());
+            } catch (RuntimeException e) {
+                blockedCases.add(event.getAggregateId());
+                eventOutbox.recordFailure(event, e);
+            }
+        }
+
+        // 2). Record the successful dispatches of the batch at once
+        if (!dispatched.isEmpty())
+            eventOutbox.markDispatched(dispatched);
+
+        return dispatched.size();
+    }
+}
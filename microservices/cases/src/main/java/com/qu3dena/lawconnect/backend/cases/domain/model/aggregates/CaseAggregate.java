@@ -4,10 +4,8 @@ import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Application;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseState;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Comment;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
-import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTitle;
-import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
 import com.qu3dena.lawconnect.backend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.Description;
 import jakarta.persistence.*;
@@ -29,7 +27,11 @@ import java.util.*;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "cases")
+@Table(name = "cases", indexes = {
+        @Index(name = "idx_cases_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_cases_status_created_at_id", columnList = "current_status, created_at, id"),
+        @Index(name = "idx_cases_client_created_at_id", columnList = "client_id, created_at, id")
+})
 @EqualsAndHashCode(callSuper = true)
 public class CaseAggregate extends AuditableAbstractAggregateRoot<CaseAggregate> {
 
@@ -211,26 +213,6 @@ public class CaseAggregate extends AuditableAbstractAggregateRoot<CaseAggregate>
         this.states.add(new CaseState(this, CaseStatus.OPEN));
     }
 
-    /**
-     * Checks if the case has no pending invitations or submitted applications.
-     * <p>
-     * This method evaluates the associated invitations and applications to determine
-     * if there are any with a status of PENDING or SUBMITTED, respectively.
-     * </p>
-     *
-     * @return true if there are no pending invitations or submitted applications, false otherwise
-     */
-    public boolean hasNoPendingInvitationsOrApplications() {
-
-        boolean noPendingInvitations = invitations.stream()
-                .noneMatch(inv -> inv.getStatus() == InvitationStatus.PENDING);
-
-        boolean noSubmittedApplications = applications.stream()
-                .noneMatch(app -> app.getStatus() == ApplicationStatus.SUBMITTED);
-
-        return noPendingInvitations && noSubmittedApplications;
-    }
-
     /**
      * Retrieves the current status of the case.
      *
@@ -0,0 +1,7 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+/**
+ * Command to create the reference counts of content stored before documents were reference counted.
+ */
+public record BackfillDocumentContentReferencesCommand() {
+}
@@ -0,0 +1,11 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.util.UUID;
+
+public record DeleteCaseDocumentsCommand(UUID caseId) {
+
+    public DeleteCaseDocumentsCommand {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+    }
+}
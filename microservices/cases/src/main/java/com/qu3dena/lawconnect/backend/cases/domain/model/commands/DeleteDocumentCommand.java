@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.util.UUID;
+
+public record DeleteDocumentCommand(UUID caseId, UUID documentId) {
+
+    public DeleteDocumentCommand {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+        if (documentId == null)
+            throw new IllegalArgumentException("Document ID cannot be null");
+    }
+}
@@ -0,0 +1,36 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Command to invite several lawyers to a case at once.
+ *
+ * @param caseId    the ID of the case to which the lawyers are being invited
+ * @param lawyerIds the IDs of the lawyers being invited, without repetitions
+ * @param clientId  the ID of the client associated with the case
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public record InviteLawyersCommand(UUID caseId, List<UUID> lawyerIds, UUID clientId) {
+
+    /**
+     * The most lawyers invited by one command.
+     */
+    public static final int MAX_LAWYERS = 50;
+
+    public InviteLawyersCommand {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+        if (lawyerIds == null || lawyerIds.isEmpty())
+            throw new IllegalArgumentException("At least one lawyer must be invited");
+        if (lawyerIds.stream().anyMatch(Objects::isNull))
+            throw new IllegalArgumentException("Lawyer ID cannot be null");
+
+        lawyerIds = List.copyOf(new LinkedHashSet<>(lawyerIds));
+        if (lawyerIds.size() > MAX_LAWYERS)
+            throw new IllegalArgumentException("At most " + MAX_LAWYERS + " lawyers can be invited at once");
+    }
+}
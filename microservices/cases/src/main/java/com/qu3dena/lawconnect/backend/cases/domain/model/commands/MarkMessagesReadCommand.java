@@ -0,0 +1,22 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.util.UUID;
+
+/**
+ * Command to mark read every message of a case up to and including a given message.
+ *
+ * @param caseId        the ID of the case
+ * @param readerId      the ID of the participant reading the messages; their own messages are left untouched
+ * @param upToMessageId the ID of the newest message read
+ */
+public record MarkMessagesReadCommand(UUID caseId, UUID readerId, UUID upToMessageId) {
+
+    public MarkMessagesReadCommand {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+        if (readerId == null)
+            throw new IllegalArgumentException("Reader ID cannot be null");
+        if (upToMessageId == null)
+            throw new IllegalArgumentException("Message ID cannot be null");
+    }
+}
@@ -0,0 +1,9 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+public record MigrateDocumentContentsCommand(int batchSize) {
+
+    public MigrateDocumentContentsCommand {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive");
+    }
+}
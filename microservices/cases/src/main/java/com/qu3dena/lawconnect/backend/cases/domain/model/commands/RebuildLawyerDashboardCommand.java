@@ -0,0 +1,9 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+/**
+ * Command to rebuild the lawyer dashboard read model from the history of every case.
+ *
+ * @param onlyIfEmpty whether the rebuild is skipped when the read model already has rows
+ */
+public record RebuildLawyerDashboardCommand(boolean onlyIfEmpty) {
+}
@@ -0,0 +1,7 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+/**
+ * Command to correct the unread message counters that drifted from the messages themselves.
+ */
+public record RecountUnreadMessagesCommand() {
+}
@@ -0,0 +1,16 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.util.UUID;
+
+/**
+ * Command to bring the lawyer dashboard rows of a case up to date.
+ *
+ * @param caseId the unique identifier of the case
+ */
+public record RefreshLawyerDashboardCommand(UUID caseId) {
+
+    public RefreshLawyerDashboardCommand {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+    }
+}
@@ -0,0 +1,23 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentReference;
+
+import java.util.UUID;
+
+/**
+ * Command to record a document whose content is already in the document content store.
+ */
+public record RegisterDocumentCommand(
+        UUID caseId,
+        UUID uploadedBy,
+        String filename,
+        String fileUrl,
+        String fileType,
+        DocumentContentReference content
+) {
+
+    public RegisterDocumentCommand {
+        if (content == null)
+            throw new IllegalArgumentException("Content cannot be null");
+    }
+}
@@ -0,0 +1,17 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.io.InputStream;
+
+/**
+ * Command to write document content to the document content store ahead of registering the document.
+ *
+ * @param contentType the media type of the content, used to decide whether it is compressed; may be {@code null}
+ * @param content     the content, read once to its end and not closed
+ */
+public record StoreDocumentContentCommand(String contentType, InputStream content) {
+
+    public StoreDocumentContentCommand {
+        if (content == null)
+            throw new IllegalArgumentException("Content cannot be null");
+    }
+}
@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
+
+import java.time.Duration;
+
+/**
+ * Command to remove one batch of stored content that no document references any more.
+ *
+ * @param gracePeriod how long content must have been unreferenced before it is removed; it covers uploads
+ *                    whose content is stored but whose document is not recorded yet
+ * @param batchSize   the maximum number of contents removed
+ */
+public record SweepOrphanedDocumentContentsCommand(Duration gracePeriod, int batchSize) {
+
+    public SweepOrphanedDocumentContentsCommand {
+        if (gracePeriod == null || gracePeriod.isNegative())
+            throw new IllegalArgumentException("Grace period cannot be null or negative");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive");
+    }
+}
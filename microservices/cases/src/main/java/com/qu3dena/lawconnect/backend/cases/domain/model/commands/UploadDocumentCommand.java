@@ -1,7 +1,14 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.commands;
 
+import org.springframework.core.io.InputStreamSource;
+
 import java.util.UUID;
 
+/**
+ * Command to upload a document to a case.
+ *
+ * @param content the document content, read once as a stream while it is stored; {@code null} for metadata-only documents
+ */
 public record UploadDocumentCommand(
         UUID caseId,
         UUID uploadedBy,
@@ -9,7 +16,6 @@ public record UploadDocumentCommand(
         String fileUrl,
         Long fileSize,
         String fileType,
-        byte[] fileContent
+        InputStreamSource content
 ) {
 }
-
@@ -28,7 +28,11 @@ import java.util.UUID;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_lawyer_case", columnList = "lawyer_id, case_id"),
+        @Index(name = "idx_applications_case_status", columnList = "case_id, status"),
+        @Index(name = "idx_applications_case_created_at_id", columnList = "case_id, created_at, id")
+})
 @EqualsAndHashCode(callSuper = true, exclude = "legalCase")
 public class Application extends AuditableModel {
 
@@ -36,7 +40,9 @@ public class Application extends AuditableModel {
      * Unique identifier for the application.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "application_ids")
+    @TableGenerator(name = "application_ids", table = "id_generators", pkColumnName = "entity",
+            valueColumnName = "next_id", pkColumnValue = "applications", allocationSize = 50)
     private Long id;
 
     /**
@@ -1,12 +1,16 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
+import com.qu3dena.lawconnect.backend.shared.infrastructure.persistence.jpa.configuration.generator.TimeOrderedUuidGenerator;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 /**
@@ -15,12 +19,15 @@ import java.util.UUID;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "case_messages")
+@Table(name = "case_messages", indexes = {
+        @Index(name = "idx_case_messages_case_created_at_id", columnList = "case_id, created_at, id"),
+        @Index(name = "idx_case_messages_case_sequence", columnList = "case_id, sequence_number, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class CaseMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @Column(name = "case_id", nullable = false)
@@ -32,6 +39,14 @@ public class CaseMessage {
     @Column(nullable = false, length = 1000)
     private String content;
 
+    /**
+     * The position of the message among the messages of its case, in the order their transactions committed.
+     * Unlike {@code createdAt}, which is taken before the message is written, it cannot be overtaken by a message
+     * that is written later but commits first.
+     */
+    @Column(name = "sequence_number", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long sequenceNumber = 0L;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -45,5 +60,14 @@ public class CaseMessage {
         this.content = content;
         this.isRead = false;
     }
+
+    /**
+     * Returns the position of this message in the history of its case.
+     *
+     * @return the cursor pointing at this message
+     */
+    public CaseMessageCursor cursor() {
+        return new CaseMessageCursor(sequenceNumber, createdAt.toInstant(ZoneOffset.UTC), id);
+    }
 }
 
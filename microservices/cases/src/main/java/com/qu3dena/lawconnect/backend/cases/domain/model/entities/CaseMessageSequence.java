@@ -0,0 +1,29 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Entity holding the last sequence number given to a message of a case.
+ * <p>
+ * A transaction saving messages of a case increments this row and keeps it locked until it commits,
+ * so the messages of a case are numbered in the order their transactions commit.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "case_message_sequences")
+public class CaseMessageSequence {
+
+    @Id
+    @Column(name = "case_id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    private UUID caseId;
+
+    @Column(name = "last_sequence_number", nullable = false)
+    private Long lastSequenceNumber;
+}
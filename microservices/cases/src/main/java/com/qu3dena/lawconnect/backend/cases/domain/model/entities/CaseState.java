@@ -29,7 +29,9 @@ import java.time.Instant;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "case_states")
+@Table(name = "case_states", indexes = {
+        @Index(name = "idx_case_states_case_at_id", columnList = "case_id, at, id")
+})
 @EqualsAndHashCode(callSuper = true, exclude = "legalCase")
 public class CaseState extends AuditableModel {
 
@@ -37,7 +39,9 @@ public class CaseState extends AuditableModel {
      * Unique identifier for the case state.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "case_state_ids")
+    @TableGenerator(name = "case_state_ids", table = "id_generators", pkColumnName = "entity",
+            valueColumnName = "next_id", pkColumnValue = "case_states", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,37 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Entity holding the number of messages of a case a participant has not read yet.
+ * <p>
+ * Counters are kept up to date as messages are sent and marked read, so unread badges
+ * never need the conversations themselves.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "case_unread_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_case_unread_counters_user_case", columnNames = {"user_id", "case_id"})
+})
+public class CaseUnreadCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "case_id", nullable = false)
+    private UUID caseId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+}
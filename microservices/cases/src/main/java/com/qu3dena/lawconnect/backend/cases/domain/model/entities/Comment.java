@@ -29,12 +29,16 @@ import java.util.UUID;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_case_created_at_id", columnList = "case_id, created_at, id")
+})
 @EqualsAndHashCode(callSuper = true, exclude = "legalCase")
 public class Comment extends AuditableModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_ids")
+    @TableGenerator(name = "comment_ids", table = "id_generators", pkColumnName = "entity",
+            valueColumnName = "next_id", pkColumnValue = "comments", allocationSize = 50)
     private Long id;
 
     /**
@@ -1,8 +1,11 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import com.qu3dena.lawconnect.backend.shared.infrastructure.persistence.jpa.configuration.generator.TimeOrderedUuidGenerator;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -11,16 +14,23 @@ import java.util.UUID;
 
 /**
  * Entity representing a document attached to a case.
+ * <p>
+ * Only metadata is mapped here; the content lives in the document content store,
+ * or in {@link DocumentInlineContent} for rows not yet migrated.
+ * </p>
  */
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_content_hash", columnList = "content_hash"),
+        @Index(name = "idx_documents_case_uploaded_at_id", columnList = "case_id, uploaded_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @Column(name = "case_id", nullable = false)
@@ -41,22 +51,30 @@ public class Document {
     @Column(name = "file_type")
     private String fileType;
 
-    @Lob
-    @Column(name = "file_content", columnDefinition = "LONGBLOB")
-    private byte[] fileContent;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * Codec the content is kept in by the document content store; {@code null} on legacy rows means identity.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_codec", length = 16)
+    private DocumentContentCodec contentCodec;
 
     @CreatedDate
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
-    public Document(UUID caseId, UUID uploadedBy, String filename, String fileUrl, Long fileSize, String fileType, byte[] fileContent) {
+    public Document(UUID caseId, UUID uploadedBy, String filename, String fileUrl, Long fileSize, String fileType,
+                    String contentHash, DocumentContentCodec contentCodec) {
         this.caseId = caseId;
         this.uploadedBy = uploadedBy;
         this.filename = filename;
         this.fileUrl = fileUrl;
         this.fileSize = fileSize;
         this.fileType = fileType;
-        this.fileContent = fileContent;
+        this.contentHash = contentHash;
+        this.contentCodec = contentCodec;
     }
 }
 
@@ -0,0 +1,38 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity tracking how many documents reference a piece of content in the document content store.
+ * <p>
+ * Identical bytes are stored once and shared by every {@link Document} with the same content hash.
+ * Rows are created when content is stored, before any document references it, and content whose
+ * count stays at zero for longer than a grace period is removed by a background sweep.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "document_contents", indexes = {
+        @Index(name = "idx_document_contents_reference_count", columnList = "reference_count, updated_at")
+})
+public class DocumentContent {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "reference_count", nullable = false)
+    private Long referenceCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Legacy inline content of a {@link Document}, mapped onto the same {@code documents} row.
+ * <p>
+ * Keeping the blob out of {@link Document} means loading a document never fetches its content;
+ * the column is only read by the content migration and by downloads of rows not yet migrated.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "documents")
+public class DocumentInlineContent {
+
+    @Id
+    private UUID id;
+
+    @Lob
+    @Column(name = "file_content", columnDefinition = "LONGBLOB")
+    private byte[] fileContent;
+}
@@ -28,7 +28,11 @@ import java.util.UUID;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "invitations")
+@Table(name = "invitations", indexes = {
+        @Index(name = "idx_invitations_lawyer_case", columnList = "lawyer_id, case_id"),
+        @Index(name = "idx_invitations_case_status", columnList = "case_id, status"),
+        @Index(name = "idx_invitations_case_created_at_id", columnList = "case_id, created_at, id")
+})
 @EqualsAndHashCode(callSuper = true, exclude = "legalCase")
 public class Invitation extends AuditableModel {
 
@@ -36,7 +40,9 @@ public class Invitation extends AuditableModel {
      * Unique identifier for the invitation.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "invitation_ids")
+    @TableGenerator(name = "invitation_ids", table = "id_generators", pkColumnName = "entity",
+            valueColumnName = "next_id", pkColumnValue = "invitations", allocationSize = 50)
     private Long id;
 
     /**
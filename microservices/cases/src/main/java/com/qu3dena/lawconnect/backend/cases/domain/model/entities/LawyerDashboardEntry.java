@@ -0,0 +1,128 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Entity of the lawyer dashboard read model: what a lawyer's landing page shows about one case.
+ * <p>
+ * There is one row per lawyer and case the lawyer is related to, through an invitation, an application
+ * or an assignment. Rows are denormalized copies refreshed from the domain events of the case, so the
+ * dashboard of a lawyer is read from this table alone.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "lawyer_dashboard", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lawyer_dashboards_lawyer_case", columnNames = {"lawyer_id", "case_id"})
+}, indexes = {
+        @Index(name = "idx_lawyer_dashboards_lawyer_updated_at", columnList = "lawyer_id, case_updated_at"),
+        @Index(name = "idx_lawyer_dashboards_case", columnList = "case_id")
+})
+public class LawyerDashboardEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lawyer_id", nullable = false)
+    private UUID lawyerId;
+
+    @Column(name = "case_id", nullable = false)
+    private UUID caseId;
+
+    @Column(name = "case_title")
+    private String caseTitle;
+
+    @Column(name = "client_id", nullable = false)
+    private UUID clientId;
+
+    @Column(name = "specialty_id")
+    private Long specialtyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "case_status", nullable = false)
+    private CaseStatus caseStatus;
+
+    /**
+     * Whether the lawyer is the one assigned to the case.
+     */
+    @Column(nullable = false)
+    private boolean assigned;
+
+    @Column(name = "invitation_id")
+    private Long invitationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "invitation_status")
+    private InvitationStatus invitationStatus;
+
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "application_status")
+    private ApplicationStatus applicationStatus;
+
+    /**
+     * The latest final review comment of the case, only kept for the assigned lawyer.
+     */
+    @Column(name = "final_comment_id")
+    private Long finalCommentId;
+
+    @Column(name = "final_comment")
+    private String finalComment;
+
+    @Column(name = "final_comment_at")
+    private Date finalCommentAt;
+
+    @Column(name = "case_created_at")
+    private Date caseCreatedAt;
+
+    @Column(name = "case_updated_at")
+    private Date caseUpdatedAt;
+
+    public LawyerDashboardEntry(UUID lawyerId, UUID caseId) {
+        this.lawyerId = lawyerId;
+        this.caseId = caseId;
+    }
+
+    /**
+     * Copies the current state of the case and of the lawyer's relation to it.
+     *
+     * @param legalCase    the case
+     * @param invitation   the latest invitation of the lawyer to the case, or {@code null}
+     * @param application  the latest application of the lawyer to the case, or {@code null}
+     * @param finalComment the latest final review comment of the case, or {@code null}
+     */
+    public void refresh(CaseAggregate legalCase, Invitation invitation, Application application, Comment finalComment) {
+        this.caseTitle = legalCase.getTitle() != null ? legalCase.getTitle().text() : null;
+        this.clientId = legalCase.getClientId();
+        this.specialtyId = legalCase.getSpecialtyId();
+        this.caseStatus = legalCase.getCurrentStatus();
+        this.assigned = lawyerId.equals(legalCase.getAssignedLawyerId());
+        this.caseCreatedAt = legalCase.getCreatedAt();
+        this.caseUpdatedAt = legalCase.getUpdatedAt();
+
+        this.invitationId = invitation != null ? invitation.getId() : null;
+        this.invitationStatus = invitation != null ? invitation.getStatus() : null;
+
+        this.applicationId = application != null ? application.getId() : null;
+        this.applicationStatus = application != null ? application.getStatus() : null;
+
+        var keptComment = assigned ? finalComment : null;
+        this.finalCommentId = keptComment != null ? keptComment.getId() : null;
+        this.finalComment = keptComment != null ? keptComment.getText().comment() : null;
+        this.finalCommentAt = keptComment != null ? keptComment.getCreatedAt() : null;
+    }
+}
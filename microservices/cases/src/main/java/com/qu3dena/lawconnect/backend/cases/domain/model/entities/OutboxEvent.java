@@ -0,0 +1,82 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.entities;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.OutboxEventStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entity recording a domain event in the transactional outbox.
+ * <p>
+ * The row is written in the same transaction as the change that raised the event, so the event exists
+ * if and only if the change committed. A background dispatcher publishes pending rows afterwards,
+ * retrying failures with backoff and keeping the order of the events of each case, which is the order of
+ * their {@code sequenceNumber}.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_aggregate_sequence", columnList = "status, aggregate_id, sequence_number, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The case the event is about.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    /**
+     * The position of the event among the events of its case, in the order their transactions committed;
+     * events of the same case are dispatched in this order. Unlike {@code id}, which is assigned on insert,
+     * it cannot be overtaken by a transaction that inserts later but commits first.
+     */
+    @Column(name = "sequence_number", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long sequenceNumber;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public OutboxEvent(UUID aggregateId, long sequenceNumber, String eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.sequenceNumber = sequenceNumber;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
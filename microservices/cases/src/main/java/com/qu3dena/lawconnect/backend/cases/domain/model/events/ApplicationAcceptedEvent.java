@@ -16,5 +16,5 @@ public record ApplicationAcceptedEvent(
         UUID caseId,
         Long applicationId,
         UUID clientId
-) {
+) implements CaseDomainEvent {
 }
@@ -16,5 +16,5 @@ public record ApplicationRejectedEvent(
         UUID caseId,
         Long applicationId,
         UUID clientId
-) {
+) implements CaseDomainEvent {
 }
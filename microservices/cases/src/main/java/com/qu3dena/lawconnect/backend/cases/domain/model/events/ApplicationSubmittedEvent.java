@@ -16,5 +16,5 @@ public record ApplicationSubmittedEvent(
         UUID caseId,
         Long applicationId,
         UUID lawyerId
-) {
+) implements CaseDomainEvent {
 }
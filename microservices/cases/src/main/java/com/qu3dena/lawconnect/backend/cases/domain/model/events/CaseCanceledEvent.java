@@ -9,5 +9,5 @@ import java.util.UUID;
  * @author LawConnect Team
  * @since 1.0
  */
-public record CaseCanceledEvent(UUID caseId, UUID clientId) {
+public record CaseCanceledEvent(UUID caseId, UUID clientId) implements CaseDomainEvent {
 }
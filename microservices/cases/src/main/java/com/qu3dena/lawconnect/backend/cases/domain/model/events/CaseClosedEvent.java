@@ -13,5 +13,5 @@ import java.util.UUID;
 public record CaseClosedEvent(
         UUID caseId,
         UUID clientId
-) {
+) implements CaseDomainEvent {
 }
@@ -11,5 +11,5 @@ import java.util.UUID;
  * @author LawConnect Team
  * @since 1.0
  */
-public record CaseCreatedEvent(UUID caseId, UUID clientId) {
+public record CaseCreatedEvent(UUID caseId, UUID clientId) implements CaseDomainEvent {
 }
@@ -0,0 +1,22 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * Domain event about a case, delivered through the transactional outbox.
+ * <p>
+ * Events of the same case are delivered in the order their transactions committed.
+ * </p>
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public interface CaseDomainEvent {
+
+    /**
+     * Returns the case the event is about.
+     *
+     * @return the unique identifier of the case
+     */
+    UUID caseId();
+}
@@ -0,0 +1,16 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Event representing a message sent in a case.
+ *
+ * @param messageId the unique identifier of the message
+ * @param caseId    the unique identifier of the case
+ * @param senderId  the unique identifier of the sender
+ * @param content   the text of the message
+ * @param createdAt the timestamp when the message was sent
+ */
+public record CaseMessageSentEvent(UUID messageId, UUID caseId, UUID senderId, String content, LocalDateTime createdAt) {
+}
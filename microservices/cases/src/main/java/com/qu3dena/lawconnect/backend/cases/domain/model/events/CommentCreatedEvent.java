@@ -16,5 +16,5 @@ public record CommentCreatedEvent(
         UUID caseId,
         Long commentId,
         UUID authorId
-) {
+) implements CaseDomainEvent {
 }
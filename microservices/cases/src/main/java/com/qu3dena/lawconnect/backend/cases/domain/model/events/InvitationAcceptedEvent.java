@@ -16,5 +16,5 @@ public record InvitationAcceptedEvent(
         UUID caseId,
         Long invitationId,
         UUID lawyerId
-) {
+) implements CaseDomainEvent {
 }
@@ -16,5 +16,5 @@ public record InvitationRejectedEvent(
         UUID caseId,
         Long invitationId,
         UUID lawyerId
-) {
+) implements CaseDomainEvent {
 }
@@ -18,5 +18,5 @@ public record LawyerInvitedEvent(
         Long invitationId,
         UUID clientId,
         UUID lawyerId
-) {
+) implements CaseDomainEvent {
 }
@@ -0,0 +1,40 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One page of the message history of a case.
+ *
+ * @param items      the messages of the page, oldest first
+ * @param nextCursor the position to continue reading from, or {@code null} when there are no more pages
+ */
+public record CaseMessagePage(List<CaseMessage> items, CaseMessageCursor nextCursor) {
+
+    /**
+     * Builds a page from messages fetched with one extra message beyond the requested size.
+     *
+     * @param rows the fetched messages, in reading order, at most {@code size + 1}
+     * @param size the requested page size
+     * @return the page, still in reading order
+     */
+    public static CaseMessagePage of(List<CaseMessage> rows, int size) {
+        if (rows.size() <= size)
+            return new CaseMessagePage(rows, null);
+
+        var items = rows.subList(0, size);
+        return new CaseMessagePage(items, items.get(size - 1).cursor());
+    }
+
+    /**
+     * Returns the cursor of the next page, if any.
+     *
+     * @return an optional containing the next cursor
+     */
+    public Optional<CaseMessageCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of the users taking part in the conversation of a case.
+ *
+ * @param clientId         the unique identifier of the client of the case
+ * @param assignedLawyerId the unique identifier of the lawyer assigned to the case (nullable)
+ */
+public record CaseParticipants(UUID clientId, UUID assignedLawyerId) {
+}
@@ -0,0 +1,14 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+
+import java.util.List;
+
+/**
+ * One page of the results of a case search.
+ *
+ * @param items      the matching cases of the page, most relevant first
+ * @param nextCursor the position of the last result, or {@code null} when there are no more pages
+ */
+public record CaseSearchPage(List<CaseSummaryView> items, CaseSearchCursor nextCursor) {
+}
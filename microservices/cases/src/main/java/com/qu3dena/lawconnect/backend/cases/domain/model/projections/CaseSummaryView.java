@@ -0,0 +1,41 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a legal case used by listing queries.
+ * <p>
+ * It is built straight from the columns of the {@code cases} table, reading the status from
+ * {@code current_status}, so it never touches the invitations, applications, comments or
+ * state history of the case.
+ * </p>
+ *
+ * @param id               the unique identifier of the case
+ * @param title            the title of the case
+ * @param description      the description of the case
+ * @param clientId         the unique identifier of the client associated with the case
+ * @param assignedLawyerId the unique identifier of the lawyer assigned to the case (nullable)
+ * @param specialtyId      the ID of the legal specialty required for this case (nullable)
+ * @param currentStatus    the current status of the case
+ * @param createdAt        the timestamp when the case was created
+ * @param updatedAt        the timestamp when the case was last updated
+ * @param version          the version of the case, incremented by every update
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public record CaseSummaryView(
+        UUID id,
+        String title,
+        String description,
+        UUID clientId,
+        UUID assignedLawyerId,
+        Long specialtyId,
+        CaseStatus currentStatus,
+        Date createdAt,
+        Date updatedAt,
+        Long version
+) {
+}
@@ -0,0 +1,36 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineEntryType;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Read-only projection of one activity in the timeline of a case.
+ *
+ * @param type     the kind of activity
+ * @param at       when the activity happened
+ * @param sourceId the identifier of the state, comment, message, document, invitation or application
+ * @param actorId  the user who performed the activity, or {@code null} for status changes
+ * @param detail   the status, text or filename describing the activity
+ */
+public record CaseTimelineEntry(CaseTimelineEntryType type, Instant at, String sourceId, UUID actorId, String detail) {
+
+    /**
+     * Timeline order across kinds: by timestamp, then by kind. Entries of the same kind keep the order
+     * of their own source, so ties within a kind are never compared here.
+     */
+    public static final Comparator<CaseTimelineEntry> TIMELINE_ORDER =
+            Comparator.comparing(CaseTimelineEntry::at).thenComparing(CaseTimelineEntry::type);
+
+    /**
+     * Returns the timeline position of this entry.
+     *
+     * @return the cursor pointing at this entry
+     */
+    public CaseTimelineCursor cursor() {
+        return new CaseTimelineCursor(at, type, sourceId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineCursor;
+
+import java.util.List;
+
+/**
+ * One page of the timeline of a case.
+ *
+ * @param items      the entries of the page, oldest first
+ * @param nextCursor the position of the last entry, or {@code null} when there are no more pages
+ */
+public record CaseTimelinePage(List<CaseTimelineEntry> items, CaseTimelineCursor nextCursor) {
+
+    /**
+     * Builds a page from entries fetched with one extra entry beyond the requested size.
+     *
+     * @param entries the merged entries, at most {@code size + 1}
+     * @param size    the requested page size
+     * @return the page
+     */
+    public static CaseTimelinePage of(List<CaseTimelineEntry> entries, int size) {
+        if (entries.size() <= size)
+            return new CaseTimelinePage(entries, null);
+
+        var items = entries.subList(0, size);
+        return new CaseTimelinePage(items, items.get(size - 1).cursor());
+    }
+}
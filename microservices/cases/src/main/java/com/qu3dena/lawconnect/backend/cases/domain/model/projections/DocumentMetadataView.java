@@ -0,0 +1,34 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a case document without its content.
+ *
+ * @param id           the unique identifier of the document
+ * @param caseId       the unique identifier of the case the document belongs to
+ * @param uploadedBy   the unique identifier of the user who uploaded the document
+ * @param filename     the original filename of the document
+ * @param fileUrl      the URL the document is downloaded from
+ * @param fileSize     the size of the document in bytes
+ * @param fileType     the media type of the document
+ * @param contentHash  the digest of the content in the document content store, or {@code null} for legacy rows
+ * @param contentCodec the codec the content is kept in, or {@code null} for identity
+ * @param uploadedAt   the timestamp when the document was uploaded
+ */
+public record DocumentMetadataView(
+        UUID id,
+        UUID caseId,
+        UUID uploadedBy,
+        String filename,
+        String fileUrl,
+        Long fileSize,
+        String fileType,
+        String contentHash,
+        DocumentContentCodec contentCodec,
+        LocalDateTime uploadedAt
+) {
+}
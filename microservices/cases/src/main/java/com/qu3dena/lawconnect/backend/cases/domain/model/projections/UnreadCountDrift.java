@@ -0,0 +1,24 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of how far the unread counter of a participant in a case is from the unread messages.
+ */
+public interface UnreadCountDrift {
+
+    /**
+     * @return the unique identifier of the participant
+     */
+    UUID getUserId();
+
+    /**
+     * @return the unique identifier of the case
+     */
+    UUID getCaseId();
+
+    /**
+     * @return the unread messages minus the counter value; positive when the counter is too low
+     */
+    long getDelta();
+}
@@ -0,0 +1,23 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+/**
+ * Page size limits shared by the paginated case listing queries.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public final class CasePageSize {
+
+    /**
+     * The page size used when the client does not request one.
+     */
+    public static final int DEFAULT = 20;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX = 100;
+
+    private CasePageSize() {
+    }
+}
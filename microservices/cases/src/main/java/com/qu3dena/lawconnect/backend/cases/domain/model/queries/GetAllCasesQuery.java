@@ -1,10 +1,19 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+
 /**
- * Query to retrieve all applications for a specific case.
+ * Query to retrieve one page of all cases, newest first.
  *
- * @since 1.0
+ * @param after the cursor of the previous page, or {@code null} for the first page
+ * @param size  the maximum number of cases to return
  * @author LawConnect Team
+ * @since 1.0
  */
-public record GetAllCasesQuery() {
+public record GetAllCasesQuery(KeysetCursor after, int size) {
+
+    public GetAllCasesQuery {
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
 }
@@ -1,14 +1,26 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineCursor;
+
 import java.util.UUID;
 
 /**
- * Query to retrieve the timeline of a specific case.
+ * Query to retrieve one page of the timeline of a specific case, oldest first.
  *
  * @param caseId the unique identifier of the case whose timeline is being requested
+ * @param after  the position of the last entry of the previous page, or {@code null} for the first page
+ * @param size   the maximum number of entries to return
  *
  * @author LawConnect Team
  * @since 1.0
  */
-public record GetCaseTimelineQuery(UUID caseId) {
+public record GetCaseTimelineQuery(UUID caseId, CaseTimelineCursor after, int size) {
+
+    public GetCaseTimelineQuery {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
+
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
 }
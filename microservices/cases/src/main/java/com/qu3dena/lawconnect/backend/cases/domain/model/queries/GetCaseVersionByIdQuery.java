@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to retrieve the current version of a case by its ID.
+ *
+ * @param caseId the ID of the case
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public record GetCaseVersionByIdQuery(UUID caseId) {
+}
@@ -1,13 +1,25 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+
 import java.util.UUID;
 
 /**
- * Query to retrieve cases associated with a specific client.
+ * Query to retrieve one page of cases associated with a specific client, newest first.
  *
  * @param clientId the ID of the client whose cases are being retrieved
+ * @param after    the cursor of the previous page, or {@code null} for the first page
+ * @param size     the maximum number of cases to return
  * @author LawConnect Team
  * @since 1.0
  */
-public record GetCasesByClientIdQuery(UUID clientId) {
+public record GetCasesByClientIdQuery(UUID clientId, KeysetCursor after, int size) {
+
+    public GetCasesByClientIdQuery {
+        if (clientId == null)
+            throw new IllegalArgumentException("Client ID cannot be null");
+
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
 }
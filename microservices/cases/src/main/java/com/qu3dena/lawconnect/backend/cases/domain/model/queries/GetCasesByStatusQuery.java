@@ -1,13 +1,24 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
 
 /**
- * Query to retrieve cases based on their status.
+ * Query to retrieve one page of cases based on their status, newest first.
  *
  * @param status the status of the cases to be retrieved
+ * @param after  the cursor of the previous page, or {@code null} for the first page
+ * @param size   the maximum number of cases to return
  * @author LawConnect Team
  * @since 1.0
  */
-public record GetCasesByStatusQuery(CaseStatus status) {
+public record GetCasesByStatusQuery(CaseStatus status, KeysetCursor after, int size) {
+
+    public GetCasesByStatusQuery {
+        if (status == null)
+            throw new IllegalArgumentException("Status cannot be null");
+
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
 }
@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+
+/**
+ * Query for the original bytes of stored document content.
+ *
+ * @param contentHash the digest of the content
+ * @param codec       the codec the content is kept in, or {@code null} for identity
+ * @param size        the size of the original content in bytes
+ */
+public record GetDocumentContentQuery(String contentHash, DocumentContentCodec codec, long size) {
+}
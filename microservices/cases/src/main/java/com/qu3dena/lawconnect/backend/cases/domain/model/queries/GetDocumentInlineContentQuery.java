@@ -0,0 +1,6 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetDocumentInlineContentQuery(UUID documentId) {
+}
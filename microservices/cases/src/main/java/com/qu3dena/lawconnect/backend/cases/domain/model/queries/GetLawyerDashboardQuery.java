@@ -0,0 +1,16 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to retrieve the dashboard of a specific lawyer.
+ *
+ * @param lawyerId the unique identifier of the lawyer
+ */
+public record GetLawyerDashboardQuery(UUID lawyerId) {
+
+    public GetLawyerDashboardQuery {
+        if (lawyerId == null)
+            throw new IllegalArgumentException("Lawyer ID cannot be null");
+    }
+}
@@ -1,7 +1,31 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
+
 import java.util.UUID;
 
-public record GetMessagesByCaseIdQuery(UUID caseId) {
-}
+/**
+ * Query to retrieve one page of the message history of a case, oldest first within the page.
+ * <p>
+ * Without cursors the page holds the latest messages. With {@code before} it holds the messages
+ * preceding that position and with {@code after} the messages following it, in the order they committed.
+ * </p>
+ *
+ * @param caseId the ID of the case
+ * @param before the position to read older messages from, or {@code null}
+ * @param after  the position to read newer messages from, or {@code null}
+ * @param size   the maximum number of messages to return
+ */
+public record GetMessagesByCaseIdQuery(UUID caseId, CaseMessageCursor before, CaseMessageCursor after, int size) {
+
+    public GetMessagesByCaseIdQuery {
+        if (caseId == null)
+            throw new IllegalArgumentException("Case ID cannot be null");
 
+        if (before != null && after != null)
+            throw new IllegalArgumentException("Only one of before and after can be given");
+
+        if (size < 1 || size > MessagePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MessagePageSize.MAX);
+    }
+}
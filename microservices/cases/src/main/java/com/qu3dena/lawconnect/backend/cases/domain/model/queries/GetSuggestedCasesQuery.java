@@ -1,13 +1,36 @@
 package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
 
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Query to retrieve suggested cases for a specific lawyer.
+ * Query to retrieve one page of suggested cases for a specific lawyer, newest first.
  *
- * @param lawyerId the ID of the lawyer for whom suggested cases are being retrieved
+ * @param lawyerId     the ID of the lawyer for whom suggested cases are being retrieved
+ * @param specialtyIds the IDs of the specialties to restrict the suggestions to, empty for any specialty
+ * @param after        the cursor of the previous page, or {@code null} for the first page
+ * @param size         the maximum number of cases to return
  * @author LawConnect Team
  * @since 1.0
  */
-public record GetSuggestedCasesQuery(UUID lawyerId) {
+public record GetSuggestedCasesQuery(UUID lawyerId, Set<Long> specialtyIds, KeysetCursor after, int size) {
+
+    /**
+     * The largest number of specialties a suggestion query may be restricted to.
+     */
+    public static final int MAX_SPECIALTIES = 50;
+
+    public GetSuggestedCasesQuery {
+        if (lawyerId == null)
+            throw new IllegalArgumentException("Lawyer ID cannot be null");
+
+        specialtyIds = specialtyIds == null ? Set.of() : Set.copyOf(specialtyIds);
+        if (specialtyIds.size() > MAX_SPECIALTIES)
+            throw new IllegalArgumentException("Suggestions can be restricted to at most " + MAX_SPECIALTIES + " specialties");
+
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
 }
@@ -0,0 +1,11 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetUnreadCountsByUserIdQuery(UUID userId) {
+
+    public GetUnreadCountsByUserIdQuery {
+        if (userId == null)
+            throw new IllegalArgumentException("User ID cannot be null");
+    }
+}
@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+/**
+ * Page size limits of the paginated message history of a case.
+ */
+public final class MessagePageSize {
+
+    /**
+     * The page size used when the client does not request one.
+     */
+    public static final int DEFAULT = 50;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX = 200;
+
+    private MessagePageSize() {
+    }
+}
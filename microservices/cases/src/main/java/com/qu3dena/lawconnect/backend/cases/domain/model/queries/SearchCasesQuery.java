@@ -0,0 +1,35 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.queries;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+
+/**
+ * Query to search cases by the words of their title and description, most relevant first.
+ *
+ * @param text        the words to search for
+ * @param status      the status to restrict the results to, or {@code null} for any status
+ * @param specialtyId the specialty to restrict the results to, or {@code null} for any specialty
+ * @param after       the position of the last result of the previous page, or {@code null} for the first page
+ * @param size        the maximum number of cases to return
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public record SearchCasesQuery(String text, CaseStatus status, Long specialtyId, CaseSearchCursor after, int size) {
+
+    /**
+     * The longest search text accepted.
+     */
+    public static final int MAX_TEXT_LENGTH = 256;
+
+    public SearchCasesQuery {
+        if (text == null || text.isBlank())
+            throw new IllegalArgumentException("Search text cannot be null or blank");
+
+        if (text.length() > MAX_TEXT_LENGTH)
+            throw new IllegalArgumentException("Search text cannot be longer than " + MAX_TEXT_LENGTH + " characters");
+
+        if (size < 1 || size > CasePageSize.MAX)
+            throw new IllegalArgumentException("Page size must be between 1 and " + CasePageSize.MAX);
+    }
+}
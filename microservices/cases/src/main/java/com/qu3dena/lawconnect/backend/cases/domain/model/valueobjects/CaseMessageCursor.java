@@ -0,0 +1,109 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a position in the message history of a case.
+ * <p>
+ * Messages are ordered by their sequence number within the case, which is given in the order their
+ * transactions commit, so a client reading forward from a cursor never skips a message that committed
+ * after it read. Messages stored before sequence numbers were introduced share sequence number zero and
+ * are ordered among themselves by creation time and identifier. It travels to clients as an opaque
+ * URL-safe token.
+ * </p>
+ *
+ * @param sequenceNumber the sequence number of the message within its case
+ * @param createdAt      the creation timestamp of the message
+ * @param id             the identifier of the message
+ */
+public record CaseMessageCursor(long sequenceNumber, Instant createdAt, UUID id) implements Comparable<CaseMessageCursor> {
+
+    /**
+     * The position before the first message of any case.
+     */
+    public static final CaseMessageCursor START = new CaseMessageCursor(0, Instant.EPOCH, new UUID(0, 0));
+
+    private static final Comparator<CaseMessageCursor> HISTORY_ORDER = Comparator
+            .comparingLong(CaseMessageCursor::sequenceNumber)
+            .thenComparing(CaseMessageCursor::createdAt)
+            .thenComparing(CaseMessageCursor::id, (a, b) -> {
+                // Identifiers are compared as the database compares BINARY(16) columns
+                int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    private static final int ENCODED_LENGTH = Long.BYTES * 3 + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Constructs a {@code CaseMessageCursor} value object.
+     *
+     * @param sequenceNumber the sequence number of the message within its case
+     * @param createdAt      the creation timestamp of the message
+     * @param id             the identifier of the message
+     */
+    public CaseMessageCursor {
+        if (sequenceNumber < 0)
+            throw new IllegalArgumentException("Cursor sequence number cannot be negative");
+        Objects.requireNonNull(createdAt, "Cursor timestamp cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    /**
+     * Compares two positions in the order of the message history.
+     *
+     * @param other the other position
+     * @return a negative number, zero or a positive number as this position is before, at or after the other
+     */
+    @Override
+    public int compareTo(CaseMessageCursor other) {
+        return HISTORY_ORDER.compare(this, other);
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token representing this cursor
+     */
+    public String encode() {
+        var buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(sequenceNumber)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CaseMessageCursor decode(String token) {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("Cursor cannot be null or blank");
+
+        try {
+            var bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_LENGTH)
+                throw new IllegalArgumentException("Invalid cursor");
+
+            var buffer = ByteBuffer.wrap(bytes);
+            long sequenceNumber = buffer.getLong();
+            var createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new CaseMessageCursor(sequenceNumber, createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a position in the ranked results of a case search.
+ * <p>
+ * Results are ordered by descending relevance score and then by case identifier, so the position of the
+ * last result of a page is its score and identifier. Scores depend on the statistics of the whole index,
+ * so cases indexed between two requests may shift results across pages, as with any ranked search.
+ * It travels to clients as an opaque URL-safe token.
+ * </p>
+ *
+ * @param score  the relevance score of the last result of the page
+ * @param caseId the identifier of the last result of the page, used to break score ties
+ */
+public record CaseSearchCursor(float score, UUID caseId) {
+
+    private static final int ENCODED_LENGTH = Float.BYTES + Long.BYTES * 2;
+
+    /**
+     * Constructs a {@code CaseSearchCursor} value object.
+     *
+     * @param score  the relevance score of the last result of the page
+     * @param caseId the identifier of the last result of the page
+     */
+    public CaseSearchCursor {
+        if (Float.isNaN(score))
+            throw new IllegalArgumentException("Cursor score must be a number");
+        Objects.requireNonNull(caseId, "Cursor id cannot be null");
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token representing this cursor
+     */
+    public String encode() {
+        var buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putFloat(score)
+                .putLong(caseId.getMostSignificantBits())
+                .putLong(caseId.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CaseSearchCursor decode(String token) {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("Cursor cannot be null or blank");
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (bytes.length != ENCODED_LENGTH)
+            throw new IllegalArgumentException("Invalid cursor");
+
+        var buffer = ByteBuffer.wrap(bytes);
+        var score = buffer.getFloat();
+        if (Float.isNaN(score))
+            throw new IllegalArgumentException("Invalid cursor");
+
+        return new CaseSearchCursor(score, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Value object representing a position in the timeline of a case.
+ * <p>
+ * Timeline entries come from several tables, so besides the timestamp the position carries the kind of
+ * the entry, which orders entries recorded at the same instant, and its identifier within that kind.
+ * It travels to clients as an opaque URL-safe token.
+ * </p>
+ *
+ * @param at       the timestamp of the last entry of the page
+ * @param type     the kind of the last entry of the page
+ * @param sourceId the identifier of the last entry of the page within its kind
+ */
+public record CaseTimelineCursor(Instant at, CaseTimelineEntryType type, String sourceId) {
+
+    /**
+     * Constructs a {@code CaseTimelineCursor} value object.
+     *
+     * @param at       the timestamp of the last entry of the page
+     * @param type     the kind of the last entry of the page
+     * @param sourceId the identifier of the last entry of the page within its kind
+     */
+    public CaseTimelineCursor {
+        Objects.requireNonNull(at, "Cursor timestamp cannot be null");
+        Objects.requireNonNull(type, "Cursor type cannot be null");
+        Objects.requireNonNull(sourceId, "Cursor id cannot be null");
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token representing this cursor
+     */
+    public String encode() {
+        var id = sourceId.getBytes(StandardCharsets.UTF_8);
+        var buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + 1 + id.length)
+                .putLong(at.getEpochSecond())
+                .putInt(at.getNano())
+                .put((byte) type.ordinal())
+                .put(id);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CaseTimelineCursor decode(String token) {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("Cursor cannot be null or blank");
+
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            var at = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            var types = CaseTimelineEntryType.values();
+            int ordinal = buffer.get();
+            if (ordinal < 0 || ordinal >= types.length || !buffer.hasRemaining())
+                throw new IllegalArgumentException("Invalid cursor");
+
+            var id = new byte[buffer.remaining()];
+            buffer.get(id);
+            return new CaseTimelineCursor(at, types[ordinal], new String(id, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+/**
+ * Kinds of activity shown in the timeline of a case.
+ * <p>
+ * The declaration order breaks ties between entries of different kinds recorded at the same instant.
+ * </p>
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public enum CaseTimelineEntryType {
+    STATE,
+    INVITATION,
+    APPLICATION,
+    COMMENT,
+    MESSAGE,
+    DOCUMENT
+}
@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+/**
+ * Enumeration of the encodings document content can be kept in by the document content store.
+ * <p>
+ * The codec only affects how the bytes are kept; the content hash and the size of a document
+ * always refer to the original bytes, and downloads are always served decoded.
+ * </p>
+ */
+public enum DocumentContentCodec {
+    /**
+     * The content is kept as uploaded.
+     */
+    IDENTITY,
+
+    /**
+     * The content is kept as a zlib deflate stream.
+     */
+    DEFLATE
+}
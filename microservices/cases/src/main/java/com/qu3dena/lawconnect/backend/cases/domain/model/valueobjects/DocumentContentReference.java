@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+/**
+ * Reference to document content kept in the document content store.
+ *
+ * @param contentHash the lowercase hex SHA-256 digest of the content
+ * @param size        the size of the original content in bytes
+ * @param codec       the codec the content is kept in
+ */
+public record DocumentContentReference(String contentHash, long size, DocumentContentCodec codec) {
+
+    public DocumentContentReference {
+        if (contentHash == null || contentHash.isBlank())
+            throw new IllegalArgumentException("Content hash cannot be null or blank");
+        if (size < 0)
+            throw new IllegalArgumentException("Content size cannot be negative");
+        if (codec == null)
+            throw new IllegalArgumentException("Content codec cannot be null");
+    }
+}
@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+/**
+ * Delivery status of an event recorded in the outbox.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public enum OutboxEventStatus {
+    PENDING,
+    DISPATCHED,
+    FAILED
+}
@@ -0,0 +1,30 @@
+package com.qu3dena.lawconnect.backend.cases.domain.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+
+/**
+ * Domain service deciding how a case under evaluation moves on once a lawyer response is settled.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public interface CaseEvaluationService {
+
+    /**
+     * Checks whether the case still awaits lawyer responses, that is, whether it has
+     * pending invitations or submitted applications.
+     *
+     * @param legalCase the case to check
+     * @return true if at least one invitation or application is still awaiting a response
+     */
+    boolean hasPendingResponses(CaseAggregate legalCase);
+
+    /**
+     * Reopens the case when no invitation or application is awaiting a response anymore;
+     * otherwise the case stays in EVALUATION.
+     *
+     * @param legalCase the case under evaluation
+     * @return true if the case was reopened, false if it stays in EVALUATION
+     */
+    boolean reopenIfNoPendingResponses(CaseAggregate legalCase);
+}
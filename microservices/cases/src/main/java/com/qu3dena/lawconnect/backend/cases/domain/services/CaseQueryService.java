@@ -1,7 +1,8 @@
 package com.qu3dena.lawconnect.backend.cases.domain.services;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.*;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.CursorPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,50 +16,58 @@ import java.util.Optional;
 public interface CaseQueryService {
 
     /**
-     * Handles the retrieval of all cases.
+     * Handles the retrieval of one page of all cases.
      *
-     * @param query the query to retrieve all cases
-     * @return a list of all case aggregates
+     * @param query the query containing the cursor and size of the page
+     * @return the page of case summaries, newest first
      */
-    List<CaseAggregate> handle(GetAllCasesQuery query);
+    CursorPage<CaseSummaryView> handle(GetAllCasesQuery query);
 
     /**
      * Handles the retrieval of a case by its ID.
      *
      * @param query the query containing the ID of the case to be retrieved
-     * @return an optional containing the case aggregate if found, or empty if not found
+     * @return an optional containing the snapshot of the case if found, or empty if not found
      */
-    Optional<CaseAggregate> handle(GetCaseByIdQuery query);
+    Optional<CaseSummaryView> handle(GetCaseByIdQuery query);
 
     /**
-     * Handles the retrieval of suggested cases for a specific lawyer.
+     * Handles the retrieval of the version of a case by its ID, without loading the case.
+     *
+     * @param query the query containing the ID of the case
+     * @return an optional containing the version of the case if found, or empty if not found
+     */
+    Optional<Long> handle(GetCaseVersionByIdQuery query);
+
+    /**
+     * Handles the retrieval of one page of suggested cases for a specific lawyer.
      *
      * @param query the query containing the details of the lawyer for whom suggested cases are being retrieved
-     * @return a list of suggested case aggregates
+     * @return the page of suggested case summaries, newest first
      */
-    List<CaseAggregate> handle(GetSuggestedCasesQuery query);
+    CursorPage<CaseSummaryView> handle(GetSuggestedCasesQuery query);
 
     /**
      * Handles the retrieval of cases associated with a specific client.
      *
      * @param query the query containing the details of the client whose cases are being retrieved
-     * @return a list of case aggregates associated with the specified client
+     * @return the page of case summaries associated with the specified client, newest first
      */
-    List<CaseAggregate> handle(GetCasesByClientIdQuery query);
+    CursorPage<CaseSummaryView> handle(GetCasesByClientIdQuery query);
 
     /**
      * Handles the retrieval of cases by their status.
      *
      * @param query the query containing the status of the cases to be retrieved
-     * @return a list of case aggregates with the specified status
+     * @return the page of case summaries with the specified status, newest first
      */
-    List<CaseAggregate> handle(GetCasesByStatusQuery query);
+    CursorPage<CaseSummaryView> handle(GetCasesByStatusQuery query);
 
     /**
      * Handles the retrieval of cases associated with a specific lawyer.
      *
      * @param query the query containing the ID of the lawyer whose cases are being retrieved
-     * @return a list of case aggregates associated with the specified lawyer
+     * @return a list of case summaries associated with the specified lawyer
      */
-    List<CaseAggregate> handle(GetCasesByLawyerIdQuery query);
+    List<CaseSummaryView> handle(GetCasesByLawyerIdQuery query);
 }
@@ -0,0 +1,21 @@
+package com.qu3dena.lawconnect.backend.cases.domain.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSearchPage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.SearchCasesQuery;
+
+/**
+ * Service interface for the full-text search of cases.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public interface CaseSearchQueryService {
+
+    /**
+     * Handles the retrieval of one page of the cases matching a search.
+     *
+     * @param query the query containing the search text, the filters, the cursor and the size of the page
+     * @return the page of matching cases, most relevant first
+     */
+    CaseSearchPage handle(SearchCasesQuery query);
+}
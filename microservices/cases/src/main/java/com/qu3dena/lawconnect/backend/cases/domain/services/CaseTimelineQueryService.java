@@ -0,0 +1,21 @@
+package com.qu3dena.lawconnect.backend.cases.domain.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseTimelinePage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetCaseTimelineQuery;
+
+/**
+ * Service interface for reading the merged activity timeline of a case.
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public interface CaseTimelineQueryService {
+
+    /**
+     * Handles the retrieval of one page of the timeline of a case.
+     *
+     * @param query the query containing the case, the cursor and the size of the page
+     * @return the page of timeline entries, oldest first
+     */
+    CaseTimelinePage handle(GetCaseTimelineQuery query);
+}
@@ -1,11 +1,62 @@
 package com.qu3dena.lawconnect.backend.cases.domain.services;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.BackfillDocumentContentReferencesCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteCaseDocumentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MigrateDocumentContentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RegisterDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.StoreDocumentContentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SweepOrphanedDocumentContentsCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.UploadDocumentCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentReference;
 
 import java.util.Optional;
 
 public interface DocumentCommandService {
     Optional<Document> handle(UploadDocumentCommand command);
-}
 
+    /**
+     * Writes document content to the document content store without recording a document yet.
+     *
+     * @param command the command carrying the content stream
+     * @return the reference to the stored content, to be passed to a {@link RegisterDocumentCommand}
+     */
+    DocumentContentReference handle(StoreDocumentContentCommand command);
+
+    Optional<Document> handle(RegisterDocumentCommand command);
+
+    void handle(DeleteDocumentCommand command);
+
+    /**
+     * Deletes every document of a case, releasing their references to the stored content.
+     *
+     * @param command the command carrying the case ID
+     * @return the number of documents deleted
+     */
+    int handle(DeleteCaseDocumentsCommand command);
+
+    /**
+     * Removes one batch of stored content that has had no references for longer than the grace period.
+     *
+     * @param command the command carrying the grace period and the batch size
+     * @return the number of contents removed; zero once no orphaned content is left
+     */
+    int handle(SweepOrphanedDocumentContentsCommand command);
+
+    /**
+     * Creates the missing reference counts for content referenced by documents recorded before deduplication.
+     *
+     * @param command the backfill command
+     * @return the number of contents whose reference count was created
+     */
+    int handle(BackfillDocumentContentReferencesCommand command);
+
+    /**
+     * Moves one batch of inline document contents out of the database into the document content store.
+     *
+     * @param command the command carrying the batch size
+     * @return the number of documents migrated; zero once no inline content is left
+     */
+    int handle(MigrateDocumentContentsCommand command);
+}
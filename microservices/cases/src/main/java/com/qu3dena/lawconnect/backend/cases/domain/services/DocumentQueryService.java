@@ -1,14 +1,18 @@
 package com.qu3dena.lawconnect.backend.cases.domain.services;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentContentQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentInlineContentQuery;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentsByCaseIdQuery;
+import org.springframework.core.io.Resource;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DocumentQueryService {
-    List<Document> handle(GetDocumentsByCaseIdQuery query);
-    Optional<Document> findByCaseIdAndFileUrl(UUID caseId, String fileUrl);
+    List<DocumentMetadataView> handle(GetDocumentsByCaseIdQuery query);
+    Optional<DocumentMetadataView> findByCaseIdAndFileUrl(UUID caseId, String fileUrl);
+    Optional<Resource> handle(GetDocumentContentQuery query);
+    Optional<byte[]> handle(GetDocumentInlineContentQuery query);
 }
-
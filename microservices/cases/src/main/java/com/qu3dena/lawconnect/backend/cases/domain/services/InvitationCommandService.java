@@ -2,9 +2,11 @@ package com.qu3dena.lawconnect.backend.cases.domain.services;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.AcceptInvitationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyerCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyersCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RejectInvitationCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,4 +37,13 @@ public interface InvitationCommandService {
      * @param command the command containing the details of the invitation.
      */
     Optional<Invitation> handle(InviteLawyerCommand command);
+
+    /**
+     * Handles the invitation of several lawyers to a case at once.
+     * Lawyers already invited to the case are skipped.
+     *
+     * @param command the command containing the case and the lawyers to invite
+     * @return the invitations created, in the order of the command
+     */
+    List<Invitation> handle(InviteLawyersCommand command);
 }
@@ -0,0 +1,23 @@
+package com.qu3dena.lawconnect.backend.cases.domain.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RebuildLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RefreshLawyerDashboardCommand;
+
+public interface LawyerDashboardCommandService {
+
+    /**
+     * Brings the dashboard rows of a case up to date.
+     *
+     * @param command the command carrying the case
+     * @return the number of rows kept for the case
+     */
+    int handle(RefreshLawyerDashboardCommand command);
+
+    /**
+     * Rebuilds the dashboard rows of every case.
+     *
+     * @param command the rebuild command
+     * @return the number of cases refreshed
+     */
+    int handle(RebuildLawyerDashboardCommand command);
+}
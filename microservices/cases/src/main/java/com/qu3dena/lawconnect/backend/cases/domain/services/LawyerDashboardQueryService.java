@@ -0,0 +1,17 @@
+package com.qu3dena.lawconnect.backend.cases.domain.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.LawyerDashboardEntry;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetLawyerDashboardQuery;
+
+import java.util.List;
+
+public interface LawyerDashboardQueryService {
+
+    /**
+     * Handles the retrieval of the dashboard of a lawyer.
+     *
+     * @param query the query containing the lawyer
+     * @return the dashboard rows of the lawyer, most recently updated cases first
+     */
+    List<LawyerDashboardEntry> handle(GetLawyerDashboardQuery query);
+}
@@ -1,5 +1,7 @@
 package com.qu3dena.lawconnect.backend.cases.domain.services;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MarkMessagesReadCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RecountUnreadMessagesCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
 
@@ -7,5 +9,21 @@ import java.util.Optional;
 
 public interface MessageCommandService {
     Optional<CaseMessage> handle(SendMessageCommand command);
-}
 
+    /**
+     * Marks read the messages of a case up to a given message and updates the reader's unread counter.
+     *
+     * @param command the command carrying the case, the reader and the newest message read
+     * @return the number of messages marked read
+     */
+    int handle(MarkMessagesReadCommand command);
+
+    /**
+     * Brings the unread counters of every participant back in line with the messages.
+     * Safe to run while messages are sent and read.
+     *
+     * @param command the recount command
+     * @return the number of counters corrected
+     */
+    int handle(RecountUnreadMessagesCommand command);
+}
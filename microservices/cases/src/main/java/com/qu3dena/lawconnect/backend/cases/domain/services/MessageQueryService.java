@@ -1,11 +1,14 @@
 package com.qu3dena.lawconnect.backend.cases.domain.services;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseUnreadCounter;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseMessagePage;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetMessagesByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetUnreadCountsByUserIdQuery;
 
 import java.util.List;
 
 public interface MessageQueryService {
-    List<CaseMessage> handle(GetMessagesByCaseIdQuery query);
+    CaseMessagePage handle(GetMessagesByCaseIdQuery query);
+    List<CaseUnreadCounter> handle(GetUnreadCountsByUserIdQuery query);
 }
 
@@ -0,0 +1,82 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.generators;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Aligns the pooled identifier generators of the case aggregate with the rows already stored.
+ * <p>
+ * Case states, comments, invitations and applications take their identifiers from the {@code id_generators}
+ * table in blocks of {@link #ALLOCATION_SIZE}, so their inserts can be batched, instead of from the
+ * auto-increment of their tables. Before the service accepts requests, each segment is moved past the highest
+ * identifier of its table, with a margin of two blocks, so identifiers handed out by the auto-increment before
+ * the switch are never reused. A segment already ahead of its table is left untouched.
+ * </p>
+ *
+ * @author LawConnect Team
+ * @since 1.0.0
+ */
+@Component
+public class CaseIdGeneratorsInitializer {
+
+    /**
+     * The number of identifiers reserved per round trip to the {@code id_generators} table, matching the
+     * {@code allocationSize} of the generators of the entities.
+     */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * The tables whose identifiers are generated; each is also the segment of its generator.
+     */
+    private static final List<String> SEGMENTS = List.of("case_states", "comments", "invitations", "applications");
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseIdGeneratorsInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    /**
+     * Constructs the initializer.
+     * <p>
+     * The entity manager factory is only required so that the schema, including the {@code id_generators}
+     * table, is up to date before the generators are aligned.
+     * </p>
+     *
+     * @param jdbcTemplate         the template used to update the generators
+     * @param entityManagerFactory the entity manager factory the schema is updated by
+     * @param enabled              whether the generators are aligned on startup
+     */
+    public CaseIdGeneratorsInitializer(JdbcTemplate jdbcTemplate,
+                                       EntityManagerFactory entityManagerFactory,
+                                       @Value("${cases.id-generators.align-on-startup:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Moves each generator segment past the highest identifier of its table.
+     */
+    @PostConstruct
+    public void align() {
+        if (!enabled)
+            return;
+
+        for (var segment : SEGMENTS) {
+            jdbcTemplate.update(alignmentSql(segment), segment, 2 * ALLOCATION_SIZE);
+            LOGGER.info("Aligned identifier generator of {}", segment);
+        }
+    }
+
+    private static String alignmentSql(String table) {
+        return "insert into id_generators (entity, next_id) "
+                + "select ?, coalesce(max(id), 0) + ? from " + table + " "
+                + "on duplicate key update next_id = greatest(next_id, values(next_id))";
+    }
+}
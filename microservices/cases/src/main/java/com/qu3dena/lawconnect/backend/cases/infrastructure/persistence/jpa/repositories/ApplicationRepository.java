@@ -1,10 +1,16 @@
 package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Application;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -32,4 +38,41 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * @return a list of applications linked to the given lawyer
      */
     List<Application> findByLawyerId(UUID lawyerId);
+
+    /**
+     * Checks whether a legal case has at least one application with the given status.
+     *
+     * @param caseId the unique identifier of the legal case
+     * @param status the application status to look for
+     * @return true if such an application exists, false otherwise
+     */
+    boolean existsByLegalCase_IdAndStatus(UUID caseId, ApplicationStatus status);
+
+    /**
+     * Finds the applications of a case that follow the given position, oldest first.
+     *
+     * @param caseId   the unique identifier of the case
+     * @param at       the timestamp to seek from
+     * @param id       the identifier to seek from among the applications recorded at {@code at}
+     * @param pageable the page limit
+     * @return the applications strictly after the given position
+     */
+    @Query("""
+            select a from Application a
+            where a.legalCase.id = :caseId
+              and (a.createdAt > :at or (a.createdAt = :at and a.id > :id))
+            order by a.createdAt asc, a.id asc""")
+    List<Application> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                            @Param("at") Date at,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * Finds the identifier of the case of an application without loading either.
+     *
+     * @param id the identifier of the application
+     * @return the unique identifier of its case, or empty if the application does not exist
+     */
+    @Query("select a.legalCase.id from Application a where a.id = :id")
+    Optional<UUID> findCaseIdById(@Param("id") Long id);
 }
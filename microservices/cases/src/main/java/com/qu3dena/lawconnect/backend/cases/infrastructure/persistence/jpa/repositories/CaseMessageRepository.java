@@ -1,15 +1,86 @@
 package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CaseMessageRepository extends JpaRepository<CaseMessage, UUID> {
-    List<CaseMessage> findByCaseIdOrderByCreatedAtAsc(UUID caseId);
     void deleteByCaseId(UUID caseId);
-}
 
+    /**
+     * Marks read, in one statement, the unread messages of a case up to a position that were not sent by the reader.
+     *
+     * @return the number of messages marked read
+     */
+    @Modifying
+    @Query("""
+            update CaseMessage m set m.isRead = true
+            where m.caseId = :caseId
+              and m.senderId <> :readerId
+              and (m.isRead = false or m.isRead is null)
+              and (m.sequenceNumber < :sequenceNumber
+                   or (m.sequenceNumber = :sequenceNumber
+                       and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id <= :id))))""")
+    int markReadUpTo(@Param("caseId") UUID caseId,
+                     @Param("readerId") UUID readerId,
+                     @Param("sequenceNumber") long sequenceNumber,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("id") UUID id);
+
+    @Query("""
+            select m from CaseMessage m
+            where m.caseId = :caseId
+            order by m.sequenceNumber desc, m.createdAt desc, m.id desc""")
+    List<CaseMessage> findLatestPage(@Param("caseId") UUID caseId, Pageable pageable);
+
+    @Query("""
+            select m from CaseMessage m
+            where m.caseId = :caseId
+              and (m.sequenceNumber < :sequenceNumber
+                   or (m.sequenceNumber = :sequenceNumber
+                       and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))))
+            order by m.sequenceNumber desc, m.createdAt desc, m.id desc""")
+    List<CaseMessage> findPageBefore(@Param("caseId") UUID caseId,
+                                     @Param("sequenceNumber") long sequenceNumber,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") UUID id,
+                                     Pageable pageable);
+
+    /**
+     * Finds the messages of a case following a position, in the order their transactions committed.
+     */
+    @Query("""
+            select m from CaseMessage m
+            where m.caseId = :caseId
+              and (m.sequenceNumber > :sequenceNumber
+                   or (m.sequenceNumber = :sequenceNumber
+                       and (m.createdAt > :createdAt or (m.createdAt = :createdAt and m.id > :id))))
+            order by m.sequenceNumber asc, m.createdAt asc, m.id asc""")
+    List<CaseMessage> findPageAfter(@Param("caseId") UUID caseId,
+                                    @Param("sequenceNumber") long sequenceNumber,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") UUID id,
+                                    Pageable pageable);
+
+    /**
+     * Finds the messages of a case sent after an instant, in the order they were sent, for the case timeline.
+     */
+    @Query("""
+            select m from CaseMessage m
+            where m.caseId = :caseId
+              and (m.createdAt > :createdAt or (m.createdAt = :createdAt and m.id > :id))
+            order by m.createdAt asc, m.id asc""")
+    List<CaseMessage> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessageSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for managing {@link CaseMessageSequence} entities.
+ */
+@Repository
+public interface CaseMessageSequenceRepository extends JpaRepository<CaseMessageSequence, UUID> {
+
+    /**
+     * Reserves sequence numbers for the messages of a case, locking its sequence until the transaction ends.
+     *
+     * @param caseId the unique identifier of the case
+     * @param count  the number of sequence numbers reserved
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query(value = """
+            insert into case_message_sequences (case_id, last_sequence_number)
+            values (:caseId, :count)
+            on duplicate key update last_sequence_number = last_sequence_number + :count""", nativeQuery = true)
+    int reserve(@Param("caseId") UUID caseId, @Param("count") long count);
+
+    @Query(value = "select last_sequence_number from case_message_sequences where case_id = :caseId", nativeQuery = true)
+    long findLastSequenceNumber(@Param("caseId") UUID caseId);
+}
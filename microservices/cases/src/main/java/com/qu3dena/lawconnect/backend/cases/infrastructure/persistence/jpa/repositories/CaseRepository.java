@@ -1,11 +1,19 @@
 package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseParticipants;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,27 +27,262 @@ import java.util.UUID;
 public interface CaseRepository extends JpaRepository<CaseAggregate, UUID> {
 
     /**
-     * Finds all cases associated with a specific client.
+     * Finds the first page of cases, newest first.
+     *
+     * @param pageable the page limit; the order is always {@code (createdAt, id)} descending
+     * @return the first cases of the listing
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findFirstPage(Pageable pageable);
+
+    /**
+     * Finds the cases that follow the given keyset position, newest first.
+     *
+     * @param createdAt the creation timestamp of the last case of the previous page
+     * @param id        the identifier of the last case of the previous page
+     * @param pageable  the page limit
+     * @return the cases strictly after the given position
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findPageAfter(@Param("createdAt") Date createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+    /**
+     * Finds the first page of cases with a specific status, newest first.
+     *
+     * @param status   the current status of the cases
+     * @param pageable the page limit
+     * @return the first cases with the given status
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.currentStatus = :status
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findFirstPageByCurrentStatus(@Param("status") CaseStatus status, Pageable pageable);
+
+    /**
+     * Finds the cases with a specific status that follow the given keyset position, newest first.
+     *
+     * @param status    the current status of the cases
+     * @param createdAt the creation timestamp of the last case of the previous page
+     * @param id        the identifier of the last case of the previous page
+     * @param pageable  the page limit
+     * @return the cases with the given status strictly after the given position
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.currentStatus = :status
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findPageByCurrentStatusAfter(@Param("status") CaseStatus status,
+                                                       @Param("createdAt") Date createdAt,
+                                                       @Param("id") UUID id,
+                                                       Pageable pageable);
+
+    /**
+     * Finds the first page of cases associated with a specific client, newest first.
      *
      * @param clientId the unique identifier of the client
-     * @return a list of cases linked to the given client
+     * @param pageable the page limit
+     * @return the first cases linked to the given client
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.clientId = :clientId
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findFirstPageByClientId(@Param("clientId") UUID clientId, Pageable pageable);
+
+    /**
+     * Finds the cases of a specific client that follow the given keyset position, newest first.
+     *
+     * @param clientId  the unique identifier of the client
+     * @param createdAt the creation timestamp of the last case of the previous page
+     * @param id        the identifier of the last case of the previous page
+     * @param pageable  the page limit
+     * @return the cases linked to the given client strictly after the given position
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.clientId = :clientId
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findPageByClientIdAfter(@Param("clientId") UUID clientId,
+                                                  @Param("createdAt") Date createdAt,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    /**
+     * Finds the first page of open cases a lawyer has neither been invited to nor applied for, newest first.
+     * <p>
+     * The exclusion is an anti-join evaluated by the database, backed by the
+     * {@code (lawyer_id, case_id)} indexes of the invitations and applications tables.
+     * </p>
+     *
+     * @param status   the status of the suggested cases
+     * @param lawyerId the unique identifier of the lawyer
+     * @param pageable the page limit
+     * @return the first eligible cases
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.currentStatus = :status
+              and not exists (select 1 from Invitation i where i.legalCase = c and i.lawyerId = :lawyerId)
+              and not exists (select 1 from Application a where a.legalCase = c and a.lawyerId = :lawyerId)
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findFirstSuggestedPage(@Param("status") CaseStatus status,
+                                                 @Param("lawyerId") UUID lawyerId,
+                                                 Pageable pageable);
+
+    /**
+     * Finds the eligible open cases for a lawyer that follow the given keyset position, newest first.
+     *
+     * @param status    the status of the suggested cases
+     * @param lawyerId  the unique identifier of the lawyer
+     * @param createdAt the creation timestamp of the last case of the previous page
+     * @param id        the identifier of the last case of the previous page
+     * @param pageable  the page limit
+     * @return the eligible cases strictly after the given position
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.currentStatus = :status
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+              and not exists (select 1 from Invitation i where i.legalCase = c and i.lawyerId = :lawyerId)
+              and not exists (select 1 from Application a where a.legalCase = c and a.lawyerId = :lawyerId)
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findSuggestedPageAfter(@Param("status") CaseStatus status,
+                                                 @Param("lawyerId") UUID lawyerId,
+                                                 @Param("createdAt") Date createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    /**
+     * Finds which of the given cases are eligible suggestions for a lawyer, newest first.
+     * <p>
+     * The candidates come from the in-memory specialty index; the status is checked again here,
+     * so a candidate that changed since it was indexed is dropped.
+     * </p>
+     *
+     * @param status   the status of the suggested cases
+     * @param lawyerId the unique identifier of the lawyer
+     * @param ids      the unique identifiers of the candidate cases
+     * @return the eligible candidates
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.id in :ids
+              and c.currentStatus = :status
+              and not exists (select 1 from Invitation i where i.legalCase = c and i.lawyerId = :lawyerId)
+              and not exists (select 1 from Application a where a.legalCase = c and a.lawyerId = :lawyerId)
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findSuggestedAmong(@Param("status") CaseStatus status,
+                                             @Param("lawyerId") UUID lawyerId,
+                                             @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Finds the summary of a case.
+     *
+     * @param id the unique identifier of the case
+     * @return the summary of the case, or empty if the case does not exist
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.id = :id""")
+    Optional<CaseSummaryView> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Finds the version of a case without loading it.
+     *
+     * @param id the unique identifier of the case
+     * @return the version of the case, or empty if the case does not exist
+     */
+    @Query("select c.version from CaseAggregate c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Finds the summaries of the given cases, in no particular order.
+     *
+     * @param ids the unique identifiers of the cases
+     * @return the summaries of the cases that exist
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.id in :ids""")
+    List<CaseSummaryView> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Finds the identifiers of all cases.
+     *
+     * @return the identifiers of every case
      */
-    List<CaseAggregate> findByClientId(UUID clientId);
+    @Query("select c.id from CaseAggregate c")
+    List<UUID> findAllIds();
 
     /**
-     * Finds all cases with a specific status.
+     * Finds the users taking part in the conversation of a case.
      *
-     * @param status the current status of the cases
-     * @return a list of cases with the given status
+     * @param id the unique identifier of the case
+     * @return the participants of the case, or empty if the case does not exist
      */
-    List<CaseAggregate> findByCurrentStatus(CaseStatus status);
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseParticipants(c.clientId, c.assignedLawyerId)
+            from CaseAggregate c
+            where c.id = :id""")
+    Optional<CaseParticipants> findParticipantsById(@Param("id") UUID id);
 
     /**
-     * Finds all cases assigned to a specific lawyer and with a specific status.
+     * Finds the summaries of all cases assigned to a specific lawyer and with a specific status.
      *
      * @param lawyerId the unique identifier of the lawyer
      * @param status   the current status of the cases
-     * @return a list of cases assigned to the given lawyer and with the given status
+     * @return the summaries of the cases assigned to the given lawyer and with the given status, newest first
      */
-    List<CaseAggregate> findByAssignedLawyerIdAndCurrentStatus(UUID lawyerId, CaseStatus status);
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView(
+                c.id, c.title.text, c.description.text, c.clientId, c.assignedLawyerId,
+                c.specialtyId, c.currentStatus, c.createdAt, c.updatedAt, c.version)
+            from CaseAggregate c
+            where c.assignedLawyerId = :lawyerId and c.currentStatus = :status
+            order by c.createdAt desc, c.id desc""")
+    List<CaseSummaryView> findSummariesByAssignedLawyerIdAndCurrentStatus(@Param("lawyerId") UUID lawyerId,
+                                                                          @Param("status") CaseStatus status);
 }
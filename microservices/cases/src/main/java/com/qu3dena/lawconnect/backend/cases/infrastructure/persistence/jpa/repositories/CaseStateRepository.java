@@ -1,9 +1,13 @@
 package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseState;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +28,23 @@ public interface CaseStateRepository extends JpaRepository<CaseState, Long> {
      * @return a list of case states linked to the given legal case, ordered by the timestamp
      */
     List<CaseState> findByLegalCase_IdOrderByAtAsc(UUID caseId);
+
+    /**
+     * Finds the states of a case that follow the given position, oldest first.
+     *
+     * @param caseId   the unique identifier of the case
+     * @param at       the timestamp to seek from
+     * @param id       the identifier to seek from among the states recorded at {@code at}
+     * @param pageable the page limit
+     * @return the states strictly after the given position
+     */
+    @Query("""
+            select s from CaseState s
+            where s.legalCase.id = :caseId
+              and (s.at > :at or (s.at = :at and s.id > :id))
+            order by s.at asc, s.id asc""")
+    List<CaseState> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                          @Param("at") Instant at,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 }
@@ -0,0 +1,55 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseUnreadCounter;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.UnreadCountDrift;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CaseUnreadCounterRepository extends JpaRepository<CaseUnreadCounter, Long> {
+
+    @Query("select c from CaseUnreadCounter c where c.userId = :userId and c.unreadCount > 0")
+    List<CaseUnreadCounter> findUnreadByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+            insert into case_unread_counters (user_id, case_id, unread_count)
+            values (:userId, :caseId, :count)
+            on duplicate key update unread_count = unread_count + :count""", nativeQuery = true)
+    int increment(@Param("userId") UUID userId, @Param("caseId") UUID caseId, @Param("count") long count);
+
+    @Modifying
+    @Query("""
+            update CaseUnreadCounter c
+            set c.unreadCount = case when c.unreadCount > :count then c.unreadCount - :count else 0 end
+            where c.userId = :userId and c.caseId = :caseId""")
+    int decrement(@Param("userId") UUID userId, @Param("caseId") UUID caseId, @Param("count") long count);
+
+    /**
+     * Compares every unread counter with the unread messages it should count, in a single consistent read.
+     * Each message counts for the participants of its case other than its sender; counters without unread
+     * messages should be zero. Only the counters that differ are returned.
+     */
+    @Query(value = """
+            select bin_to_uuid(d.user_id) as userId, bin_to_uuid(d.case_id) as caseId, sum(d.unread) as delta
+            from (select p.user_id, m.case_id, count(*) as unread
+                  from case_messages m
+                  join (select c.id as case_id, c.client_id as user_id from cases c
+                        union all
+                        select c.id, c.assigned_lawyer_id from cases c where c.assigned_lawyer_id is not null) p
+                    on p.case_id = m.case_id
+                  where (m.is_read = false or m.is_read is null) and m.sender_id <> p.user_id
+                  group by p.user_id, m.case_id
+                  union all
+                  select u.user_id, u.case_id, -u.unread_count
+                  from case_unread_counters u) d
+            group by d.user_id, d.case_id
+            having sum(d.unread) <> 0""", nativeQuery = true)
+    List<UnreadCountDrift> findDrifts();
+}
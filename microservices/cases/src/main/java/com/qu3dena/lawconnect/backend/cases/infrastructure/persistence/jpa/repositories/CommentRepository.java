@@ -2,10 +2,15 @@ package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repo
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Comment;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CommentType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,4 +40,31 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByLegalCase_AssignedLawyerIdAndType(UUID lawyerId, CommentType type);
 
+    /**
+     * Finds the latest comment of a specific type of a legal case.
+     *
+     * @param caseId the unique identifier of the legal case
+     * @param type   the type of the comment
+     * @return the most recent comment of the given type, or empty if there is none
+     */
+    Optional<Comment> findFirstByLegalCase_IdAndTypeOrderByCreatedAtDescIdDesc(UUID caseId, CommentType type);
+
+    /**
+     * Finds the comments of a case that follow the given position, oldest first.
+     *
+     * @param caseId   the unique identifier of the case
+     * @param at       the timestamp to seek from
+     * @param id       the identifier to seek from among the comments recorded at {@code at}
+     * @param pageable the page limit
+     * @return the comments strictly after the given position
+     */
+    @Query("""
+            select c from Comment c
+            where c.legalCase.id = :caseId
+              and (c.createdAt > :at or (c.createdAt = :at and c.id > :id))
+            order by c.createdAt asc, c.id asc""")
+    List<Comment> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                        @Param("at") Date at,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 }
@@ -0,0 +1,57 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.DocumentContent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, String> {
+
+    /**
+     * Records stored content with no references yet, or refreshes the timestamp of an existing record
+     * so a pending sweep leaves it alone. Runs in its own transaction when called outside one, as content
+     * is stored without holding a transaction open for the upload.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            insert into document_contents (content_hash, size, reference_count, updated_at)
+            values (:contentHash, :size, 0, :now)
+            on duplicate key update updated_at = :now""", nativeQuery = true)
+    int touch(@Param("contentHash") String contentHash, @Param("size") long size, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update DocumentContent c
+            set c.referenceCount = c.referenceCount + :delta, c.updatedAt = :now
+            where c.contentHash = :contentHash""")
+    int adjustReferenceCount(@Param("contentHash") String contentHash, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Query("select c.contentHash from DocumentContent c where c.referenceCount <= 0 and c.updatedAt < :threshold")
+    List<String> findOrphanedContentHashes(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying
+    @Query("delete from DocumentContent c where c.contentHash = :contentHash and c.referenceCount <= 0 and c.updatedAt < :threshold")
+    int deleteIfOrphaned(@Param("contentHash") String contentHash, @Param("threshold") LocalDateTime threshold);
+
+    /**
+     * Creates the missing records for content referenced by documents stored before reference counting existed.
+     */
+    @Modifying
+    @Query(value = """
+            insert into document_contents (content_hash, size, reference_count, updated_at)
+            select d.content_hash, max(d.file_size), count(*), :now
+            from documents d
+            where d.content_hash is not null
+              and not exists (select 1 from document_contents c where c.content_hash = d.content_hash)
+            group by d.content_hash""", nativeQuery = true)
+    int createMissingReferenceCounts(@Param("now") LocalDateTime now);
+}
@@ -1,16 +1,87 @@
 package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, UUID> {
-    List<Document> findByCaseIdOrderByUploadedAtDesc(UUID caseId);
-    void deleteByCaseId(UUID caseId);
-    java.util.Optional<Document> findByCaseIdAndFileUrl(UUID caseId, String fileUrl);
-}
+    @Modifying
+    @Query("delete from Document d where d.caseId = :caseId")
+    int deleteByCaseId(@Param("caseId") UUID caseId);
+
+    @Query("select d.contentHash from Document d where d.caseId = :caseId and d.contentHash is not null")
+    List<String> findContentHashesByCaseId(@Param("caseId") UUID caseId);
+
+    Optional<Document> findByIdAndCaseId(UUID id, UUID caseId);
+
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView(
+                d.id, d.caseId, d.uploadedBy, d.filename, d.fileUrl, d.fileSize, d.fileType, d.contentHash,
+                d.contentCodec, d.uploadedAt)
+            from Document d
+            where d.caseId = :caseId
+            order by d.uploadedAt desc""")
+    List<DocumentMetadataView> findMetadataByCaseId(@Param("caseId") UUID caseId);
+
+    /**
+     * Finds the metadata of the documents of a case uploaded after the given position, oldest first.
+     *
+     * @param caseId     the unique identifier of the case
+     * @param uploadedAt the upload timestamp to seek from
+     * @param id         the identifier to seek from among the documents uploaded at {@code uploadedAt}
+     * @param pageable   the page limit
+     * @return the documents strictly after the given position
+     */
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView(
+                d.id, d.caseId, d.uploadedBy, d.filename, d.fileUrl, d.fileSize, d.fileType, d.contentHash,
+                d.contentCodec, d.uploadedAt)
+            from Document d
+            where d.caseId = :caseId
+              and (d.uploadedAt > :uploadedAt or (d.uploadedAt = :uploadedAt and d.id > :id))
+            order by d.uploadedAt asc, d.id asc""")
+    List<DocumentMetadataView> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                                     @Param("uploadedAt") LocalDateTime uploadedAt,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
 
+    @Query("""
+            select new com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView(
+                d.id, d.caseId, d.uploadedBy, d.filename, d.fileUrl, d.fileSize, d.fileType, d.contentHash,
+                d.contentCodec, d.uploadedAt)
+            from Document d
+            where d.caseId = :caseId and d.fileUrl = :fileUrl""")
+    Optional<DocumentMetadataView> findMetadataByCaseIdAndFileUrl(@Param("caseId") UUID caseId, @Param("fileUrl") String fileUrl);
+
+    @Query("select c.id from DocumentInlineContent c where c.fileContent is not null")
+    List<UUID> findIdsWithInlineContent(Pageable pageable);
+
+    @Query("select c.fileContent from DocumentInlineContent c where c.id = :id")
+    Optional<byte[]> findInlineContentById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            update Document d
+            set d.contentHash = :contentHash, d.contentCodec = :contentCodec, d.fileSize = :fileSize
+            where d.id = :id""")
+    int updateContentReference(@Param("id") UUID id,
+                               @Param("contentHash") String contentHash,
+                               @Param("contentCodec") DocumentContentCodec contentCodec,
+                               @Param("fileSize") Long fileSize);
+
+    @Modifying
+    @Query("update DocumentInlineContent c set c.fileContent = null where c.id = :id")
+    int clearInlineContent(@Param("id") UUID id);
+}
@@ -2,9 +2,14 @@ package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repo
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -61,4 +66,51 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
      * @return an optional containing the invitation if found, or empty if not
      */
     Optional<Invitation> findByLawyerIdAndLegalCase_Id(UUID lawyerId, UUID caseId);
+
+    /**
+     * Finds which of the given lawyers have already been invited to a case.
+     *
+     * @param caseId    the unique identifier of the legal case
+     * @param lawyerIds the unique identifiers of the lawyers to check
+     * @return the unique identifiers of the lawyers among them with an invitation to the case
+     */
+    @Query("select i.lawyerId from Invitation i where i.legalCase.id = :caseId and i.lawyerId in :lawyerIds")
+    List<UUID> findInvitedLawyerIds(@Param("caseId") UUID caseId, @Param("lawyerIds") Collection<UUID> lawyerIds);
+
+    /**
+     * Checks whether a legal case has at least one invitation with the given status.
+     *
+     * @param caseId the unique identifier of the legal case
+     * @param status the invitation status to look for
+     * @return true if such an invitation exists, false otherwise
+     */
+    boolean existsByLegalCase_IdAndStatus(UUID caseId, InvitationStatus status);
+
+    /**
+     * Finds the invitations of a case that follow the given position, oldest first.
+     *
+     * @param caseId   the unique identifier of the case
+     * @param at       the timestamp to seek from
+     * @param id       the identifier to seek from among the invitations recorded at {@code at}
+     * @param pageable the page limit
+     * @return the invitations strictly after the given position
+     */
+    @Query("""
+            select i from Invitation i
+            where i.legalCase.id = :caseId
+              and (i.createdAt > :at or (i.createdAt = :at and i.id > :id))
+            order by i.createdAt asc, i.id asc""")
+    List<Invitation> findTimelinePageAfter(@Param("caseId") UUID caseId,
+                                           @Param("at") Date at,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * Finds the identifier of the case of an invitation without loading either.
+     *
+     * @param id the identifier of the invitation
+     * @return the unique identifier of its case, or empty if the invitation does not exist
+     */
+    @Query("select i.legalCase.id from Invitation i where i.id = :id")
+    Optional<UUID> findCaseIdById(@Param("id") Long id);
 }
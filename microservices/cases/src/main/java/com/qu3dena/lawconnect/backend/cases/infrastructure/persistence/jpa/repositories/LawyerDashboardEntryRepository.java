@@ -0,0 +1,28 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.LawyerDashboardEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LawyerDashboardEntryRepository extends JpaRepository<LawyerDashboardEntry, Long> {
+
+    /**
+     * Finds the dashboard rows of a lawyer, most recently updated cases first.
+     *
+     * @param lawyerId the unique identifier of the lawyer
+     * @return the rows of the lawyer's dashboard
+     */
+    List<LawyerDashboardEntry> findByLawyerIdOrderByCaseUpdatedAtDescCaseIdDesc(UUID lawyerId);
+
+    /**
+     * Finds the dashboard rows of a case, one per related lawyer.
+     *
+     * @param caseId the unique identifier of the case
+     * @return the rows of the case
+     */
+    List<LawyerDashboardEntry> findByCaseId(UUID caseId);
+}
@@ -0,0 +1,70 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.OutboxEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.OutboxEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds the pending events that are due, grouped by case and in sequence order within each case,
+     * skipping the events of a case while an earlier event of that case waits for a retry.
+     * <p>
+     * Events recorded before sequence numbers existed share sequence number 0 and keep their {@code id} order.
+     * </p>
+     *
+     * @param pending  the pending status
+     * @param now      the current time
+     * @param pageable the batch limit
+     * @return the events that can be dispatched now, each case in sequence order
+     */
+    @Query("""
+            select e from OutboxEvent e
+            where e.status = :pending and e.nextAttemptAt <= :now
+              and not exists (
+                  select 1 from OutboxEvent p
+                  where p.aggregateId = e.aggregateId and p.status = :pending
+                    and (p.sequenceNumber < e.sequenceNumber or (p.sequenceNumber = e.sequenceNumber and p.id < e.id))
+                    and p.nextAttemptAt > :now)
+            order by e.aggregateId, e.sequenceNumber, e.id""")
+    List<OutboxEvent> findDispatchable(@Param("pending") OutboxEventStatus pending,
+                                       @Param("now") Instant now,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.status = :dispatched, e.dispatchedAt = :now, e.attempts = e.attempts + 1, e.lastError = null
+            where e.id in :ids""")
+    int markDispatched(@Param("ids") Collection<Long> ids,
+                       @Param("dispatched") OutboxEventStatus dispatched,
+                       @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError
+            where e.id = :id""")
+    int recordFailure(@Param("id") Long id,
+                      @Param("status") OutboxEventStatus status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") Instant nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :dispatched and e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("dispatched") OutboxEventStatus dispatched, @Param("before") Instant before);
+}
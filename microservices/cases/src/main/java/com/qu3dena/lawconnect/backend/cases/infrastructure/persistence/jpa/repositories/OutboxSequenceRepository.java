@@ -0,0 +1,34 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.OutboxSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for managing {@link OutboxSequence} entities.
+ */
+@Repository
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, UUID> {
+
+    /**
+     * Reserves sequence numbers for the events of a case, locking its sequence until the transaction ends.
+     *
+     * @param aggregateId the unique identifier of the case
+     * @param count       the number of sequence numbers reserved
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query(value = """
+            insert into outbox_sequences (aggregate_id, last_sequence_number)
+            values (:aggregateId, :count)
+            on duplicate key update last_sequence_number = last_sequence_number + :count""", nativeQuery = true)
+    int reserve(@Param("aggregateId") UUID aggregateId, @Param("count") long count);
+
+    @Query(value = "select last_sequence_number from outbox_sequences where aggregate_id = :aggregateId", nativeQuery = true)
+    long findLastSequenceNumber(@Param("aggregateId") UUID aggregateId);
+}
@@ -0,0 +1,83 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.search.inmemory.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits the text of cases and searches into index terms.
+ * <p>
+ * Text is folded to lowercase without accents, so {@code "Acción"} and {@code "accion"} or {@code "Año"} and
+ * {@code "ano"} are the same term, split on anything that is not a letter or a digit, stripped of the most
+ * frequent Spanish and English words, and reduced to a crude singular by dropping a final {@code s}.
+ * Indexed text and searches go through the same steps, so they only need to agree with each other.
+ * </p>
+ */
+final class CaseTextAnalyzer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MIN_PLURAL_LENGTH = 4;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "al", "ante", "como", "con", "contra", "cual", "cuando", "de", "del", "desde", "donde", "el", "ella",
+            "en", "entre", "era", "es", "esa", "ese", "eso", "esta", "este", "esto", "fue", "ha", "hay", "la",
+            "las", "le", "les", "lo", "los", "mas", "me", "mi", "mis", "muy", "ni", "no", "nos", "para", "pero",
+            "por", "porque", "que", "se", "si", "sin", "sobre", "son", "su", "sus", "te", "tu", "un", "una",
+            "uno", "unos", "ya", "yo",
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on", "or", "the",
+            "to", "with");
+
+    private CaseTextAnalyzer() {
+    }
+
+    /**
+     * Splits a text into terms.
+     *
+     * @param text the text to analyze, may be {@code null}
+     * @return the terms of the text in order, with repetitions
+     */
+    static List<String> analyze(String text) {
+        var terms = new ArrayList<String>();
+        if (text == null || text.isEmpty())
+            return terms;
+
+        var folded = fold(text);
+        var term = new StringBuilder();
+        for (int i = 0; i <= folded.length(); i++) {
+            char c = i < folded.length() ? folded.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (!term.isEmpty()) {
+                addTerm(terms, term.toString());
+                term.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String word) {
+        if (word.length() < MIN_TERM_LENGTH || STOP_WORDS.contains(word))
+            return;
+
+        if (word.length() >= MIN_PLURAL_LENGTH && word.endsWith("s") && !Character.isDigit(word.charAt(word.length() - 2)))
+            word = word.substring(0, word.length() - 1);
+        terms.add(word);
+    }
+
+    /**
+     * Lowercases a text and removes its accents and other combining marks.
+     */
+    private static String fold(String text) {
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        var folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type != Character.NON_SPACING_MARK && type != Character.COMBINING_SPACING_MARK && type != Character.ENCLOSING_MARK)
+                folded.append(c);
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,257 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.search.inmemory.services;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchIndex;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchMatch;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process implementation of the {@link CaseSearchIndex}, an inverted index ranked with BM25.
+ * <p>
+ * Each case is a document numbered in indexing order; each term keeps the numbers of the documents containing
+ * it in ascending order with their term frequency, title words counting {@value #TITLE_WEIGHT} times. A search
+ * walks the posting lists of its terms side by side, one document at a time, skipping documents filtered out
+ * by status or specialty before scoring them, and keeps the best matches in a heap bounded by the page size,
+ * so it allocates nothing proportional to the number of cases. Document attributes live in parallel primitive
+ * arrays to keep the memory of a large index close to its postings.
+ * </p>
+ * <p>
+ * The text of a case does not change once created, so bringing a case up to date usually only touches its
+ * status. Should its text change, the old document is retired, skipped by searches, and a new one is added.
+ * </p>
+ */
+@Service
+public class InMemoryCaseSearchIndex implements CaseSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte RETIRED = -1;
+
+    /**
+     * Orders matches by descending score, then by ascending case identifier.
+     */
+    private static final Comparator<CaseSearchMatch> RANKING = (a, b) -> {
+        int byScore = Float.compare(b.score(), a.score());
+        return byScore != 0 ? byScore : a.caseId().compareTo(b.caseId());
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> documentsByCase = new HashMap<>();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+
+    private UUID[] caseIds = new UUID[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private Long[] specialtyIds = new Long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] textHashes = new int[INITIAL_CAPACITY];
+    private long[] updatedAts = new long[INITIAL_CAPACITY];
+    private int documentCount;
+    private int liveCount;
+    private long totalLength;
+
+    // inherited javadoc
+    @Override
+    public void index(CaseSummaryView legalCase) {
+        var status = legalCase.currentStatus();
+        long updatedAt = legalCase.updatedAt() != null ? legalCase.updatedAt().getTime() : Long.MIN_VALUE;
+        int textHash = Objects.hash(legalCase.title(), legalCase.description());
+
+        lock.writeLock().lock();
+        try {
+            var existing = documentsByCase.get(legalCase.id());
+            if (existing != null) {
+                if (updatedAts[existing] > updatedAt)
+                    return;
+
+                if (textHashes[existing] == textHash) {
+                    statuses[existing] = (byte) status.ordinal();
+                    specialtyIds[existing] = legalCase.specialtyId();
+                    updatedAts[existing] = updatedAt;
+                    return;
+                }
+                retire(existing);
+            }
+
+            add(legalCase, textHash, updatedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // inherited javadoc
+    @Override
+    public List<CaseSearchMatch> search(String text, CaseStatus status, Long specialtyId, CaseSearchCursor after, int limit) {
+        var terms = new LinkedHashSet<>(CaseTextAnalyzer.analyze(text));
+        if (terms.isEmpty() || limit < 1)
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0)
+                return List.of();
+
+            // 1). Collect the posting lists of the known terms with their inverse document frequency
+            var lists = new ArrayList<Postings>(terms.size());
+            var idfs = new float[terms.size()];
+            for (var term : terms) {
+                var postings = postingsByTerm.get(term);
+                if (postings == null)
+                    continue;
+                int documentFrequency = Math.min(postings.size, liveCount);
+                idfs[lists.size()] = (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                lists.add(postings);
+            }
+            if (lists.isEmpty())
+                return List.of();
+
+            // 2). Walk the posting lists together, scoring each eligible document once
+            float averageLength = (float) totalLength / liveCount;
+            byte statusFilter = status != null ? (byte) status.ordinal() : RETIRED;
+            var positions = new int[lists.size()];
+            var best = new PriorityQueue<CaseSearchMatch>(limit + 1, RANKING.reversed());
+
+            while (true) {
+                int document = Integer.MAX_VALUE;
+                for (int i = 0; i < lists.size(); i++) {
+                    var postings = lists.get(i);
+                    if (positions[i] < postings.size)
+                        document = Math.min(document, postings.documents[positions[i]]);
+                }
+                if (document == Integer.MAX_VALUE)
+                    break;
+
+                boolean eligible = statuses[document] != RETIRED
+                        && (status == null || statuses[document] == statusFilter)
+                        && (specialtyId == null || specialtyId.equals(specialtyIds[document]));
+
+                float score = 0;
+                float lengthNorm = K1 * (1 - B + B * lengths[document] / averageLength);
+                for (int i = 0; i < lists.size(); i++) {
+                    var postings = lists.get(i);
+                    if (positions[i] < postings.size && postings.documents[positions[i]] == document) {
+                        if (eligible) {
+                            float frequency = postings.frequencies[positions[i]];
+                            score += idfs[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                        }
+                        positions[i]++;
+                    }
+                }
+
+                if (eligible)
+                    offer(best, limit, caseIds[document], score, after);
+            }
+
+            var matches = new ArrayList<>(best);
+            matches.sort(RANKING);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // inherited javadoc
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps a match among the best ones if it ranks after the cursor and before the worst kept match.
+     */
+    private static void offer(PriorityQueue<CaseSearchMatch> best, int limit, UUID caseId, float score, CaseSearchCursor after) {
+        if (after != null) {
+            int byScore = Float.compare(score, after.score());
+            if (byScore > 0 || (byScore == 0 && caseId.compareTo(after.caseId()) <= 0))
+                return;
+        }
+
+        if (best.size() == limit) {
+            var worst = best.peek();
+            int byScore = Float.compare(score, worst.score());
+            if (byScore < 0 || (byScore == 0 && caseId.compareTo(worst.caseId()) > 0))
+                return;
+            best.poll();
+        }
+        best.add(new CaseSearchMatch(caseId, score));
+    }
+
+    private void add(CaseSummaryView legalCase, int textHash, long updatedAt) {
+        var frequencies = new HashMap<String, Integer>();
+        for (var term : CaseTextAnalyzer.analyze(legalCase.title()))
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        for (var term : CaseTextAnalyzer.analyze(legalCase.description()))
+            frequencies.merge(term, 1, Integer::sum);
+
+        int length = 0;
+        for (int frequency : frequencies.values())
+            length += frequency;
+
+        ensureCapacity(documentCount + 1);
+        int document = documentCount++;
+        caseIds[document] = legalCase.id();
+        statuses[document] = (byte) legalCase.currentStatus().ordinal();
+        specialtyIds[document] = legalCase.specialtyId();
+        lengths[document] = length;
+        textHashes[document] = textHash;
+        updatedAts[document] = updatedAt;
+
+        for (var entry : frequencies.entrySet())
+            postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings()).add(document, entry.getValue());
+
+        documentsByCase.put(legalCase.id(), document);
+        liveCount++;
+        totalLength += length;
+    }
+
+    private void retire(int document) {
+        statuses[document] = RETIRED;
+        liveCount--;
+        totalLength -= lengths[document];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= caseIds.length)
+            return;
+
+        int grown = Math.max(capacity, caseIds.length + (caseIds.length >> 1));
+        caseIds = Arrays.copyOf(caseIds, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        specialtyIds = Arrays.copyOf(specialtyIds, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+        textHashes = Arrays.copyOf(textHashes, grown);
+        updatedAts = Arrays.copyOf(updatedAts, grown);
+    }
+
+    /**
+     * The documents containing a term, in ascending order, with the weighted frequency of the term in each.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private short[] frequencies = new short[4];
+        private int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size << 1);
+                frequencies = Arrays.copyOf(frequencies, size << 1);
+            }
+            documents[size] = document;
+            frequencies[size] = (short) Math.min(frequency, Short.MAX_VALUE);
+            size++;
+        }
+    }
+}
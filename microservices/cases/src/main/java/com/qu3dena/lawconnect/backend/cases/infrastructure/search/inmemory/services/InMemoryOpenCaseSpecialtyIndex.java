@@ -0,0 +1,120 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.search.inmemory.services;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.OpenCaseSpecialtyIndex;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KWayMergeIterator;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-process implementation of the {@link OpenCaseSpecialtyIndex}.
+ * <p>
+ * Each specialty keeps the keyset positions of its open cases in a sorted set, newest first, in the same
+ * order as the {@code order by created_at desc, id desc} of the cases table, identifiers comparing as the
+ * unsigned bytes the database stores. Listing several specialties merges their sets lazily, starting right
+ * after the cursor, so a page only walks the positions it returns. Reads never lock; writes, one per case
+ * event, are serialized.
+ * </p>
+ */
+@Service
+public class InMemoryOpenCaseSpecialtyIndex implements OpenCaseSpecialtyIndex {
+
+    /**
+     * Newest first: descending creation timestamp, then descending identifier.
+     */
+    static final Comparator<KeysetCursor> NEWEST_FIRST = (a, b) -> {
+        int byTimestamp = b.timestamp().compareTo(a.timestamp());
+        if (byTimestamp != 0)
+            return byTimestamp;
+        int byHigh = Long.compareUnsigned(b.id().getMostSignificantBits(), a.id().getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(b.id().getLeastSignificantBits(), a.id().getLeastSignificantBits());
+    };
+
+    private final Map<Long, NavigableSet<KeysetCursor>> casesBySpecialty = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<UUID, Long> appliedDuringLoad = new HashMap<>();
+    private boolean loading;
+
+    // inherited javadoc
+    @Override
+    public synchronized void index(CaseSummaryView legalCase) {
+        long updatedAt = updatedAtOf(legalCase);
+        if (loading)
+            appliedDuringLoad.merge(legalCase.id(), updatedAt, Math::max);
+        apply(legalCase, updatedAt);
+    }
+
+    // inherited javadoc
+    @Override
+    public synchronized void beginLoad() {
+        loading = true;
+    }
+
+    // inherited javadoc
+    @Override
+    public synchronized void load(CaseSummaryView legalCase) {
+        long updatedAt = updatedAtOf(legalCase);
+        var applied = appliedDuringLoad.get(legalCase.id());
+        if (applied != null && applied >= updatedAt)
+            return;
+        apply(legalCase, updatedAt);
+    }
+
+    // inherited javadoc
+    @Override
+    public synchronized void endLoad() {
+        loading = false;
+        appliedDuringLoad.clear();
+    }
+
+    // inherited javadoc
+    @Override
+    public Iterator<KeysetCursor> newestFirst(Collection<Long> specialtyIds, KeysetCursor after) {
+        var sources = new ArrayList<Iterator<KeysetCursor>>(specialtyIds.size());
+        for (var specialtyId : new HashSet<>(specialtyIds)) {
+            var cases = casesBySpecialty.get(specialtyId);
+            if (cases != null)
+                sources.add((after == null ? cases : cases.tailSet(after, false)).iterator());
+        }
+
+        if (sources.size() == 1)
+            return sources.get(0);
+        return new KWayMergeIterator<>(sources, NEWEST_FIRST);
+    }
+
+    // inherited javadoc
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void apply(CaseSummaryView legalCase, long updatedAt) {
+        var current = entries.get(legalCase.id());
+        if (current != null && current.updatedAt() > updatedAt)
+            return;
+
+        if (current != null)
+            casesBySpecialty.get(current.specialtyId()).remove(current.position());
+
+        if (legalCase.currentStatus() != CaseStatus.OPEN || legalCase.specialtyId() == null) {
+            entries.remove(legalCase.id());
+            return;
+        }
+
+        var position = new KeysetCursor(legalCase.createdAt().toInstant(), legalCase.id());
+        casesBySpecialty.computeIfAbsent(legalCase.specialtyId(), id -> new ConcurrentSkipListSet<>(NEWEST_FIRST)).add(position);
+        entries.put(legalCase.id(), new Entry(legalCase.specialtyId(), position, updatedAt));
+    }
+
+    private static long updatedAtOf(CaseSummaryView legalCase) {
+        return legalCase.updatedAt() != null ? legalCase.updatedAt().getTime() : Long.MIN_VALUE;
+    }
+
+    private record Entry(Long specialtyId, KeysetCursor position, long updatedAt) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.storage.filesystem.services;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.DocumentContentStore;
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.storage.StoredContent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Local filesystem implementation of the {@link DocumentContentStore}.
+ * <p>
+ * Content lives under {@code <root>/<hash[0..2]>/<hash[2..4]>/<hash>}, so no directory grows
+ * beyond 65536 entries; deflated content carries a {@code .deflate} suffix. Writes go to a temporary file in the same filesystem first and are
+ * published with an atomic rename, so readers never observe partially written content and
+ * concurrent uploads of the same bytes with the same codec converge on a single file.
+ * </p>
+ * <p>
+ * Uploads of the same bytes racing with different codecs each publish their own copy; neither is removed,
+ * as a document may already record it, and each is read back through the codec recorded with it.
+ * </p>
+ */
+@Service
+public class FileSystemDocumentContentStore implements DocumentContentStore {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMPORARY_DIRECTORY = "tmp";
+    private static final String DEFLATE_SUFFIX = ".deflate";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path root;
+
+    public FileSystemDocumentContentStore(
+            @Value("${documents.storage.filesystem.root:${user.home}/lawconnect-documents/store}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    // inherited javadoc
+    @Override
+    public StoredContent store(InputStream content, DocumentContentCodec codec) {
+        Path temporary = null;
+        try {
+            var temporaryDirectory = Files.createDirectories(root.resolve(TEMPORARY_DIRECTORY));
+            temporary = Files.createTempFile(temporaryDirectory, "upload-", ".part");
+
+            // The digest is taken over the original bytes, before they reach the encoder
+            var digest = newDigest();
+            long size;
+            try (var out = new DigestOutputStream(encode(Files.newOutputStream(temporary), codec), digest)) {
+                size = content.transferTo(out);
+            }
+
+            var contentHash = HexFormat.of().formatHex(digest.digest());
+            var existingCodec = codecOf(contentHash);
+            if (existingCodec.isPresent()) {
+                Files.delete(temporary);
+                return new StoredContent(contentHash, size, existingCodec.get());
+            }
+
+            var target = pathOf(contentHash, codec);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(temporary);
+            }
+
+            return new StoredContent(contentHash, size, codec);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException("Failed to store document content", e);
+        }
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<Resource> load(String contentHash, DocumentContentCodec codec) {
+        return Optional.of(pathOf(contentHash, codec))
+                .filter(Files::isReadable)
+                .map(FileSystemResource::new);
+    }
+
+    // inherited javadoc
+    @Override
+    public boolean exists(String contentHash) {
+        return codecOf(contentHash).isPresent();
+    }
+
+    // inherited javadoc
+    @Override
+    public void delete(String contentHash) {
+        try {
+            for (var codec : DocumentContentCodec.values())
+                Files.deleteIfExists(pathOf(contentHash, codec));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete document content " + contentHash, e);
+        }
+    }
+
+    private Optional<DocumentContentCodec> codecOf(String contentHash) {
+        for (var codec : DocumentContentCodec.values())
+            if (Files.exists(pathOf(contentHash, codec)))
+                return Optional.of(codec);
+        return Optional.empty();
+    }
+
+    private Path pathOf(String contentHash, DocumentContentCodec codec) {
+        if (contentHash == null || !CONTENT_HASH.matcher(contentHash).matches())
+            throw new IllegalArgumentException("Invalid content hash");
+
+        var filename = codec == DocumentContentCodec.IDENTITY ? contentHash : contentHash + DEFLATE_SUFFIX;
+        return root.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(filename);
+    }
+
+    private static OutputStream encode(OutputStream out, DocumentContentCodec codec) {
+        return switch (codec) {
+            case IDENTITY -> out;
+            case DEFLATE -> new DeflaterOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        };
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null)
+            return;
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // the temporary file is left behind; it is never published under a content hash
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseCacheStatsResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CaseCacheStatsResourceFromStatsAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/api/v1/cases/cache", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Cases", description = "Cases Management Endpoints")
+public class CaseCacheStatsController {
+
+    private final CaseSnapshotCache snapshotCache;
+
+    public CaseCacheStatsController(CaseSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get case cache statistics",
+            description = "Hits, misses and evictions of the case snapshot cache since startup, to tune its size and time to live.")
+    public ResponseEntity<CaseCacheStatsResource> getStats() {
+        return ResponseEntity.ok(CaseCacheStatsResourceFromStatsAssembler.toResourceFromStats(snapshotCache.stats()));
+    }
+}
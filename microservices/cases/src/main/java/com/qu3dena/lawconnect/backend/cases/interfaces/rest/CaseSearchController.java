@@ -0,0 +1,75 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.CasePageSize;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.SearchCasesQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseSearchCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseSearchQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CaseResourceFromSummaryViewAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources.CursorPageResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving the full-text search of cases.
+ *
+ * @author LawConnect Team
+ * @see CaseSearchQueryService
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/cases/search", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Cases", description = "Cases Management Endpoints")
+public class CaseSearchController {
+
+    private final CaseSearchQueryService searchQueryService;
+
+    public CaseSearchController(CaseSearchQueryService searchQueryService) {
+        this.searchQueryService = searchQueryService;
+    }
+
+    /**
+     * Retrieves one page of the cases whose title or description match a search, most relevant first.
+     *
+     * @param q           the words to search for
+     * @param status      the status to restrict the results to, absent for any status
+     * @param specialtyId the specialty to restrict the results to, absent for any specialty
+     * @param cursor      the opaque cursor returned with the previous page, absent for the first page
+     * @param size        the maximum number of cases to return
+     * @return a ResponseEntity with the page of CaseResource and HTTP status 200
+     */
+    @GetMapping
+    @Operation(summary = "Search cases",
+            description = "Retrieves one page of the cases whose title or description contain any of the words searched, "
+                    + "most relevant first. Accents and letter case are ignored.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cases retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid search text, status, cursor or page size")
+    })
+    public ResponseEntity<CursorPageResource<CaseResource>> searchCases(
+            @RequestParam("q") String q,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "specialtyId", required = false) Long specialtyId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var after = cursor == null || cursor.isBlank() ? null : CaseSearchCursor.decode(cursor);
+        var caseStatus = status == null || status.isBlank() ? null : CaseStatus.valueOf(status);
+        var page = searchQueryService.handle(new SearchCasesQuery(q, caseStatus, specialtyId, after, size));
+
+        var items = page.items().stream()
+                .map(CaseResourceFromSummaryViewAssembler::toResourceFromView)
+                .toList();
+        var nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+
+        return ResponseEntity.ok(new CursorPageResource<>(items, nextCursor));
+    }
+}
@@ -0,0 +1,68 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.CasePageSize;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetCaseTimelineQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTimelineCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseTimelineQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseTimelineEntryResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CaseTimelineEntryResourceFromProjectionAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources.CursorPageResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller serving the merged activity timeline of a case.
+ *
+ * @author LawConnect Team
+ * @see CaseTimelineQueryService
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/cases/{caseId}/timeline", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Cases", description = "Cases Management Endpoints")
+public class CaseTimelineController {
+
+    private final CaseTimelineQueryService timelineQueryService;
+
+    public CaseTimelineController(CaseTimelineQueryService timelineQueryService) {
+        this.timelineQueryService = timelineQueryService;
+    }
+
+    /**
+     * Retrieves one page of the timeline of a case.
+     *
+     * @param caseId the unique identifier of the case
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of entries to return
+     * @return a ResponseEntity with the page of timeline entries and HTTP status 200
+     */
+    @GetMapping
+    @Operation(summary = "Get case timeline",
+            description = "Retrieves one page of the status changes, invitations, applications, comments, messages "
+                    + "and documents of a case, merged oldest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Timeline retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<CursorPageResource<CaseTimelineEntryResource>> getTimeline(
+            @PathVariable("caseId") UUID caseId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var after = cursor == null || cursor.isBlank() ? null : CaseTimelineCursor.decode(cursor);
+        var page = timelineQueryService.handle(new GetCaseTimelineQuery(caseId, after, size));
+
+        var items = page.items().stream()
+                .map(CaseTimelineEntryResourceFromProjectionAssembler::toResourceFromProjection)
+                .toList();
+        var nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+
+        return ResponseEntity.ok(new CursorPageResource<>(items, nextCursor));
+    }
+}
@@ -9,14 +9,23 @@ import com.qu3dena.lawconnect.backend.cases.domain.services.CaseQueryService;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CreateCaseResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CaseResourceFromEntityAssembler;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CaseResourceFromSummaryViewAssembler;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.CreateCaseCommandFromResourceAssembler;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources.CursorPageResource;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform.CursorPageResourceFromCursorPageAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform.EntityTagFromVersionAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -140,99 +149,144 @@ public class CasesController {
         return ResponseEntity.ok(canceled);
     }
 
+    /**
+     * Retrieves one page of all cases, newest first.
+     *
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of cases to return
+     * @return a ResponseEntity with the page of CaseResource and HTTP status 200
+     */
     @GetMapping
-    @Operation(summary = "Get all cases", description = "Retrieves all cases.")
+    @Operation(summary = "Get all cases", description = "Retrieves one page of all cases, newest first.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cases retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "No cases found")
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
-    public ResponseEntity<List<CaseResource>> getAllCases() {
-        var list = caseQueryService.handle(new GetAllCasesQuery())
-                .stream().map(CaseResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
+    public ResponseEntity<CursorPageResource<CaseResource>> getAllCases(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var page = caseQueryService.handle(new GetAllCasesQuery(toCursor(cursor), size));
 
-        return ResponseEntity.ok(list);
+        return ResponseEntity.ok(CursorPageResourceFromCursorPageAssembler
+                .toResourceFromPage(page, CaseResourceFromSummaryViewAssembler::toResourceFromView));
     }
 
     /**
      * Retrieves a case by its identifier.
+     * <p>
+     * The response carries an entity tag derived from the version of the case. A request whose
+     * {@code If-None-Match} still holds is answered with 304 after reading only the version.
+     * </p>
      *
-     * @param caseId the unique identifier of the case
-     * @return a ResponseEntity with the retrieved CaseResource and HTTP status 200
+     * @param caseId  the unique identifier of the case
+     * @param request the current request, checked for {@code If-None-Match}
+     * @return a ResponseEntity with the retrieved CaseResource and HTTP status 200, or 304 if unchanged
      * @throws IllegalStateException if the case is not found
      */
     @GetMapping("/{caseId}")
     @Operation(summary = "Get case by ID", description = "Retrieves a case by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Case retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Case not modified"),
             @ApiResponse(responseCode = "404", description = "Case not found")
     })
-    public ResponseEntity<CaseResource> getCaseById(@PathVariable("caseId") UUID caseId) {
-        var resource = caseQueryService.handle(new GetCaseByIdQuery(caseId))
-                .map(CaseResourceFromEntityAssembler::toResourceFromEntity)
+    public ResponseEntity<CaseResource> getCaseById(@PathVariable("caseId") UUID caseId, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var version = caseQueryService.handle(new GetCaseVersionByIdQuery(caseId));
+            if (version.isPresent() && request.checkNotModified(EntityTagFromVersionAssembler.toEntityTag(caseId, version.get())))
+                return null;
+        }
+
+        var view = caseQueryService.handle(new GetCaseByIdQuery(caseId))
                 .orElseThrow(() -> new IllegalStateException("Case not found"));
 
-        return ResponseEntity.ok(resource);
+        return ResponseEntity.ok()
+                .eTag(EntityTagFromVersionAssembler.toEntityTag(view.id(), view.version()))
+                .body(CaseResourceFromSummaryViewAssembler.toResourceFromView(view));
     }
 
     /**
-     * Retrieves all cases for a specific client.
+     * Retrieves one page of cases for a specific client, newest first.
      *
      * @param clientId the unique identifier of the client
-     * @return a ResponseEntity with the list of CaseResource and HTTP status 200
+     * @param cursor   the opaque cursor returned with the previous page, absent for the first page
+     * @param size     the maximum number of cases to return
+     * @return a ResponseEntity with the page of CaseResource and HTTP status 200
      */
     @GetMapping("/clients/{clientId}")
-    @Operation(summary = "Get cases by client ID", description = "Retrieves all cases for a specific client.")
+    @Operation(summary = "Get cases by client ID", description = "Retrieves one page of cases for a specific client, newest first.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cases retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "Client not found")
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
-    public ResponseEntity<List<CaseResource>> getCasesByClient(@PathVariable("clientId") UUID clientId) {
-        var list = caseQueryService.handle(new GetCasesByClientIdQuery(clientId))
-                .stream().map(CaseResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(list);
+    public ResponseEntity<CursorPageResource<CaseResource>> getCasesByClient(
+            @PathVariable("clientId") UUID clientId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var page = caseQueryService.handle(new GetCasesByClientIdQuery(clientId, toCursor(cursor), size));
+
+        return ResponseEntity.ok(CursorPageResourceFromCursorPageAssembler
+                .toResourceFromPage(page, CaseResourceFromSummaryViewAssembler::toResourceFromView));
     }
 
     /**
-     * Retrieves suggested cases for a lawyer.
+     * Retrieves one page of suggested cases for a lawyer, newest first.
      *
-     * @param lawyerId the unique identifier of the lawyer
-     * @return a ResponseEntity with the list of suggested CaseResource and HTTP status 200
+     * @param lawyerId     the unique identifier of the lawyer
+     * @param specialtyId  the specialty to restrict the suggestions to, absent for any specialty
+     * @param specialtyIds the specialties to restrict the suggestions to, in addition to {@code specialtyId}
+     * @param cursor       the opaque cursor returned with the previous page, absent for the first page
+     * @param size         the maximum number of cases to return
+     * @return a ResponseEntity with the page of suggested CaseResource and HTTP status 200
      */
     @GetMapping("/suggested")
-    @Operation(summary = "Get suggested cases", description = "Retrieves suggested cases for a lawyer.")
+    @Operation(summary = "Get suggested cases", description = "Retrieves one page of open cases the lawyer has not been invited to nor applied for, optionally restricted to some specialties.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Suggested cases retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "Lawyer not found")
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
-    public ResponseEntity<List<CaseResource>> getSuggestedCases(@RequestParam("lawyerId") UUID lawyerId) {
-        var list = caseQueryService.handle(new GetSuggestedCasesQuery(lawyerId))
-                .stream().map(CaseResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(list);
+    public ResponseEntity<CursorPageResource<CaseResource>> getSuggestedCases(
+            @RequestParam("lawyerId") UUID lawyerId,
+            @RequestParam(value = "specialtyId", required = false) Long specialtyId,
+            @RequestParam(value = "specialtyIds", required = false) Set<Long> specialtyIds,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var specialties = new HashSet<Long>();
+        if (specialtyIds != null)
+            specialties.addAll(specialtyIds);
+        if (specialtyId != null)
+            specialties.add(specialtyId);
+
+        var query = new GetSuggestedCasesQuery(lawyerId, specialties, toCursor(cursor), size);
+        var page = caseQueryService.handle(query);
+
+        return ResponseEntity.ok(CursorPageResourceFromCursorPageAssembler
+                .toResourceFromPage(page, CaseResourceFromSummaryViewAssembler::toResourceFromView));
     }
 
     /**
-     * Retrieves cases by their status.
+     * Retrieves one page of cases by their status, newest first.
      *
      * @param status the status of the cases as a String
-     * @return a ResponseEntity with the list of CaseResource and HTTP status 200
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the maximum number of cases to return
+     * @return a ResponseEntity with the page of CaseResource and HTTP status 200
      */
     @GetMapping("/status")
-    @Operation(summary = "Get cases by status", description = "Retrieves all cases with a specific status.")
+    @Operation(summary = "Get cases by status", description = "Retrieves one page of cases with a specific status, newest first.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cases retrieved successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid status")
+            @ApiResponse(responseCode = "400", description = "Invalid status, cursor or page size")
     })
-    public ResponseEntity<List<CaseResource>> getCasesByStatus(@RequestParam("status") String status) {
-        var list = caseQueryService.handle(new GetCasesByStatusQuery(CaseStatus.valueOf(status)))
-                .stream().map(CaseResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(list);
+    public ResponseEntity<CursorPageResource<CaseResource>> getCasesByStatus(
+            @RequestParam("status") String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + CasePageSize.DEFAULT) int size) {
+        var query = new GetCasesByStatusQuery(CaseStatus.valueOf(status), toCursor(cursor), size);
+        var page = caseQueryService.handle(query);
+
+        return ResponseEntity.ok(CursorPageResourceFromCursorPageAssembler
+                .toResourceFromPage(page, CaseResourceFromSummaryViewAssembler::toResourceFromView));
     }
 
     /**
@@ -249,9 +303,13 @@ public class CasesController {
     })
     public ResponseEntity<List<CaseResource>> getCasesByLawyer(@PathVariable("lawyerId") UUID lawyerId) {
         var list = caseQueryService.handle(new GetCasesByLawyerIdQuery(lawyerId))
-                .stream().map(CaseResourceFromEntityAssembler::toResourceFromEntity)
+                .stream().map(CaseResourceFromSummaryViewAssembler::toResourceFromView)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(list);
     }
+
+    private static KeysetCursor toCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+    }
 }
@@ -1,8 +1,14 @@
 package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
 
-import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteCaseDocumentsCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.DeleteDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RegisterDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.StoreDocumentContentCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.UploadDocumentCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetCaseByIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentContentQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentInlineContentQuery;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetDocumentsByCaseIdQuery;
 import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
 import com.qu3dena.lawconnect.backend.cases.domain.services.CaseQueryService;
@@ -10,9 +16,14 @@ import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentCommandServi
 import com.qu3dena.lawconnect.backend.cases.domain.services.DocumentQueryService;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.DocumentResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.UploadDocumentResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.support.DataUrlDocumentUploadReader;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.support.RangeAwareResourceResponder;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.DocumentResourceFromEntityAssembler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -27,8 +38,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Base64;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -63,8 +75,7 @@ public class DocumentsController {
                 return ResponseEntity.notFound().build();
             }
             
-            CaseAggregate caseAggregate = maybeCase.get();
-            CaseStatus status = caseAggregate.getStatus();
+            CaseStatus status = maybeCase.get().currentStatus();
             
             // Solo permitir subir archivos si el caso NO está CLOSED o CANCELED
             // ACCEPTED permite subir archivos porque aún se hace seguimiento del caso
@@ -107,8 +118,6 @@ public class DocumentsController {
             // Crear URL del archivo para descarga
             String fileUrl = "/api/v1/cases/" + caseId + "/documents/download/" + uniqueFilename;
 
-            byte[] fileContent = file.getBytes();
-
             // Crear comando para guardar en BD
             var command = new UploadDocumentCommand(
                     UUID.fromString(caseId),
@@ -117,7 +126,7 @@ public class DocumentsController {
                     fileUrl,
                     file.getSize(),
                     contentType != null ? contentType : "application/octet-stream",
-                    fileContent
+                    file
             );
 
             var document = commandService.handle(command);
@@ -136,12 +145,16 @@ public class DocumentsController {
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Upload document metadata to case")
+    @Operation(
+            summary = "Upload document metadata to case",
+            description = "A base64 data URL in fileUrl is decoded while the body is read and stored without buffering the file.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(schema = @Schema(implementation = UploadDocumentResource.class))))
     public ResponseEntity<DocumentResource> uploadDocument(
             @PathVariable("caseId") String caseId,
             @RequestParam("uploadedBy") String uploadedBy,
-            @RequestBody UploadDocumentResource resource
-    ) {
+            HttpServletRequest request
+    ) throws IOException {
         // Validar que el caso existe y permite subir archivos
         var caseQuery = new GetCaseByIdQuery(UUID.fromString(caseId));
         var maybeCase = caseQueryService.handle(caseQuery);
@@ -150,8 +163,7 @@ public class DocumentsController {
             return ResponseEntity.notFound().build();
         }
         
-        CaseAggregate caseAggregate = maybeCase.get();
-        CaseStatus status = caseAggregate.getStatus();
+        CaseStatus status = maybeCase.get().currentStatus();
         
         // Solo permitir subir archivos si el caso NO está CLOSED o CANCELED
         // ACCEPTED permite subir archivos porque aún se hace seguimiento del caso
@@ -162,38 +174,41 @@ public class DocumentsController {
                         "Este caso está cancelado y no permite más modificaciones")
                     .build();
         }
-        
-        String storedFileUrl = resource.fileUrl();
-        byte[] fileContent = null;
-        String filename = resource.filename() != null ? resource.filename() : "document";
-        String contentType = resource.fileType();
-
-        if (storedFileUrl != null && storedFileUrl.startsWith("data:")) {
-            int commaIndex = storedFileUrl.indexOf(',');
-            if (commaIndex != -1 && commaIndex + 1 < storedFileUrl.length()) {
-                String base64Data = storedFileUrl.substring(commaIndex + 1);
-                fileContent = Base64.getDecoder().decode(base64Data);
-            }
+
+        // El data URL se decodifica mientras se lee el cuerpo y va directo al almacén de contenido
+        var upload = DataUrlDocumentUploadReader.read(request.getInputStream(),
+                (mediaType, content) -> commandService.handle(new StoreDocumentContentCommand(mediaType, content)));
+
+        String filename = upload.filename() != null ? upload.filename() : "document";
+        Optional<Document> document;
+
+        if (upload.content() != null) {
             String extension = "";
             if (filename.contains(".")) {
                 extension = filename.substring(filename.lastIndexOf("."));
             }
             String uniqueFilename = UUID.randomUUID().toString() + extension;
-            storedFileUrl = "/api/v1/cases/" + caseId + "/documents/download/" + uniqueFilename;
-            filename = filename;
-        }
-
-        var command = new UploadDocumentCommand(
-                UUID.fromString(caseId),
-                UUID.fromString(uploadedBy),
-                filename,
-                storedFileUrl,
-                resource.fileSize(),
-                contentType,
-                fileContent
-        );
+            String storedFileUrl = "/api/v1/cases/" + caseId + "/documents/download/" + uniqueFilename;
 
-        var document = commandService.handle(command);
+            document = commandService.handle(new RegisterDocumentCommand(
+                    UUID.fromString(caseId),
+                    UUID.fromString(uploadedBy),
+                    filename,
+                    storedFileUrl,
+                    upload.fileType(),
+                    upload.content()
+            ));
+        } else {
+            document = commandService.handle(new UploadDocumentCommand(
+                    UUID.fromString(caseId),
+                    UUID.fromString(uploadedBy),
+                    filename,
+                    upload.fileUrl(),
+                    upload.fileSize(),
+                    upload.fileType(),
+                    null
+            ));
+        }
 
         if (document.isEmpty())
             return ResponseEntity.badRequest().build();
@@ -209,28 +224,75 @@ public class DocumentsController {
         var documents = queryService.handle(query);
 
         var documentResources = documents.stream()
-                .map(DocumentResourceFromEntityAssembler::toResourceFromEntity)
+                .map(DocumentResourceFromEntityAssembler::toResourceFromView)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(documentResources);
     }
 
+    @DeleteMapping("/{documentId}")
+    @Operation(summary = "Delete a document", description = "Deletes a document; its content is removed once no other document shares it.")
+    public ResponseEntity<Void> deleteDocument(
+            @PathVariable("caseId") String caseId,
+            @PathVariable("documentId") String documentId
+    ) {
+        ResponseEntity<Void> rejection = rejectIfCaseLocked(UUID.fromString(caseId));
+        if (rejection != null)
+            return rejection;
+
+        commandService.handle(new DeleteDocumentCommand(UUID.fromString(caseId), UUID.fromString(documentId)));
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Delete all documents of a case", description = "Deletes every document of the case; shared content is kept while other documents reference it.")
+    public ResponseEntity<Void> deleteDocumentsByCase(@PathVariable("caseId") String caseId) {
+        ResponseEntity<Void> rejection = rejectIfCaseLocked(UUID.fromString(caseId));
+        if (rejection != null)
+            return rejection;
+
+        commandService.handle(new DeleteCaseDocumentsCommand(UUID.fromString(caseId)));
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping(value = "/download/{filename}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    @Operation(summary = "Download document file")
+    @Operation(summary = "Download document file", description = "Streams the document content. Supports Range and If-Range requests.")
     public ResponseEntity<Resource> downloadDocument(
             @PathVariable("caseId") String caseId,
-            @PathVariable("filename") String filename
+            @PathVariable("filename") String filename,
+            HttpServletRequest request
     ) {
         try {
             String targetFileUrl = "/api/v1/cases/" + caseId + "/documents/download/" + filename;
             var documentOptional = queryService.findByCaseIdAndFileUrl(UUID.fromString(caseId), targetFileUrl);
-            if (documentOptional.isPresent() && documentOptional.get().getFileContent() != null) {
+            var storedContent = documentOptional
+                    .filter(document -> document.contentHash() != null)
+                    .flatMap(document -> queryService.handle(new GetDocumentContentQuery(
+                            document.contentHash(), document.contentCodec(), document.fileSize())));
+            if (storedContent.isPresent()) {
                 var document = documentOptional.get();
-                var resource = new ByteArrayResource(document.getFileContent());
-                String contentType = document.getFileType() != null ? document.getFileType() : "application/octet-stream";
+                String contentType = document.fileType() != null ? document.fileType() : "application/octet-stream";
+                // El contenido se direcciona por su hash, por lo que el hash es una ETag fuerte
+                return RangeAwareResourceResponder.respond(
+                        request,
+                        storedContent.get(),
+                        "\"" + document.contentHash() + "\"",
+                        document.uploadedAt().atZone(ZoneId.systemDefault()).toInstant(),
+                        MediaType.parseMediaType(contentType),
+                        document.filename()
+                );
+            }
+
+            // Contenido aún no migrado fuera de la base de datos
+            var inlineContent = documentOptional
+                    .flatMap(document -> queryService.handle(new GetDocumentInlineContentQuery(document.id())));
+            if (inlineContent.isPresent()) {
+                var document = documentOptional.get();
+                var resource = new ByteArrayResource(inlineContent.get());
+                String contentType = document.fileType() != null ? document.fileType() : "application/octet-stream";
                 return ResponseEntity.ok()
                         .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + document.getFilename() + "\"")
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + document.filename() + "\"")
                         .body(resource);
             }
 
@@ -255,5 +317,24 @@ public class DocumentsController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
 
+    /**
+     * Returns the response rejecting a change to the documents of a missing, closed or canceled case,
+     * or {@code null} if the documents can be changed.
+     */
+    private <T> ResponseEntity<T> rejectIfCaseLocked(UUID caseId) {
+        var maybeCase = caseQueryService.handle(new GetCaseByIdQuery(caseId));
+        if (maybeCase.isEmpty())
+            return ResponseEntity.notFound().build();
+
+        CaseStatus status = maybeCase.get().currentStatus();
+        if (status == CaseStatus.CLOSED || status == CaseStatus.CANCELED) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .header("X-Error-Message",
+                        status == CaseStatus.CLOSED ? "Este caso está cerrado y no permite más modificaciones" :
+                        "Este caso está cancelado y no permite más modificaciones")
+                    .build();
+        }
+        return null;
+    }
+}
@@ -8,8 +8,10 @@ import com.qu3dena.lawconnect.backend.cases.domain.services.InvitationCommandSer
 import com.qu3dena.lawconnect.backend.cases.domain.services.InvitationQueryService;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.InvitationResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.InviteLawyerResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.InviteLawyersResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.InvitationResourceFromEntityAssembler;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.InviteLawyerCommandFromResourceAssembler;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.InviteLawyersCommandFromResourceAssembler;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -80,6 +82,29 @@ public class InvitationsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Invites several lawyers to join a case at once.
+     * Lawyers already invited to the case are skipped.
+     *
+     * @param resource the case and the lawyers to invite provided as an InviteLawyersResource
+     * @return a ResponseEntity with the created InvitationResources and HTTP status 201
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Invite several lawyers", description = "Creates invitations for several lawyers to join a case, skipping lawyers already invited.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Invitations created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    public ResponseEntity<List<InvitationResource>> inviteLawyers(
+            @RequestBody InviteLawyersResource resource
+    ) {
+        var command = InviteLawyersCommandFromResourceAssembler.toCommandFromResource(resource);
+        var created = invitationCommandService.handle(command).stream()
+                .map(InvitationResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     /**
      * Retrieves all invitations for a given lawyer.
      *
@@ -0,0 +1,72 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RebuildLawyerDashboardCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetLawyerDashboardQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardCommandService;
+import com.qu3dena.lawconnect.backend.cases.domain.services.LawyerDashboardQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.LawyerDashboardResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.LawyerDashboardResourceFromEntityAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller serving the dashboard of a lawyer from the lawyer dashboard read model.
+ *
+ * @author LawConnect Team
+ * @see LawyerDashboardQueryService
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/lawyers", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Lawyer Dashboard", description = "Lawyer Dashboard Endpoints")
+public class LawyerDashboardController {
+
+    private final LawyerDashboardQueryService dashboardQueryService;
+    private final LawyerDashboardCommandService dashboardCommandService;
+
+    public LawyerDashboardController(LawyerDashboardQueryService dashboardQueryService,
+                                     LawyerDashboardCommandService dashboardCommandService) {
+        this.dashboardQueryService = dashboardQueryService;
+        this.dashboardCommandService = dashboardCommandService;
+    }
+
+    /**
+     * Retrieves the dashboard of a lawyer.
+     *
+     * @param lawyerId the unique identifier of the lawyer
+     * @return a ResponseEntity with the invitations, applications, active cases and final comments of the lawyer
+     */
+    @GetMapping("/{lawyerId}/dashboard")
+    @Operation(summary = "Get lawyer dashboard",
+            description = "Retrieves the invitations, applications, active cases and final comments of a lawyer.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dashboard retrieved successfully")
+    })
+    public ResponseEntity<LawyerDashboardResource> getDashboard(@PathVariable("lawyerId") UUID lawyerId) {
+        var entries = dashboardQueryService.handle(new GetLawyerDashboardQuery(lawyerId));
+        return ResponseEntity.ok(LawyerDashboardResourceFromEntityAssembler.toResourceFromEntities(lawyerId, entries));
+    }
+
+    /**
+     * Rebuilds the dashboards of every lawyer from the cases.
+     *
+     * @return a ResponseEntity with HTTP status 204 once the rebuild is done
+     */
+    @PostMapping("/dashboard/rebuild")
+    @Operation(summary = "Rebuild lawyer dashboards",
+            description = "Recomputes the dashboard rows of every case, several cases at a time.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Dashboards rebuilt")
+    })
+    public ResponseEntity<Void> rebuildDashboards() {
+        dashboardCommandService.handle(new RebuildLawyerDashboardCommand(false));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.commandservices.CaseMessageGroupCommitter;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.MessageGroupCommitStatsResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.MessageGroupCommitStatsResourceFromStatsAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/api/v1/cases/messages/group-commit", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Messages", description = "Case Messaging Endpoints")
+public class MessageGroupCommitStatsController {
+
+    private final CaseMessageGroupCommitter groupCommitter;
+
+    public MessageGroupCommitStatsController(CaseMessageGroupCommitter groupCommitter) {
+        this.groupCommitter = groupCommitter;
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get message group commit statistics",
+            description = "Batch sizes and commit latencies of the message group commit since startup, to tune its batch size and delay.")
+    public ResponseEntity<MessageGroupCommitStatsResource> getStats() {
+        return ResponseEntity.ok(MessageGroupCommitStatsResourceFromStatsAssembler
+                .toResourceFromStats(groupCommitter.isRunning(), groupCommitter.stats()));
+    }
+}
@@ -1,22 +1,27 @@
 package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
 
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MarkMessagesReadCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
 import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetMessagesByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.MessagePageSize;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
 import com.qu3dena.lawconnect.backend.cases.domain.services.MessageCommandService;
 import com.qu3dena.lawconnect.backend.cases.domain.services.MessageQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.MarkMessagesReadResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.MessageResource;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.SendMessageResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.support.CaseMessageStreamRegistry;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.MessageResourceFromEntityAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources.CursorPageResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/api/v1/cases/{caseId}/messages", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -25,10 +30,13 @@ public class MessagesController {
 
     private final MessageCommandService commandService;
     private final MessageQueryService queryService;
+    private final CaseMessageStreamRegistry streamRegistry;
 
-    public MessagesController(MessageCommandService commandService, MessageQueryService queryService) {
+    public MessagesController(MessageCommandService commandService, MessageQueryService queryService,
+                              CaseMessageStreamRegistry streamRegistry) {
         this.commandService = commandService;
         this.queryService = queryService;
+        this.streamRegistry = streamRegistry;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -53,17 +61,51 @@ public class MessagesController {
         return ResponseEntity.status(HttpStatus.CREATED).body(messageResource);
     }
 
+    @PostMapping(value = "/read", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Mark messages read", description = "Marks read every message of the case up to and including the given one, except the reader's own.")
+    public ResponseEntity<Void> markMessagesRead(
+            @PathVariable("caseId") String caseId,
+            @RequestBody MarkMessagesReadResource resource
+    ) {
+        var command = new MarkMessagesReadCommand(UUID.fromString(caseId), resource.readerId(), resource.upToMessageId());
+        commandService.handle(command);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
-    @Operation(summary = "Get all messages for a case")
-    public ResponseEntity<List<MessageResource>> getMessagesByCase(@PathVariable("caseId") String caseId) {
-        var query = new GetMessagesByCaseIdQuery(UUID.fromString(caseId));
-        var messages = queryService.handle(query);
+    @Operation(summary = "Get messages for a case",
+            description = "Retrieves one page of messages, oldest first. Without cursors the latest messages are returned; "
+                    + "use before with the returned cursor to load older messages, or after with the cursor of the newest "
+                    + "message held, as returned on each message, to load newer ones.")
+    public ResponseEntity<CursorPageResource<MessageResource>> getMessagesByCase(
+            @PathVariable("caseId") String caseId,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "" + MessagePageSize.DEFAULT) int size
+    ) {
+        var query = new GetMessagesByCaseIdQuery(UUID.fromString(caseId), toCursor(before), toCursor(after), size);
+        var page = queryService.handle(query);
 
-        var messageResources = messages.stream()
-                .map(MessageResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
+        var items = page.items().stream().map(MessageResourceFromEntityAssembler::toResourceFromEntity).toList();
+        var nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+
+        return ResponseEntity.ok(new CursorPageResource<>(items, nextCursor));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream new messages for a case",
+            description = "Server-sent events with the messages sent after the stream opens. A reconnecting client "
+                    + "sends the last event id back in Last-Event-ID and first receives the messages it missed. A client "
+                    + "too far behind receives a reset event instead and reloads the history up to the cursor it carries.")
+    public SseEmitter streamMessages(
+            @PathVariable("caseId") String caseId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return streamRegistry.subscribe(UUID.fromString(caseId), toCursor(lastEventId));
+    }
 
-        return ResponseEntity.ok(messageResources);
+    private static CaseMessageCursor toCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : CaseMessageCursor.decode(cursor);
     }
 }
 
@@ -0,0 +1,39 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetUnreadCountsByUserIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.services.MessageQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.UnreadCountResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.UnreadCountResourceFromEntityAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(value = "/api/v1/cases/unread-counts", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Messages", description = "Case Messaging Endpoints")
+public class UnreadCountsController {
+
+    private final MessageQueryService queryService;
+
+    public UnreadCountsController(MessageQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get unread message counts of a user", description = "Lists the cases where the user has unread messages, with their count.")
+    public ResponseEntity<List<UnreadCountResource>> getUnreadCounts(@RequestParam("userId") UUID userId) {
+        var counts = queryService.handle(new GetUnreadCountsByUserIdQuery(userId)).stream()
+                .map(UnreadCountResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+
+        return ResponseEntity.ok(counts);
+    }
+}
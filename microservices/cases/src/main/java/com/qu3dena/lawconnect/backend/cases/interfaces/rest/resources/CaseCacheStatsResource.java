@@ -0,0 +1,14 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+public record CaseCacheStatsResource(
+        boolean enabled,
+        int size,
+        int maxSize,
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        long expirations,
+        long invalidated
+) {
+}
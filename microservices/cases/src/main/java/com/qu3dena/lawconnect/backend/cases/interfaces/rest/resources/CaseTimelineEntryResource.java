@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CaseTimelineEntryResource(
+        String type,
+        Instant at,
+        String sourceId,
+        UUID actorId,
+        String detail
+) {
+}
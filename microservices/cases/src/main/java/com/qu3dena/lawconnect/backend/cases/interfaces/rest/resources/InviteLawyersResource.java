@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resource representation for inviting several lawyers to a case at once.
+ *
+ * @param caseId    the unique identifier of the case associated with the invitations
+ * @param lawyerIds the unique identifiers of the lawyers being invited
+ * @param clientId  the unique identifier of the client initiating the invitations
+ *
+ * @author LawConnect Team
+ * @since 1.0
+ */
+public record InviteLawyersResource(
+        UUID caseId,
+        List<UUID> lawyerIds,
+        UUID clientId
+) { }
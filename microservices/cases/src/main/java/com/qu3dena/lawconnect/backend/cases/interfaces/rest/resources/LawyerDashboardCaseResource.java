@@ -0,0 +1,46 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.ApplicationStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.InvitationStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Resource representation of a case on a lawyer's dashboard.
+ *
+ * @param caseId            the unique identifier of the case
+ * @param title             the title of the case
+ * @param clientId          the unique identifier of the client of the case
+ * @param specialtyId       the specialty required by the case
+ * @param status            the current status of the case
+ * @param assigned          whether the lawyer is assigned to the case
+ * @param invitationId      the invitation of the lawyer to the case, if any
+ * @param invitationStatus  the status of that invitation
+ * @param applicationId     the application of the lawyer to the case, if any
+ * @param applicationStatus the status of that application
+ * @param finalCommentId    the latest final review comment of the case, if the lawyer is assigned
+ * @param finalComment      the text of that comment
+ * @param finalCommentAt    when that comment was written
+ * @param createdAt         when the case was created
+ * @param updatedAt         when the case was last updated
+ */
+public record LawyerDashboardCaseResource(
+        UUID caseId,
+        String title,
+        UUID clientId,
+        Long specialtyId,
+        CaseStatus status,
+        boolean assigned,
+        Long invitationId,
+        InvitationStatus invitationStatus,
+        Long applicationId,
+        ApplicationStatus applicationStatus,
+        Long finalCommentId,
+        String finalComment,
+        Instant finalCommentAt,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resource representation of a lawyer's dashboard, most recently updated cases first in each section.
+ *
+ * @param lawyerId      the unique identifier of the lawyer
+ * @param invitations   the cases the lawyer was invited to
+ * @param applications  the cases the lawyer applied to
+ * @param activeCases   the accepted cases assigned to the lawyer
+ * @param finalComments the cases assigned to the lawyer that received a final review comment
+ */
+public record LawyerDashboardResource(
+        UUID lawyerId,
+        List<LawyerDashboardCaseResource> invitations,
+        List<LawyerDashboardCaseResource> applications,
+        List<LawyerDashboardCaseResource> activeCases,
+        List<LawyerDashboardCaseResource> finalComments
+) {
+}
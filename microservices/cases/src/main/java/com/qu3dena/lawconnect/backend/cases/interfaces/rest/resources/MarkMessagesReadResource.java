@@ -0,0 +1,9 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+import java.util.UUID;
+
+public record MarkMessagesReadResource(
+        UUID readerId,
+        UUID upToMessageId
+) {
+}
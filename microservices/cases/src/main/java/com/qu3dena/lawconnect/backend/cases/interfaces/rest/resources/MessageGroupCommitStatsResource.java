@@ -0,0 +1,16 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources;
+
+public record MessageGroupCommitStatsResource(
+        boolean enabled,
+        long batches,
+        long messages,
+        long failedBatches,
+        double averageBatchSize,
+        long largestBatch,
+        double averageCommitMillis,
+        double maxCommitMillis,
+        double averageLatencyMillis,
+        double maxLatencyMillis,
+        int queued
+) {
+}
@@ -9,7 +9,7 @@ public record MessageResource(
         UUID senderId,
         String content,
         LocalDateTime createdAt,
-        Boolean isRead
+        Boolean isRead,
+        String cursor
 ) {
 }
-
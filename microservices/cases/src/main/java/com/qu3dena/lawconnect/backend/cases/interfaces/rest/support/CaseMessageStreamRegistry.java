@@ -0,0 +1,323 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.support;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseMessageSentEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetMessagesByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.MessagePageSize;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.services.MessageQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform.MessageResourceFromEntityAssembler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the open server-sent event streams of case messages and sends new messages to them.
+ * <p>
+ * Each stream remembers the position of the last message it was sent. When a message of its case commits,
+ * the stream reads the messages following that position from the database and sends them, so it sees
+ * messages only once committed, in the order they committed, and without gaps. Each event carries the
+ * message cursor as its id, which a reconnecting client sends back as {@code Last-Event-ID} to resume
+ * from where it left off.
+ * </p>
+ * <p>
+ * The commit listener only signals the streams of the case; the streams are read and written by a small
+ * pool of delivery threads, one thread at a time per stream, so a slow client never holds the thread that
+ * committed the message. The messages missed by a reconnecting client are replayed the same way once the
+ * stream has been handed to the server, with new messages held back until the replay is done. A stream
+ * is sent at most {@code backlog-capacity} messages at once; when it is further behind, it is sent a
+ * {@code reset} event instead, carrying the cursor of the newest message, and the client reloads the
+ * history before it.
+ * </p>
+ */
+@Component
+public class CaseMessageStreamRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseMessageStreamRegistry.class);
+    private static final String MESSAGE_EVENT = "message";
+    private static final String RESET_EVENT = "reset";
+
+    private final Map<UUID, Set<Subscription>> subscriptionsByCase = new ConcurrentHashMap<>();
+    private final MessageQueryService queryService;
+    private final long timeoutMillis;
+    private final int backlogCapacity;
+    private final ExecutorService deliveryExecutor;
+
+    /**
+     * Constructs the registry.
+     *
+     * @param queryService    the service the streamed messages are read from
+     * @param timeout         how long a stream stays open
+     * @param backlogCapacity the most messages sent to a stream at once before its client is told to reload
+     * @param deliveryThreads the number of threads writing to the streams
+     */
+    @Autowired
+    public CaseMessageStreamRegistry(MessageQueryService queryService,
+                                     @Value("${messages.stream.timeout:PT30M}") Duration timeout,
+                                     @Value("${messages.stream.backlog-capacity:100}") int backlogCapacity,
+                                     @Value("${messages.stream.delivery-threads:4}") int deliveryThreads) {
+        this(queryService, timeout, backlogCapacity, Executors.newFixedThreadPool(deliveryThreads, deliveryThreadFactory()));
+    }
+
+    CaseMessageStreamRegistry(MessageQueryService queryService, Duration timeout, int backlogCapacity,
+                              ExecutorService deliveryExecutor) {
+        if (backlogCapacity < 1)
+            throw new IllegalArgumentException("Stream backlog capacity must be positive");
+
+        this.queryService = queryService;
+        this.timeoutMillis = timeout.toMillis();
+        this.backlogCapacity = backlogCapacity;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Opens a stream of the new messages of a case.
+     * <p>
+     * The stream starts sending once the server has taken it over from the request handler.
+     * </p>
+     *
+     * @param caseId   the unique identifier of the case
+     * @param lastSeen the position of the client's last event, whose following messages are replayed first,
+     *                 or {@code null} to only stream messages sent from now on
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(UUID caseId, CaseMessageCursor lastSeen) {
+        var emitter = new CaseMessageEmitter(timeoutMillis);
+        var subscription = register(caseId, emitter, lastSeen);
+        emitter.onHandedOver(subscription::start);
+        return emitter;
+    }
+
+    /**
+     * Opens a stream on the given emitter and starts sending to it right away.
+     */
+    SseEmitter subscribe(UUID caseId, SseEmitter emitter, CaseMessageCursor lastSeen) {
+        register(caseId, emitter, lastSeen).start();
+        return emitter;
+    }
+
+    /**
+     * Signals the streams of the case of a committed message.
+     * <p>
+     * Runs on the thread that committed the message, which for group committed messages is the flusher,
+     * so it never writes to a stream itself.
+     * </p>
+     *
+     * @param event the message sent event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(CaseMessageSentEvent event) {
+        var subscriptions = subscriptionsByCase.get(event.caseId());
+        if (subscriptions != null)
+            subscriptions.forEach(Subscription::signal);
+    }
+
+    /**
+     * Queues a comment on every stream, so idle connections are not dropped by proxies
+     * and streams of disconnected clients are detected and released.
+     */
+    @Scheduled(fixedRateString = "${messages.stream.heartbeat:PT25S}")
+    public void heartbeat() {
+        subscriptionsByCase.values().forEach(subscriptions -> subscriptions.forEach(Subscription::heartbeat));
+    }
+
+    /**
+     * Stops the delivery threads; the open streams are completed by the server on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    private Subscription register(UUID caseId, SseEmitter emitter, CaseMessageCursor lastSeen) {
+        // Registered before the newest message is read, so a message committed meanwhile is sent at least once
+        var subscription = new Subscription(caseId, emitter);
+        subscriptionsByCase.computeIfAbsent(caseId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscription.position = lastSeen != null ? lastSeen : newest(caseId);
+
+        emitter.onCompletion(subscription::remove);
+        emitter.onTimeout(subscription::remove);
+        emitter.onError(e -> subscription.remove());
+        return subscription;
+    }
+
+    /**
+     * Returns the position of the newest committed message of a case.
+     */
+    private CaseMessageCursor newest(UUID caseId) {
+        var latest = queryService.handle(new GetMessagesByCaseIdQuery(caseId, null, null, 1)).items();
+        return latest.isEmpty() ? CaseMessageCursor.START : latest.get(0).cursor();
+    }
+
+    private static boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.debug("Dropping message stream", e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static ThreadFactory deliveryThreadFactory() {
+        var threads = new AtomicInteger();
+        return task -> {
+            var thread = new Thread(task, "case-message-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * An open stream and the position of the last message sent to it.
+     * <p>
+     * Signals received while a delivery thread is writing to the stream are folded into one more read,
+     * so at most one thread writes to the stream at a time and messages are sent in order.
+     * </p>
+     */
+    private final class Subscription {
+
+        private final UUID caseId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        // Starts at one, the pending replay, so no signal schedules a delivery before the stream is started
+        private final AtomicInteger signals = new AtomicInteger(1);
+
+        // Only read and written by the delivery thread holding the signals, or before the stream is started
+        private CaseMessageCursor position;
+
+        private Subscription(UUID caseId, SseEmitter emitter) {
+            this.caseId = caseId;
+            this.emitter = emitter;
+        }
+
+        void start() {
+            deliveryExecutor.execute(this::drain);
+        }
+
+        /**
+         * Makes sure a delivery thread reads the messages committed since the last one sent; never blocks.
+         */
+        void signal() {
+            if (signals.getAndIncrement() == 0)
+                deliveryExecutor.execute(this::drain);
+        }
+
+        void heartbeat() {
+            heartbeatDue.set(true);
+            signal();
+        }
+
+        /**
+         * Sends the messages following the position until no further signal was received meanwhile.
+         */
+        private void drain() {
+            int seen;
+            do {
+                seen = signals.get();
+                try {
+                    if (!catchUp()) {
+                        remove();
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Closing message stream of case {} that could not be read", caseId, e);
+                    remove();
+                    emitter.completeWithError(e);
+                    return;
+                }
+                if (heartbeatDue.getAndSet(false) && !send(emitter, SseEmitter.event().comment("keep-alive"))) {
+                    remove();
+                    return;
+                }
+            } while (signals.addAndGet(-seen) != 0);
+        }
+
+        /**
+         * Sends the messages following the position, or a reset when there are more than the backlog capacity.
+         *
+         * @return whether the stream is still open
+         */
+        private boolean catchUp() {
+            int sent = 0;
+            while (true) {
+                var page = queryService.handle(new GetMessagesByCaseIdQuery(caseId, null, position, MessagePageSize.MAX));
+                for (var message : page.items()) {
+                    if (sent == backlogCapacity)
+                        return reset();
+
+                    var resource = MessageResourceFromEntityAssembler.toResourceFromEntity(message);
+                    if (!send(emitter, SseEmitter.event().id(resource.cursor()).name(MESSAGE_EVENT).data(resource)))
+                        return false;
+
+                    position = message.cursor();
+                    sent++;
+                }
+                if (page.nextCursor() == null)
+                    return true;
+            }
+        }
+
+        /**
+         * Skips to the newest message and tells the client to reload the history up to it.
+         */
+        private boolean reset() {
+            LOGGER.debug("Message stream of case {} fell more than {} messages behind", caseId, backlogCapacity);
+            position = newest(caseId);
+            var cursor = position.encode();
+            return send(emitter, SseEmitter.event().id(cursor).name(RESET_EVENT).data(cursor));
+        }
+
+        void remove() {
+            subscriptionsByCase.computeIfPresent(caseId, (id, current) -> {
+                current.remove(this);
+                return current.isEmpty() ? null : current;
+            });
+        }
+    }
+
+    /**
+     * Emitter that reports when the server takes it over from the request handler, just before the
+     * response is initialized; events sent before then would be buffered in memory.
+     */
+    private static final class CaseMessageEmitter extends SseEmitter {
+
+        private volatile Runnable handedOver = () -> {
+        };
+
+        private CaseMessageEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        void onHandedOver(Runnable callback) {
+            this.handedOver = callback;
+        }
+
+        @Override
+        protected void extendResponse(ServerHttpResponse outputMessage) {
+            super.extendResponse(outputMessage);
+            handedOver.run();
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.BiFunction;
+
+/**
+ * Single-pass reader for the JSON body of a document upload whose {@code fileUrl} may be a base64 {@code data:} URL.
+ * <p>
+ * The data URL is never materialised: its payload is decoded with {@link Base64.Decoder#wrap(InputStream)}
+ * while it is read from the request and handed to a content consumer as a stream, so the memory used by
+ * an upload is bounded by the read buffers whatever the size of the file.
+ * </p>
+ */
+public final class DataUrlDocumentUploadReader {
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64";
+    private static final int MAX_TEXT_LENGTH = 8192;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private DataUrlDocumentUploadReader(InputStream body) {
+        this.in = new InputStreamReader(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Result of reading an upload body.
+     *
+     * @param filename the {@code filename} field
+     * @param fileUrl  the {@code fileUrl} field, or {@code null} when it was a data URL
+     * @param fileSize the {@code fileSize} field
+     * @param fileType the {@code fileType} field
+     * @param content  what the content consumer returned for the data URL, or {@code null} when there was none
+     * @param <T>      the type of the content consumer result
+     */
+    public record DataUrlDocumentUpload<T>(String filename, String fileUrl, Long fileSize, String fileType, T content) {
+    }
+
+    /**
+     * Reads an upload body.
+     *
+     * @param body            the request body, a JSON object with the fields of an upload document resource
+     * @param contentConsumer receives the media type declared by a data URL {@code fileUrl}, or {@code null} if it
+     *                        declares none, and its decoded content, which it must read to its end
+     * @param <T>             the type of the content consumer result
+     * @return the fields of the upload
+     * @throws IllegalArgumentException if the body is not a valid upload document or the data URL is not base64
+     * @throws IOException              if the body cannot be read
+     */
+    public static <T> DataUrlDocumentUpload<T> read(InputStream body, BiFunction<String, InputStream, T> contentConsumer) throws IOException {
+        return new DataUrlDocumentUploadReader(body).readUpload(contentConsumer);
+    }
+
+    private <T> DataUrlDocumentUpload<T> readUpload(BiFunction<String, InputStream, T> contentConsumer) throws IOException {
+        String filename = null;
+        String fileUrl = null;
+        Long fileSize = null;
+        String fileType = null;
+        T content = null;
+
+        if (nextNonWhitespace() != '{')
+            throw malformed();
+
+        int c = nextNonWhitespace();
+        while (c != '}') {
+            if (c != '"')
+                throw malformed();
+            var name = readText();
+            if (nextNonWhitespace() != ':')
+                throw malformed();
+
+            switch (name) {
+                case "filename" -> filename = readNullableText();
+                case "fileType" -> fileType = readNullableText();
+                case "fileSize" -> fileSize = readNullableLong();
+                case "fileUrl" -> {
+                    c = nextNonWhitespace();
+                    if (c == 'n') {
+                        expectLiteral("ull");
+                    } else if (c == '"') {
+                        var prefix = readTextPrefix(DATA_URL_PREFIX.length());
+                        if (prefix.isPlainText()) {
+                            fileUrl = prefix.text();
+                        } else {
+                            content = readDataUrl(contentConsumer);
+                        }
+                    } else {
+                        throw malformed();
+                    }
+                }
+                default -> skipValue();
+            }
+
+            c = nextNonWhitespace();
+            if (c == ',')
+                c = nextNonWhitespace();
+            else if (c != '}')
+                throw malformed();
+        }
+
+        if (nextNonWhitespace() != -1)
+            throw malformed();
+
+        return new DataUrlDocumentUpload<>(filename, fileUrl, fileSize, fileType, content);
+    }
+
+    /**
+     * Reads the remainder of a data URL string after its {@code data:} prefix and streams its decoded payload.
+     */
+    private <T> T readDataUrl(BiFunction<String, InputStream, T> contentConsumer) throws IOException {
+        var header = new StringBuilder();
+        int c;
+        while ((c = nextStringChar()) != ',') {
+            if (c == -1 || header.length() == MAX_TEXT_LENGTH)
+                throw new IllegalArgumentException("Malformed data URL");
+            header.append((char) c);
+        }
+
+        if (!header.toString().endsWith(BASE64_MARKER))
+            throw new IllegalArgumentException("Only base64 data URLs are supported");
+
+        int parametersStart = header.indexOf(";");
+        var mediaType = parametersStart > 0 ? header.substring(0, parametersStart) : null;
+
+        var payload = new StringCharsInputStream();
+        var content = contentConsumer.apply(mediaType, Base64.getDecoder().wrap(payload));
+
+        // The consumer is expected to read the whole payload; anything left is skipped up to the closing quote
+        while (!payload.ended && nextStringChar() != -1) {
+            // skip
+        }
+        return content;
+    }
+
+    /**
+     * Reads the start of a string value; the whole string is read unless it begins with the data URL prefix.
+     */
+    private TextPrefix readTextPrefix(int prefixLength) throws IOException {
+        var text = new StringBuilder();
+        int c;
+        while ((c = nextStringChar()) != -1) {
+            if (text.length() == MAX_TEXT_LENGTH)
+                throw new IllegalArgumentException("Text field is too long");
+            text.append((char) c);
+            if (text.length() == prefixLength && DATA_URL_PREFIX.contentEquals(text))
+                return new TextPrefix(null, false);
+        }
+        return new TextPrefix(text.toString(), true);
+    }
+
+    private record TextPrefix(String text, boolean isPlainText) {
+    }
+
+    private String readNullableText() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == 'n') {
+            expectLiteral("ull");
+            return null;
+        }
+        if (c != '"')
+            throw malformed();
+        return readText();
+    }
+
+    private Long readNullableLong() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == 'n') {
+            expectLiteral("ull");
+            return null;
+        }
+
+        var number = new StringBuilder();
+        while (isNumberChar(c)) {
+            number.append((char) c);
+            if (!isNumberChar(peek()))
+                break;
+            c = next();
+        }
+
+        if (number.isEmpty())
+            throw malformed();
+        return Long.valueOf(number.toString());
+    }
+
+    private String readText() throws IOException {
+        var text = new StringBuilder();
+        int c;
+        while ((c = nextStringChar()) != -1) {
+            if (text.length() == MAX_TEXT_LENGTH)
+                throw new IllegalArgumentException("Text field is too long");
+            text.append((char) c);
+        }
+        return text.toString();
+    }
+
+    private void skipValue() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '"' -> {
+                while (nextStringChar() != -1) {
+                    // skip
+                }
+            }
+            case '{' -> skipContainer('}', true);
+            case '[' -> skipContainer(']', false);
+            default -> {
+                if (c == -1 || !isLiteralChar(c))
+                    throw malformed();
+                while (isLiteralChar(peek()))
+                    next();
+            }
+        }
+    }
+
+    private void skipContainer(char close, boolean hasNames) throws IOException {
+        if (peekNonWhitespace() == close) {
+            next();
+            return;
+        }
+
+        while (true) {
+            if (hasNames) {
+                if (nextNonWhitespace() != '"')
+                    throw malformed();
+                while (nextStringChar() != -1) {
+                    // skip
+                }
+                if (nextNonWhitespace() != ':')
+                    throw malformed();
+            }
+            skipValue();
+
+            int c = nextNonWhitespace();
+            if (c == close)
+                return;
+            if (c != ',')
+                throw malformed();
+        }
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++)
+            if (next() != rest.charAt(i))
+                throw malformed();
+    }
+
+    /**
+     * Returns the next character of the current string value with escapes resolved, or -1 at its closing quote.
+     */
+    private int nextStringChar() throws IOException {
+        int c = next();
+        if (c == -1)
+            throw malformed();
+        if (c == '"')
+            return -1;
+        if (c != '\\')
+            return c;
+
+        int escaped = next();
+        return switch (escaped) {
+            case '"', '\\', '/' -> escaped;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0)
+                        throw malformed();
+                    code = code * 16 + digit;
+                }
+                yield code;
+            }
+            default -> throw malformed();
+        };
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        while (isWhitespace(peek()))
+            next();
+        return peek();
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        peekNonWhitespace();
+        return next();
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            int read = in.read(buffer, 0, buffer.length);
+            if (read <= 0)
+                return -1;
+            position = 0;
+            limit = read;
+        }
+        return buffer[position];
+    }
+
+    private int next() throws IOException {
+        int c = peek();
+        if (c != -1)
+            position++;
+        return c;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static boolean isNumberChar(int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private static boolean isLiteralChar(int c) {
+        return isNumberChar(c) || (c >= 'a' && c <= 'z');
+    }
+
+    private static IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed document upload body");
+    }
+
+    /**
+     * The characters of the current string value as ASCII bytes, ending at its closing quote.
+     */
+    private final class StringCharsInputStream extends InputStream {
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            if (ended)
+                return -1;
+
+            int c = nextStringChar();
+            if (c == -1) {
+                ended = true;
+                return -1;
+            }
+            if (c > 0x7f)
+                throw new IOException("Invalid base64 content");
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+
+            int count = 0;
+            while (count < len) {
+                // Fast path: copy straight from the buffer while there are no escapes and the string goes on
+                if (position < limit) {
+                    char c = buffer[position];
+                    if (c != '"' && c != '\\' && c <= 0x7f) {
+                        b[off + count++] = (byte) c;
+                        position++;
+                        continue;
+                    }
+                }
+
+                int c = read();
+                if (c == -1)
+                    break;
+                b[off + count++] = (byte) c;
+            }
+            return count == 0 ? -1 : count;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.http.server.ServletServerHttpRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Builds streaming download responses for stored content, honouring {@code Range} and {@code If-Range}.
+ * <p>
+ * Content is never copied into the heap. When the servlet container supports it, file content is
+ * handed to the container's sendfile path, which transfers it with {@code FileChannel.transferTo};
+ * otherwise the requested bytes are streamed from the resource.
+ * </p>
+ */
+public final class RangeAwareResourceResponder {
+
+    private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private RangeAwareResourceResponder() {
+    }
+
+    /**
+     * Builds the response serving the given content.
+     * <p>
+     * A single satisfiable byte range yields {@code 206 Partial Content}; requests for several ranges,
+     * malformed ranges and ranges whose {@code If-Range} validator no longer matches are answered with
+     * the full content, as RFC 9110 allows.
+     * </p>
+     *
+     * @param request      the current request
+     * @param resource     the content to serve
+     * @param eTag         the strong entity tag of the content
+     * @param lastModified the instant the content was last modified
+     * @param contentType  the media type of the content
+     * @param filename     the filename advertised in the {@code Content-Disposition} header
+     * @return a 200, 206, 304 or 416 response
+     * @throws IOException if the content cannot be read
+     */
+    public static ResponseEntity<Resource> respond(HttpServletRequest request, Resource resource, String eTag,
+                                                   Instant lastModified, MediaType contentType, String filename) throws IOException {
+        var requestHeaders = new ServletServerHttpRequest(request).getHeaders();
+        long length = resource.contentLength();
+
+        var headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setLastModified(lastModified);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+
+        if (requestHeaders.getIfNoneMatch().contains(eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+
+        headers.setContentType(contentType);
+
+        var range = requestedRange(requestHeaders, eTag, lastModified);
+        if (range == null)
+            return body(request, resource, HttpStatus.OK, headers, 0, length);
+
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length) + 1;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+        }
+
+        if (start >= length)
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+        return body(request, resource, HttpStatus.PARTIAL_CONTENT, headers, start, end);
+    }
+
+    /**
+     * Returns the single range to serve, or {@code null} when the full content must be sent.
+     */
+    private static HttpRange requestedRange(HttpHeaders requestHeaders, String eTag, Instant lastModified) {
+        if (requestHeaders.getFirst(HttpHeaders.RANGE) == null)
+            return null;
+
+        var ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(requestHeaders, ifRange, eTag, lastModified))
+            return null;
+
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    private static boolean ifRangeMatches(HttpHeaders requestHeaders, String ifRange, String eTag, Instant lastModified) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/"))
+            return ifRange.equals(eTag);
+
+        long since = requestHeaders.getFirstDate(HttpHeaders.IF_RANGE);
+        return since != -1 && lastModified.getEpochSecond() <= since / 1000;
+    }
+
+    /**
+     * Serves the bytes {@code [start, end)} of the resource.
+     * <p>
+     * The body is an {@link InputStreamResource} so that Spring MVC neither buffers it nor
+     * re-applies the {@code Range} header on its own.
+     * </p>
+     */
+    private static ResponseEntity<Resource> body(HttpServletRequest request, Resource resource, HttpStatus status,
+                                                 HttpHeaders headers, long start, long end) throws IOException {
+        headers.setContentLength(end - start);
+
+        if (trySendfile(request, resource, start, end))
+            return ResponseEntity.status(status).headers(headers).build();
+
+        var in = resource.getInputStream();
+        try {
+            in.skipNBytes(start);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+
+        return ResponseEntity.status(status).headers(headers).body(new InputStreamResource(new BoundedInputStream(in, end - start)));
+    }
+
+    private static boolean trySendfile(HttpServletRequest request, Resource resource, long start, long end) throws IOException {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !resource.isFile())
+            return false;
+
+        request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, resource.getFile().getAbsolutePath());
+        request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+        request.setAttribute(SENDFILE_END_ATTRIBUTE, end);
+        return true;
+    }
+
+    /**
+     * Input stream that stops after a fixed number of bytes.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0)
+                return -1;
+
+            int b = super.read();
+            if (b != -1)
+                remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0)
+                return -1;
+
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0)
+                remaining -= read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
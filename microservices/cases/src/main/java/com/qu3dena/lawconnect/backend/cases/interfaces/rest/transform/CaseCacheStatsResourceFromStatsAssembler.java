@@ -0,0 +1,20 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseCacheStatsResource;
+
+public class CaseCacheStatsResourceFromStatsAssembler {
+    public static CaseCacheStatsResource toResourceFromStats(CaseSnapshotCache.Stats stats) {
+        return new CaseCacheStatsResource(
+                stats.enabled(),
+                stats.size(),
+                stats.maxSize(),
+                stats.hits(),
+                stats.misses(),
+                stats.hitRatio(),
+                stats.evictions(),
+                stats.expirations(),
+                stats.invalidated()
+        );
+    }
+}
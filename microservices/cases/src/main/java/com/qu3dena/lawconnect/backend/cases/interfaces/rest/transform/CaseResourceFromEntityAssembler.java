@@ -13,7 +13,7 @@ public class CaseResourceFromEntityAssembler {
                 entity.getClientId(),
                 entity.getAssignedLawyerId(),
                 entity.getSpecialtyId(),
-                entity.getStatus(),
+                entity.getCurrentStatus(),
                 entity.getCreatedAt().toInstant(),
                 entity.getUpdatedAt().toInstant()
         );
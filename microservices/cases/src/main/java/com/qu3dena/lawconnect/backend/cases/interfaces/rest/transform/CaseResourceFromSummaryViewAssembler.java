@@ -0,0 +1,21 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseResource;
+
+public class CaseResourceFromSummaryViewAssembler {
+
+    public static CaseResource toResourceFromView(CaseSummaryView view) {
+        return new CaseResource(
+                view.id(),
+                view.title(),
+                view.description(),
+                view.clientId(),
+                view.assignedLawyerId(),
+                view.specialtyId(),
+                view.currentStatus(),
+                view.createdAt().toInstant(),
+                view.updatedAt().toInstant()
+        );
+    }
+}
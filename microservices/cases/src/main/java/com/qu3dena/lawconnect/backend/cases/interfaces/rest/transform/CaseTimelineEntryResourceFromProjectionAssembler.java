@@ -0,0 +1,16 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseTimelineEntry;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.CaseTimelineEntryResource;
+
+public class CaseTimelineEntryResourceFromProjectionAssembler {
+    public static CaseTimelineEntryResource toResourceFromProjection(CaseTimelineEntry entry) {
+        return new CaseTimelineEntryResource(
+                entry.type().name(),
+                entry.at(),
+                entry.sourceId(),
+                entry.actorId(),
+                entry.detail()
+        );
+    }
+}
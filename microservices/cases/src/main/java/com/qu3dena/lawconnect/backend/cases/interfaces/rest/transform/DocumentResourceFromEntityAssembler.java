@@ -1,6 +1,7 @@
 package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
 
 import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Document;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.DocumentMetadataView;
 import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.DocumentResource;
 
 public class DocumentResourceFromEntityAssembler {
@@ -16,5 +17,18 @@ public class DocumentResourceFromEntityAssembler {
                 entity.getUploadedAt()
         );
     }
+
+    public static DocumentResource toResourceFromView(DocumentMetadataView view) {
+        return new DocumentResource(
+                view.id(),
+                view.caseId(),
+                view.uploadedBy(),
+                view.filename(),
+                view.fileUrl(),
+                view.fileSize(),
+                view.fileType(),
+                view.uploadedAt()
+        );
+    }
 }
 
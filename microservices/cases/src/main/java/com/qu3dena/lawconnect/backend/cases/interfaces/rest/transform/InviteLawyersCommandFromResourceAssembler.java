@@ -0,0 +1,14 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyersCommand;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.InviteLawyersResource;
+
+public class InviteLawyersCommandFromResourceAssembler {
+    public static InviteLawyersCommand toCommandFromResource(InviteLawyersResource resource) {
+        return new InviteLawyersCommand(
+                resource.caseId(),
+                resource.lawyerIds(),
+                resource.clientId()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.LawyerDashboardEntry;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.LawyerDashboardCaseResource;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.LawyerDashboardResource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public class LawyerDashboardResourceFromEntityAssembler {
+    public static LawyerDashboardResource toResourceFromEntities(UUID lawyerId, List<LawyerDashboardEntry> entries) {
+        var invitations = new ArrayList<LawyerDashboardCaseResource>();
+        var applications = new ArrayList<LawyerDashboardCaseResource>();
+        var activeCases = new ArrayList<LawyerDashboardCaseResource>();
+        var finalComments = new ArrayList<LawyerDashboardCaseResource>();
+
+        for (var entry : entries) {
+            var resource = toResourceFromEntity(entry);
+            if (entry.getInvitationId() != null)
+                invitations.add(resource);
+            if (entry.getApplicationId() != null)
+                applications.add(resource);
+            if (entry.isAssigned() && entry.getCaseStatus() == CaseStatus.ACCEPTED)
+                activeCases.add(resource);
+            if (entry.isAssigned() && entry.getFinalCommentId() != null)
+                finalComments.add(resource);
+        }
+
+        return new LawyerDashboardResource(lawyerId, invitations, applications, activeCases, finalComments);
+    }
+
+    public static LawyerDashboardCaseResource toResourceFromEntity(LawyerDashboardEntry entity) {
+        return new LawyerDashboardCaseResource(
+                entity.getCaseId(),
+                entity.getCaseTitle(),
+                entity.getClientId(),
+                entity.getSpecialtyId(),
+                entity.getCaseStatus(),
+                entity.isAssigned(),
+                entity.getInvitationId(),
+                entity.getInvitationStatus(),
+                entity.getApplicationId(),
+                entity.getApplicationStatus(),
+                entity.getFinalCommentId(),
+                entity.getFinalComment(),
+                toInstant(entity.getFinalCommentAt()),
+                toInstant(entity.getCaseCreatedAt()),
+                toInstant(entity.getCaseUpdatedAt())
+        );
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
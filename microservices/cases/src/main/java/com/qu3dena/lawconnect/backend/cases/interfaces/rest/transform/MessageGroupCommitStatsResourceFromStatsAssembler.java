@@ -0,0 +1,22 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.commandservices.CaseMessageGroupCommitter;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.MessageGroupCommitStatsResource;
+
+public class MessageGroupCommitStatsResourceFromStatsAssembler {
+    public static MessageGroupCommitStatsResource toResourceFromStats(boolean enabled, CaseMessageGroupCommitter.Stats stats) {
+        return new MessageGroupCommitStatsResource(
+                enabled,
+                stats.batches(),
+                stats.messages(),
+                stats.failedBatches(),
+                stats.averageBatchSize(),
+                stats.largestBatch(),
+                stats.averageCommitMillis(),
+                stats.maxCommitMillis(),
+                stats.averageLatencyMillis(),
+                stats.maxLatencyMillis(),
+                stats.queued()
+        );
+    }
+}
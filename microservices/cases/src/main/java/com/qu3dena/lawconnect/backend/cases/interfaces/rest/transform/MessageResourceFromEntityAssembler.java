@@ -11,8 +11,8 @@ public class MessageResourceFromEntityAssembler {
                 entity.getSenderId(),
                 entity.getContent(),
                 entity.getCreatedAt(),
-                entity.getIsRead()
+                entity.getIsRead(),
+                entity.cursor().encode()
         );
     }
 }
-
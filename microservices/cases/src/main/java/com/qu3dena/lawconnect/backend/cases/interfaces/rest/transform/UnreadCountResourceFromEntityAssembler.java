@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseUnreadCounter;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.UnreadCountResource;
+
+public class UnreadCountResourceFromEntityAssembler {
+    public static UnreadCountResource toResourceFromEntity(CaseUnreadCounter entity) {
+        return new UnreadCountResource(
+                entity.getCaseId(),
+                entity.getUnreadCount()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Value object representing one page of a keyset paginated listing.
+ *
+ * @param items      the rows of the page, in listing order
+ * @param nextCursor the cursor pointing at the last row, or {@code null} when there are no more pages
+ * @param <T>        the type of the rows
+ */
+public record CursorPage<T>(List<T> items, KeysetCursor nextCursor) {
+
+    /**
+     * Builds a page from a slice fetched with one extra row beyond the requested size.
+     * <p>
+     * The extra row only signals that another page exists and is not returned.
+     * </p>
+     *
+     * @param rows      the fetched rows, at most {@code size + 1}
+     * @param size      the requested page size
+     * @param cursorKey the function extracting the sort key of a row
+     * @param <T>       the type of the rows
+     * @return the page
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorKey) {
+        if (rows.size() <= size)
+            return new CursorPage<>(rows, null);
+
+        var items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorKey.apply(items.get(size - 1)));
+    }
+
+    /**
+     * Maps the rows of this page, keeping its cursor.
+     *
+     * @param mapper the function applied to each row
+     * @param <R>    the type of the mapped rows
+     * @return the mapped page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Returns the cursor of the next page, if any.
+     *
+     * @return an optional containing the next cursor
+     */
+    public Optional<KeysetCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,60 @@
+package com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily merges several sorted iterators into one sorted iterator.
+ * <p>
+ * Only the head of each source is held, in a heap, so producing an element costs {@code O(log k)}
+ * for {@code k} sources and a source is only advanced when its head is taken.
+ * Elements of the same source keep their relative order.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class KWayMergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    /**
+     * Constructs the merge.
+     *
+     * @param sources    the sources, each sorted by {@code comparator}
+     * @param comparator the order of the sources and of the merged elements
+     */
+    public KWayMergeIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        Comparator<Head<T>> byElement = (a, b) -> comparator.compare(a.element, b.element);
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()), byElement.thenComparingInt(head -> head.source));
+
+        var iterators = new ArrayList<Iterator<? extends T>>(sources);
+        for (int i = 0; i < iterators.size(); i++) {
+            var source = iterators.get(i);
+            if (source.hasNext())
+                heads.add(new Head<>(source.next(), i, source));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        var head = heads.poll();
+        if (head == null)
+            throw new NoSuchElementException();
+
+        if (head.iterator.hasNext())
+            heads.add(new Head<>(head.iterator.next(), head.source, head.iterator));
+        return head.element;
+    }
+
+    private record Head<T>(T element, int source, Iterator<? extends T> iterator) {
+    }
+}
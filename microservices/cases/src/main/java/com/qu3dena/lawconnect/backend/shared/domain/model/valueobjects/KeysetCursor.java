@@ -0,0 +1,76 @@
+package com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a position in a keyset (seek) paginated listing.
+ * <p>
+ * A cursor points at the last row of a page through its {@code (timestamp, id)} sort key,
+ * so the next page can be fetched with an indexed range predicate instead of an offset.
+ * It travels to clients as an opaque URL-safe token.
+ * </p>
+ *
+ * @param timestamp the creation timestamp of the last row of the page
+ * @param id        the identifier of the last row of the page, used to break timestamp ties
+ */
+public record KeysetCursor(Instant timestamp, UUID id) {
+
+    private static final int ENCODED_LENGTH = Long.BYTES * 4;
+
+    /**
+     * Constructs a {@code KeysetCursor} value object.
+     *
+     * @param timestamp the creation timestamp of the last row of the page
+     * @param id        the identifier of the last row of the page
+     */
+    public KeysetCursor {
+        Objects.requireNonNull(timestamp, "Cursor timestamp cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token representing this cursor
+     */
+    public String encode() {
+        var buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(timestamp.getEpochSecond())
+                .putLong(timestamp.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("Cursor cannot be null or blank");
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (bytes.length != ENCODED_LENGTH)
+            throw new IllegalArgumentException("Invalid cursor");
+
+        var buffer = ByteBuffer.wrap(bytes);
+        var timestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getLong());
+
+        return new KeysetCursor(timestamp, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Cursor Page Resource
+ *
+ * @param items      the items of the page
+ * @param nextCursor the opaque cursor of the next page, or {@code null} on the last page
+ * @param <T>        the type of the items
+ */
+public record CursorPageResource<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,29 @@
+package com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform;
+
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.CursorPage;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.resources.CursorPageResource;
+
+import java.util.function.Function;
+
+/**
+ * Assembler to convert a {@link CursorPage} into a {@link CursorPageResource}.
+ */
+public class CursorPageResourceFromCursorPageAssembler {
+
+    /**
+     * Converts a page of entities into a page resource, encoding its cursor as an opaque token.
+     *
+     * @param page      the page of entities
+     * @param assembler the function converting each entity into its resource
+     * @param <T>       the type of the entities
+     * @param <R>       the type of the resources
+     * @return the page resource
+     */
+    public static <T, R> CursorPageResource<R> toResourceFromPage(CursorPage<T> page, Function<T, R> assembler) {
+        var items = page.items().stream().map(assembler).toList();
+        var nextCursor = page.next().map(KeysetCursor::encode).orElse(null);
+
+        return new CursorPageResource<>(items, nextCursor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform;
+
+import java.util.UUID;
+
+/**
+ * Assembler to derive the entity tag of a resource from the identifier and version of its aggregate.
+ * <p>
+ * The version changes on every update of the aggregate, so equal tags mean byte-identical
+ * representations and the tag can be compared strongly.
+ * </p>
+ */
+public class EntityTagFromVersionAssembler {
+
+    /**
+     * Builds the entity tag of a resource.
+     *
+     * @param id      the identifier of the resource
+     * @param version the version of the aggregate behind the resource
+     * @return the entity tag, without the surrounding quotes
+     */
+    public static String toEntityTag(UUID id, Long version) {
+        return id + "-" + version;
+    }
+}
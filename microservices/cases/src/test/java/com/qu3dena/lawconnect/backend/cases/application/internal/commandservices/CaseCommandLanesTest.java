@@ -0,0 +1,138 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseCommandLanes}.
+ */
+class CaseCommandLanesTest {
+
+    private static final int CASES = 10;
+    private static final int COMMANDS = 200;
+
+    @Test
+    void testSerializesCommandsOfTheSameCaseAndRunsCasesInParallel() throws Exception {
+        // Arrange
+        var lanes = new CaseCommandLanes(TransactionOperations.withoutTransaction(), 64, Duration.ofSeconds(30));
+        var caseIds = casesOnDistinctLanes(lanes);
+        var counters = new int[CASES];
+        var running = new AtomicInteger[CASES];
+        for (int i = 0; i < CASES; i++)
+            running[i] = new AtomicInteger();
+        var maxRunningPerCase = new AtomicInteger();
+        var runningOverall = new AtomicInteger();
+        var maxRunningOverall = new AtomicInteger();
+
+        // Act
+        var executor = Executors.newFixedThreadPool(32);
+        var results = new ArrayList<Future<Integer>>(COMMANDS);
+        try {
+            for (int i = 0; i < COMMANDS; i++) {
+                int caseIndex = i % CASES;
+                results.add(executor.submit(() -> lanes.execute(caseIds.get(caseIndex), () -> {
+                    maxRunningPerCase.accumulateAndGet(running[caseIndex].incrementAndGet(), Math::max);
+                    maxRunningOverall.accumulateAndGet(runningOverall.incrementAndGet(), Math::max);
+
+                    // A read-modify-write that loses updates unless commands of a case are serialized
+                    int read = counters[caseIndex];
+                    sleep(2);
+                    counters[caseIndex] = read + 1;
+
+                    runningOverall.decrementAndGet();
+                    running[caseIndex].decrementAndGet();
+                    return read + 1;
+                })));
+            }
+            for (var result : results)
+                result.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        for (int i = 0; i < CASES; i++)
+            assertEquals(COMMANDS / CASES, counters[i]);
+        assertEquals(1, maxRunningPerCase.get());
+        assertTrue(maxRunningOverall.get() > 1);
+    }
+
+    @Test
+    void testFailingCommandReleasesItsLane() {
+        // Arrange
+        var lanes = new CaseCommandLanes(TransactionOperations.withoutTransaction(), 1, Duration.ofMillis(100));
+        var caseId = UUID.randomUUID();
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> lanes.execute(caseId, () -> {
+            throw new IllegalArgumentException("Invalid command");
+        }));
+        var result = lanes.execute(caseId, () -> "executed");
+
+        // Assert
+        assertEquals("executed", result);
+    }
+
+    @Test
+    void testCommandFailsWhenLaneStaysBusy() throws Exception {
+        // Arrange
+        var lanes = new CaseCommandLanes(TransactionOperations.withoutTransaction(), 1, Duration.ofMillis(50));
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = new Thread(() -> lanes.execute(UUID.randomUUID(), () -> {
+            entered.countDown();
+            await(release);
+            return null;
+        }));
+        holder.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // Act
+        var error = assertThrows(IllegalStateException.class, () -> lanes.execute(UUID.randomUUID(), () -> "late"));
+        release.countDown();
+        holder.join();
+
+        // Assert
+        assertEquals("The case is busy, please retry", error.getMessage());
+    }
+
+    private static List<UUID> casesOnDistinctLanes(CaseCommandLanes lanes) {
+        var caseIds = new ArrayList<UUID>(CASES);
+        var usedLanes = new HashSet<Integer>();
+        while (caseIds.size() < CASES) {
+            var caseId = UUID.randomUUID();
+            if (usedLanes.add(lanes.laneOf(caseId)))
+                caseIds.add(caseId);
+        }
+        return caseIds;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
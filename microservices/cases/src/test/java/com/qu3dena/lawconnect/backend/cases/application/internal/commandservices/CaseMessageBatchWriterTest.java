@@ -0,0 +1,90 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseParticipants;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageSequenceRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseUnreadCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CaseMessageBatchWriter}.
+ */
+class CaseMessageBatchWriterTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final UUID CLIENT_ID = UUID.randomUUID();
+    private static final UUID LAWYER_ID = UUID.randomUUID();
+
+    private final CaseMessageRepository messageRepository = mock(CaseMessageRepository.class);
+    private final CaseMessageSequenceRepository sequenceRepository = mock(CaseMessageSequenceRepository.class);
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private final CaseUnreadCounterRepository unreadCounterRepository = mock(CaseUnreadCounterRepository.class);
+    private final CaseMessageBatchWriter writer = new CaseMessageBatchWriter(messageRepository, sequenceRepository, caseRepository,
+            unreadCounterRepository, mock(ApplicationEventPublisher.class));
+
+    @Test
+    void testIncrementsCounterOfOtherParticipantOncePerBatch() {
+        // Arrange
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(caseRepository.findParticipantsById(CASE_ID)).thenReturn(Optional.of(new CaseParticipants(CLIENT_ID, LAWYER_ID)));
+
+        // Act
+        var saved = writer.write(List.of(
+                new SendMessageCommand(CASE_ID, CLIENT_ID, "first"),
+                new SendMessageCommand(CASE_ID, CLIENT_ID, "second"),
+                new SendMessageCommand(CASE_ID, LAWYER_ID, "reply")));
+
+        // Assert
+        assertEquals(3, saved.size());
+        verify(unreadCounterRepository).increment(LAWYER_ID, CASE_ID, 2);
+        verify(unreadCounterRepository).increment(CLIENT_ID, CASE_ID, 1);
+        verifyNoMoreInteractions(unreadCounterRepository);
+    }
+
+    @Test
+    void testDoesNotCountMessagesForMissingLawyer() {
+        // Arrange
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(caseRepository.findParticipantsById(CASE_ID)).thenReturn(Optional.of(new CaseParticipants(CLIENT_ID, null)));
+
+        // Act
+        writer.write(List.of(new SendMessageCommand(CASE_ID, CLIENT_ID, "anyone there?")));
+
+        // Assert
+        verify(unreadCounterRepository, never()).increment(any(), any(), anyLong());
+    }
+
+    @Test
+    void testNumbersMessagesOfEachCaseAfterTheReservedSequence() {
+        // Arrange
+        var otherCaseId = UUID.randomUUID();
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sequenceRepository.findLastSequenceNumber(CASE_ID)).thenReturn(12L);
+        when(sequenceRepository.findLastSequenceNumber(otherCaseId)).thenReturn(1L);
+
+        // Act
+        var saved = writer.write(List.of(
+                new SendMessageCommand(CASE_ID, CLIENT_ID, "first"),
+                new SendMessageCommand(otherCaseId, CLIENT_ID, "elsewhere"),
+                new SendMessageCommand(CASE_ID, CLIENT_ID, "second")));
+
+        // Assert
+        var inOrder = inOrder(sequenceRepository, messageRepository);
+        inOrder.verify(sequenceRepository).reserve(CASE_ID, 2);
+        inOrder.verify(messageRepository).saveAll(anyList());
+        verify(sequenceRepository).reserve(otherCaseId, 1);
+        assertEquals(List.of(11L, 1L, 12L), saved.stream().map(CaseMessage::getSequenceNumber).toList());
+    }
+}
@@ -0,0 +1,155 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseMessageGroupCommitter}.
+ */
+class CaseMessageGroupCommitterTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final UUID SENDER_ID = UUID.randomUUID();
+
+    @Test
+    void testSubmitGroupsConcurrentMessagesIntoBatches() throws Exception {
+        // Arrange
+        var batchSizes = new CopyOnWriteArrayList<Integer>();
+        var committer = newCommitter(commands -> {
+            batchSizes.add(commands.size());
+            sleep(20);
+            return save(commands);
+        });
+        committer.start();
+
+        // Act
+        var results = submitConcurrently(committer, 50, i -> "message " + i);
+        committer.stop();
+
+        // Assert
+        for (int i = 0; i < results.size(); i++)
+            assertEquals("message " + i, results.get(i).get().getContent());
+        assertEquals(50, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.size() < 50);
+        assertEquals(50, committer.stats().messages());
+        assertEquals(batchSizes.size(), committer.stats().batches());
+    }
+
+    @Test
+    void testFailingMessageOnlyFailsItsSender() throws Exception {
+        // Arrange
+        var committer = newCommitter(commands -> {
+            if (commands.stream().anyMatch(command -> command.content().isEmpty()))
+                throw new IllegalArgumentException("Empty message");
+            sleep(20);
+            return save(commands);
+        });
+        committer.start();
+
+        // Act
+        var results = submitConcurrently(committer, 20, i -> i == 7 ? "" : "message " + i);
+        committer.stop();
+
+        // Assert
+        for (int i = 0; i < results.size(); i++) {
+            if (i == 7) {
+                var error = assertThrows(ExecutionException.class, results.get(i)::get);
+                assertInstanceOf(IllegalArgumentException.class, error.getCause());
+            } else {
+                assertEquals("message " + i, results.get(i).get().getContent());
+            }
+        }
+        assertEquals(19, committer.stats().messages());
+    }
+
+    @Test
+    void testTimedOutMessageIsNeverWrittenWhenWriterIsSlow() throws Exception {
+        // Arrange
+        var written = new CopyOnWriteArrayList<String>();
+        var writing = new CountDownLatch(1);
+        var committer = new CaseMessageGroupCommitter(commands -> {
+            writing.countDown();
+            sleep(300);
+            commands.forEach(command -> written.add(command.content()));
+            return save(commands);
+        }, true, 1, Duration.ofMillis(1), 10, Duration.ofMillis(100));
+        committer.start();
+        var executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        var slow = executor.submit(() -> committer.submit(new SendMessageCommand(CASE_ID, SENDER_ID, "slow")));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        var queued = executor.submit(() -> committer.submit(new SendMessageCommand(CASE_ID, SENDER_ID, "queued")));
+        var queuedError = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        var slowMessage = slow.get(5, TimeUnit.SECONDS);
+        committer.stop();
+        executor.shutdown();
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, queuedError.getCause());
+        assertEquals("slow", slowMessage.getContent());
+        assertEquals(List.of("slow"), written);
+        assertEquals(0, committer.stats().queued());
+    }
+
+    @Test
+    void testSubmitRejectedWhenDisabled() {
+        // Arrange
+        var committer = new CaseMessageGroupCommitter(CaseMessageGroupCommitterTest::save,
+                false, 10, Duration.ofMillis(5), 10, Duration.ofSeconds(1));
+        committer.start();
+
+        // Act & Assert
+        assertFalse(committer.isRunning());
+        assertThrows(IllegalStateException.class,
+                () -> committer.submit(new SendMessageCommand(CASE_ID, SENDER_ID, "message")));
+    }
+
+    private static CaseMessageGroupCommitter newCommitter(Function<List<SendMessageCommand>, List<CaseMessage>> writer) {
+        return new CaseMessageGroupCommitter(writer, true, 100, Duration.ofMillis(5), 100, Duration.ofSeconds(10));
+    }
+
+    private static List<Future<CaseMessage>> submitConcurrently(CaseMessageGroupCommitter committer, int count,
+                                                                Function<Integer, String> content) throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(count);
+        var results = new ArrayList<Future<CaseMessage>>();
+        for (int i = 0; i < count; i++) {
+            var command = new SendMessageCommand(CASE_ID, SENDER_ID, content.apply(i));
+            results.add(executor.submit(() -> committer.submit(command)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return results;
+    }
+
+    private static List<CaseMessage> save(List<SendMessageCommand> commands) {
+        return commands.stream().map(command -> {
+            var message = new CaseMessage(command.caseId(), command.senderId(), command.content());
+            message.setId(UUID.randomUUID());
+            return message;
+        }).toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
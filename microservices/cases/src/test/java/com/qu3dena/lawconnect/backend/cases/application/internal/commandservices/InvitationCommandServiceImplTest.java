@@ -0,0 +1,78 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import com.qu3dena.lawconnect.backend.cases.application.internal.queryservices.CaseSnapshotCache;
+import com.qu3dena.lawconnect.backend.cases.domain.model.aggregates.CaseAggregate;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.InviteLawyersCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.Invitation;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseTitle;
+import com.qu3dena.lawconnect.backend.cases.domain.services.CaseEvaluationService;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.InvitationRepository;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.Description;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link InvitationCommandServiceImpl}.
+ */
+class InvitationCommandServiceImplTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final UUID CLIENT_ID = UUID.randomUUID();
+
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private final InvitationRepository invitationRepository = mock(InvitationRepository.class);
+    private final DomainEventOutbox eventOutbox = mock(DomainEventOutbox.class);
+    private final InvitationCommandServiceImpl service = new InvitationCommandServiceImpl(caseRepository,
+            invitationRepository, mock(CaseEvaluationService.class), eventOutbox, mock(CaseSnapshotCache.class),
+            new CaseCommandLanes(TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(1)));
+
+    @Test
+    void testInviteLawyersSkipsInvitedLawyersAndEvaluatesTheCaseOnce() {
+        // Arrange
+        var legalCase = CaseAggregate.create(CLIENT_ID, new CaseTitle("Title"), new Description("Description"), null);
+        var invited = UUID.randomUUID();
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        when(caseRepository.findById(CASE_ID)).thenReturn(Optional.of(legalCase));
+        when(invitationRepository.findInvitedLawyerIds(eq(CASE_ID), anyCollection())).thenReturn(List.of(invited));
+        when(invitationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        var invitations = service.handle(new InviteLawyersCommand(CASE_ID, List.of(invited, first), CLIENT_ID));
+        var later = service.handle(new InviteLawyersCommand(CASE_ID, List.of(second), CLIENT_ID));
+
+        // Assert
+        assertEquals(List.of(first), invitations.stream().map(Invitation::getLawyerId).toList());
+        assertEquals(List.of(second), later.stream().map(Invitation::getLawyerId).toList());
+        assertEquals(CaseStatus.EVALUATION, legalCase.getCurrentStatus());
+        verify(caseRepository, times(1)).save(legalCase);
+        verify(eventOutbox, times(2)).appendAll(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void testInviteLawyersRejectsClosedCase() {
+        // Arrange
+        var legalCase = CaseAggregate.create(CLIENT_ID, new CaseTitle("Title"), new Description("Description"), null);
+        legalCase.accept(UUID.randomUUID());
+        legalCase.close();
+        when(caseRepository.findById(CASE_ID)).thenReturn(Optional.of(legalCase));
+        var command = new InviteLawyersCommand(CASE_ID, List.of(UUID.randomUUID()), CLIENT_ID);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.handle(command));
+        verify(invitationRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventOutbox);
+    }
+}
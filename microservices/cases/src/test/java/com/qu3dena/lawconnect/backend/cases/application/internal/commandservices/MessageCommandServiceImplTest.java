@@ -0,0 +1,122 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.commandservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.MarkMessagesReadCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.RecountUnreadMessagesCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseParticipants;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.UnreadCountDrift;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseMessageRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.CaseUnreadCounterRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link MessageCommandServiceImpl}.
+ */
+class MessageCommandServiceImplTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final UUID CLIENT_ID = UUID.randomUUID();
+    private static final UUID LAWYER_ID = UUID.randomUUID();
+
+    private final CaseMessageRepository messageRepository = mock(CaseMessageRepository.class);
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private final CaseUnreadCounterRepository unreadCounterRepository = mock(CaseUnreadCounterRepository.class);
+    private final MessageCommandServiceImpl service = new MessageCommandServiceImpl(messageRepository, caseRepository,
+            unreadCounterRepository, mock(CaseMessageBatchWriter.class), mock(CaseMessageGroupCommitter.class));
+
+    @Test
+    void testRecountCorrectsDriftedCountersByTheirDifference() {
+        // Arrange
+        var otherCaseId = UUID.randomUUID();
+        when(unreadCounterRepository.findDrifts()).thenReturn(List.of(
+                drift(CLIENT_ID, CASE_ID, 2),
+                drift(LAWYER_ID, otherCaseId, -5)));
+
+        // Act
+        int corrected = service.handle(new RecountUnreadMessagesCommand());
+
+        // Assert
+        assertEquals(2, corrected);
+        verify(unreadCounterRepository).increment(CLIENT_ID, CASE_ID, 2);
+        verify(unreadCounterRepository).decrement(LAWYER_ID, otherCaseId, 5);
+        verifyNoMoreInteractions(ignoreStubs(unreadCounterRepository));
+    }
+
+    @Test
+    void testRecountLeavesCountersAloneWithoutDrift() {
+        // Arrange
+        when(unreadCounterRepository.findDrifts()).thenReturn(List.of());
+
+        // Act
+        int corrected = service.handle(new RecountUnreadMessagesCommand());
+
+        // Assert
+        assertEquals(0, corrected);
+        verify(unreadCounterRepository, never()).increment(any(), any(), anyLong());
+        verify(unreadCounterRepository, never()).decrement(any(), any(), anyLong());
+    }
+
+    @Test
+    void testMarkReadDecrementsCounterOfReaderByMessagesMarked() {
+        // Arrange
+        var upTo = message(CLIENT_ID);
+        when(caseRepository.findParticipantsById(CASE_ID)).thenReturn(Optional.of(new CaseParticipants(CLIENT_ID, LAWYER_ID)));
+        when(messageRepository.findById(upTo.getId())).thenReturn(Optional.of(upTo));
+        when(messageRepository.markReadUpTo(CASE_ID, LAWYER_ID, upTo.getSequenceNumber(), upTo.getCreatedAt(), upTo.getId()))
+                .thenReturn(3);
+
+        // Act
+        int marked = service.handle(new MarkMessagesReadCommand(CASE_ID, LAWYER_ID, upTo.getId()));
+
+        // Assert
+        assertEquals(3, marked);
+        verify(unreadCounterRepository).decrement(LAWYER_ID, CASE_ID, 3);
+    }
+
+    @Test
+    void testMarkReadByNonParticipantIsRejected() {
+        // Arrange
+        when(caseRepository.findParticipantsById(CASE_ID)).thenReturn(Optional.of(new CaseParticipants(CLIENT_ID, LAWYER_ID)));
+        var command = new MarkMessagesReadCommand(CASE_ID, UUID.randomUUID(), UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.handle(command));
+        verify(unreadCounterRepository, never()).decrement(any(), any(), anyLong());
+    }
+
+    private static CaseMessage message(UUID senderId) {
+        var message = new CaseMessage(CASE_ID, senderId, "Hello");
+        message.setId(UUID.randomUUID());
+        message.setCreatedAt(LocalDateTime.now());
+        return message;
+    }
+
+    private static UnreadCountDrift drift(UUID userId, UUID caseId, long delta) {
+        return new UnreadCountDrift() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getCaseId() {
+                return caseId;
+            }
+
+            @Override
+            public long getDelta() {
+                return delta;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.OutboxEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CommentCreatedEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.OutboxEventStatus;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import com.qu3dena.lawconnect.backend.cases.infrastructure.persistence.jpa.repositories.OutboxSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DomainEventOutbox}.
+ */
+class DomainEventOutboxTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OutboxSequenceRepository outboxSequenceRepository = mock(OutboxSequenceRepository.class);
+    private final DomainEventOutbox outbox = new DomainEventOutbox(outboxEventRepository, outboxSequenceRepository,
+            mock(ApplicationEventPublisher.class), new ObjectMapper(), MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF);
+
+    @Test
+    void testBackoffDoublesUpToTheCap() {
+        // Arrange
+        var expected = List.of(1L, 2L, 4L, 8L, 16L, 30L, 30L);
+
+        for (int attempts = 0; attempts < expected.size(); attempts++) {
+            var event = failedEvent(attempts);
+
+            // Act
+            var before = Instant.now();
+            outbox.recordFailure(event, new IllegalStateException("Listener failed"));
+            var after = Instant.now();
+
+            // Assert
+            var nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+            verify(outboxEventRepository).recordFailure(eq(event.getId()), eq(OutboxEventStatus.PENDING),
+                    eq(attempts + 1), nextAttemptAt.capture(), eq("Listener failed"));
+            var backoff = Duration.ofSeconds(expected.get(attempts));
+            assertFalse(nextAttemptAt.getValue().isBefore(before.plus(backoff)));
+            assertFalse(nextAttemptAt.getValue().isAfter(after.plus(backoff)));
+        }
+    }
+
+    @Test
+    void testEventIsGivenUpAfterMaxAttempts() {
+        // Arrange
+        var event = failedEvent(MAX_ATTEMPTS - 1);
+
+        // Act
+        outbox.recordFailure(event, new IllegalStateException("Listener failed"));
+
+        // Assert
+        verify(outboxEventRepository).recordFailure(event.getId(), OutboxEventStatus.FAILED, MAX_ATTEMPTS,
+                event.getNextAttemptAt(), "Listener failed");
+        verify(outboxEventRepository, never()).recordFailure(anyLong(), eq(OutboxEventStatus.PENDING), anyInt(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testAppendAllNumbersTheEventsOfEachCaseConsecutively() {
+        // Arrange
+        var firstCase = UUID.randomUUID();
+        var secondCase = UUID.randomUUID();
+        when(outboxSequenceRepository.findLastSequenceNumber(firstCase)).thenReturn(12L);
+        when(outboxSequenceRepository.findLastSequenceNumber(secondCase)).thenReturn(1L);
+
+        // Act
+        outbox.appendAll(List.of(
+                new CommentCreatedEvent(firstCase, 1L, UUID.randomUUID()),
+                new CommentCreatedEvent(secondCase, 2L, UUID.randomUUID()),
+                new CommentCreatedEvent(firstCase, 3L, UUID.randomUUID())));
+
+        // Assert
+        verify(outboxSequenceRepository).reserve(firstCase, 2);
+        verify(outboxSequenceRepository).reserve(secondCase, 1);
+        var saved = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(saved.capture());
+        var sequenceNumbers = ((List<OutboxEvent>) saved.getValue()).stream().map(OutboxEvent::getSequenceNumber).toList();
+        assertEquals(List.of(11L, 1L, 12L), sequenceNumbers);
+    }
+
+    private static OutboxEvent failedEvent(int attempts) {
+        var event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn((long) attempts + 1);
+        when(event.getAggregateId()).thenReturn(UUID.randomUUID());
+        when(event.getAttempts()).thenReturn(attempts);
+        when(event.getNextAttemptAt()).thenReturn(Instant.EPOCH);
+        return event;
+    }
+}
@@ -0,0 +1,143 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.queryservices;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseSnapshotCache}.
+ */
+class CaseSnapshotCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testServesCachedSnapshotUntilEvicted() {
+        // Arrange
+        var cache = new CaseSnapshotCache(true, 10, Duration.ofMinutes(5), now::get);
+        var caseId = UUID.randomUUID();
+
+        // Act
+        cache.get(caseId, this::load);
+        cache.get(caseId, this::load);
+        cache.evict(caseId);
+        cache.get(caseId, this::load);
+
+        // Assert
+        var stats = cache.stats();
+        assertEquals(2, loads.get());
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.invalidated());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyReadCaseBeyondMaxSize() {
+        // Arrange
+        var cache = new CaseSnapshotCache(true, 2, Duration.ofMinutes(5), now::get);
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var third = UUID.randomUUID();
+        cache.get(first, this::load);
+        cache.get(second, this::load);
+        cache.get(first, this::load);
+
+        // Act
+        cache.get(third, this::load);
+        cache.get(first, this::load);
+        cache.get(second, this::load);
+
+        // Assert
+        var stats = cache.stats();
+        assertEquals(4, loads.get());
+        assertEquals(2, stats.evictions());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void testReloadsExpiredSnapshot() {
+        // Arrange
+        var cache = new CaseSnapshotCache(true, 10, Duration.ofSeconds(30), now::get);
+        var caseId = UUID.randomUUID();
+        cache.get(caseId, this::load);
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.get(caseId, this::load);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.get(caseId, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void testDoesNotKeepSnapshotLoadedDuringEviction() {
+        // Arrange
+        var cache = new CaseSnapshotCache(true, 10, Duration.ofMinutes(5), now::get);
+        var caseId = UUID.randomUUID();
+
+        // Act
+        cache.get(caseId, id -> {
+            cache.evict(id);
+            return load(id);
+        });
+        cache.get(caseId, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    void testKeepsSnapshotLoadedDuringEvictionOfAnotherCase() {
+        // Arrange
+        var cache = new CaseSnapshotCache(true, 10, Duration.ofMinutes(5), now::get);
+        var caseId = UUID.randomUUID();
+        var otherCaseId = UUID.randomUUID();
+
+        // Act
+        cache.get(caseId, id -> {
+            cache.evict(otherCaseId);
+            return load(id);
+        });
+        cache.get(caseId, this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        // Arrange
+        var cache = new CaseSnapshotCache(false, 10, Duration.ofMinutes(5), now::get);
+        var caseId = UUID.randomUUID();
+
+        // Act
+        cache.get(caseId, this::load);
+        cache.get(caseId, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().size());
+    }
+
+    private Optional<CaseSummaryView> load(UUID caseId) {
+        loads.incrementAndGet();
+        var now = new Date();
+        return Optional.of(new CaseSummaryView(caseId, "Title", "Description", UUID.randomUUID(), null, 1L,
+                CaseStatus.OPEN, now, now, 0L));
+    }
+}
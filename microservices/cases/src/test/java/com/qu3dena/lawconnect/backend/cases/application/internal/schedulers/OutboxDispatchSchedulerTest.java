@@ -0,0 +1,69 @@
+package com.qu3dena.lawconnect.backend.cases.application.internal.schedulers;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.events.DomainEventOutbox;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.OutboxEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OutboxDispatchScheduler}.
+ */
+class OutboxDispatchSchedulerTest {
+
+    private final DomainEventOutbox eventOutbox = mock(DomainEventOutbox.class);
+    private final OutboxDispatchScheduler scheduler = new OutboxDispatchScheduler(eventOutbox, true, 100, Duration.ofDays(7));
+
+    @Test
+    void testFailedEventBlocksLaterEventsOfItsCase() {
+        // Arrange
+        var failingCase = UUID.randomUUID();
+        var otherCase = UUID.randomUUID();
+        var failing = event(1L, failingCase);
+        var blocked = event(2L, failingCase);
+        var other = event(3L, otherCase);
+        when(eventOutbox.findDispatchable(100)).thenReturn(List.of(failing, blocked, other));
+        var error = new IllegalStateException("Listener failed");
+        doThrow(error).when(eventOutbox).publish(failing);
+
+        // Act
+        scheduler.dispatch();
+
+        // Assert
+        verify(eventOutbox).recordFailure(failing, error);
+        verify(eventOutbox, never()).publish(blocked);
+        verify(eventOutbox).publish(other);
+        verify(eventOutbox).markDispatched(List.of(3L));
+    }
+
+    @Test
+    void testDispatchesEventsOfACaseInOrderAndRecordsThemAtOnce() {
+        // Arrange
+        var caseId = UUID.randomUUID();
+        var first = event(7L, caseId);
+        var second = event(4L, caseId);
+        when(eventOutbox.findDispatchable(100)).thenReturn(List.of(first, second));
+
+        // Act
+        scheduler.dispatch();
+
+        // Assert
+        var inOrder = inOrder(eventOutbox);
+        inOrder.verify(eventOutbox).publish(first);
+        inOrder.verify(eventOutbox).publish(second);
+        inOrder.verify(eventOutbox).markDispatched(List.of(7L, 4L));
+        verify(eventOutbox, never()).recordFailure(any(), any());
+    }
+
+    private static OutboxEvent event(Long id, UUID caseId) {
+        var event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getAggregateId()).thenReturn(caseId);
+        return event;
+    }
+}
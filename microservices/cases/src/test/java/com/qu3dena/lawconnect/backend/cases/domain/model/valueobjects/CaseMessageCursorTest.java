@@ -0,0 +1,50 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseMessageCursor} value object.
+ */
+class CaseMessageCursorTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:15:30.123456Z");
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        var cursor = new CaseMessageCursor(42, NOW, UUID.randomUUID());
+
+        // Act
+        var decoded = CaseMessageCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedTokens() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CaseMessageCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CaseMessageCursor.decode("AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> CaseMessageCursor.decode(" "));
+    }
+
+    @Test
+    void testOrdersBySequenceNumberBeforeCreationTime() {
+        // Arrange
+        var createdLaterCommittedFirst = new CaseMessageCursor(1, NOW.plusSeconds(1), UUID.randomUUID());
+        var createdEarlierCommittedLater = new CaseMessageCursor(2, NOW, UUID.randomUUID());
+        var stored = new CaseMessageCursor(0, NOW.plusSeconds(5), UUID.randomUUID());
+
+        // Act & Assert
+        assertTrue(createdLaterCommittedFirst.compareTo(createdEarlierCommittedLater) < 0);
+        assertTrue(stored.compareTo(createdLaterCommittedFirst) < 0);
+        assertTrue(CaseMessageCursor.START.compareTo(stored) < 0);
+    }
+}
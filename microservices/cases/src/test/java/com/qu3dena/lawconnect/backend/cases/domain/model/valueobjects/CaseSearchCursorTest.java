@@ -0,0 +1,34 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseSearchCursor} value object.
+ */
+class CaseSearchCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        var cursor = new CaseSearchCursor(3.1415927f, UUID.randomUUID());
+
+        // Act
+        var decoded = CaseSearchCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedTokens() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CaseSearchCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CaseSearchCursor.decode("AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> CaseSearchCursor.decode(" "));
+    }
+}
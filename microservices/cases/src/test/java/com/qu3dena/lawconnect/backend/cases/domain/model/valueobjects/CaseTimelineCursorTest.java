@@ -0,0 +1,36 @@
+package com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CaseTimelineCursor} value object.
+ */
+class CaseTimelineCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        var cursor = new CaseTimelineCursor(Instant.parse("2025-03-01T10:15:30.123456Z"),
+                CaseTimelineEntryType.MESSAGE, UUID.randomUUID().toString());
+
+        // Act
+        var decoded = CaseTimelineCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedTokens() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CaseTimelineCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CaseTimelineCursor.decode("AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> CaseTimelineCursor.decode(" "));
+    }
+}
@@ -0,0 +1,117 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.search.inmemory.services;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.outboundservices.search.CaseSearchMatch;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link InMemoryCaseSearchIndex}.
+ */
+class InMemoryCaseSearchIndexTest {
+
+    @Test
+    void testSearchIgnoresAccentsCaseAndPlurals() {
+        // Arrange
+        var index = new InMemoryCaseSearchIndex();
+        var legalCase = summary("Demanda por DESPIDO", "Reclamación de indemnización y contratos laborales",
+                CaseStatus.OPEN, 1L, 1000);
+        index.index(legalCase);
+
+        // Act
+        var matches = index.search("reclamacion indemnizacion contrato despidos", null, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(legalCase.id()), ids(matches));
+        assertTrue(index.search("de la por", null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testSearchRanksTitleAndRareTermsFirst() {
+        // Arrange
+        var index = new InMemoryCaseSearchIndex();
+        var inTitle = summary("Divorcio de mutuo acuerdo", "Separación de bienes", CaseStatus.OPEN, 1L, 1000);
+        var inDescription = summary("Consulta familiar", "Trámite de divorcio y pensión de alimentos", CaseStatus.OPEN, 1L, 1000);
+        var unrelated = summary("Herencia", "Reparto de bienes del causante", CaseStatus.OPEN, 1L, 1000);
+        index.index(inTitle);
+        index.index(inDescription);
+        index.index(unrelated);
+
+        // Act
+        var matches = index.search("divorcio", null, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(inTitle.id(), inDescription.id()), ids(matches));
+        assertTrue(matches.get(0).score() > matches.get(1).score());
+    }
+
+    @Test
+    void testSearchFiltersByStatusAndSpecialtyAndFollowsStatusUpdates() {
+        // Arrange
+        var index = new InMemoryCaseSearchIndex();
+        var open = summary("Accidente de tránsito", "Choque vehicular", CaseStatus.OPEN, 1L, 1000);
+        var otherSpecialty = summary("Accidente laboral", "Lesión en planta", CaseStatus.OPEN, 2L, 1000);
+        index.index(open);
+        index.index(otherSpecialty);
+
+        // Act
+        var bySpecialty = index.search("accidente", CaseStatus.OPEN, 2L, null, 10);
+        index.index(withStatus(open, CaseStatus.CLOSED, 2000));
+        index.index(withStatus(open, CaseStatus.OPEN, 1500));
+        var openAfterClose = index.search("accidente", CaseStatus.OPEN, null, null, 10);
+        var closed = index.search("accidente", CaseStatus.CLOSED, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(otherSpecialty.id()), ids(bySpecialty));
+        assertEquals(List.of(otherSpecialty.id()), ids(openAfterClose));
+        assertEquals(List.of(open.id()), ids(closed));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testSearchPagesThroughAllMatchesWithCursor() {
+        // Arrange
+        var index = new InMemoryCaseSearchIndex();
+        var expected = new ArrayList<UUID>();
+        for (int i = 0; i < 25; i++) {
+            var legalCase = summary("Contrato " + i, "Revisión de contrato de arrendamiento " + "local ".repeat(i),
+                    CaseStatus.OPEN, 1L, 1000);
+            index.index(legalCase);
+            expected.add(legalCase.id());
+        }
+
+        // Act
+        var seen = new ArrayList<UUID>();
+        var page = index.search("contrato", null, null, null, 10);
+        while (!page.isEmpty()) {
+            seen.addAll(ids(page));
+            page = index.search("contrato", null, null, page.get(page.size() - 1).cursor(), 10);
+        }
+
+        // Assert
+        assertEquals(25, seen.size());
+        assertTrue(seen.containsAll(expected));
+    }
+
+    private static CaseSummaryView summary(String title, String description, CaseStatus status, Long specialtyId, long updatedAt) {
+        return new CaseSummaryView(UUID.randomUUID(), title, description, UUID.randomUUID(), null,
+                specialtyId, status, new Date(0), new Date(updatedAt), 0L);
+    }
+
+    private static CaseSummaryView withStatus(CaseSummaryView legalCase, CaseStatus status, long updatedAt) {
+        return new CaseSummaryView(legalCase.id(), legalCase.title(), legalCase.description(), legalCase.clientId(),
+                legalCase.assignedLawyerId(), legalCase.specialtyId(), status, legalCase.createdAt(), new Date(updatedAt),
+                legalCase.version() + 1);
+    }
+
+    private static List<UUID> ids(List<CaseSearchMatch> matches) {
+        return matches.stream().map(CaseSearchMatch::caseId).toList();
+    }
+}
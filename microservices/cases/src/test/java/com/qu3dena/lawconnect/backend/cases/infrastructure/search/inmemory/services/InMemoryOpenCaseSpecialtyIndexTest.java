@@ -0,0 +1,93 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.search.inmemory.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseSummaryView;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseStatus;
+import com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link InMemoryOpenCaseSpecialtyIndex}.
+ */
+class InMemoryOpenCaseSpecialtyIndexTest {
+
+    @Test
+    void testNewestFirstMergesSpecialtiesFromCursor() {
+        // Arrange
+        var index = new InMemoryOpenCaseSpecialtyIndex();
+        var oldest = summary(1L, CaseStatus.OPEN, 1000, 1000);
+        var middle = summary(2L, CaseStatus.OPEN, 2000, 2000);
+        var newest = summary(1L, CaseStatus.OPEN, 3000, 3000);
+        var otherSpecialty = summary(3L, CaseStatus.OPEN, 4000, 4000);
+        List.of(oldest, middle, newest, otherSpecialty).forEach(index::index);
+
+        // Act
+        var all = ids(index.newestFirst(Set.of(1L, 2L), null));
+        var afterNewest = ids(index.newestFirst(Set.of(1L, 2L), new KeysetCursor(newest.createdAt().toInstant(), newest.id())));
+
+        // Assert
+        assertEquals(List.of(newest.id(), middle.id(), oldest.id()), all);
+        assertEquals(List.of(middle.id(), oldest.id()), afterNewest);
+        assertTrue(ids(index.newestFirst(Set.of(9L), null)).isEmpty());
+    }
+
+    @Test
+    void testIndexRemovesCasesThatAreNoLongerOpen() {
+        // Arrange
+        var index = new InMemoryOpenCaseSpecialtyIndex();
+        var legalCase = summary(1L, CaseStatus.OPEN, 1000, 1000);
+        var withoutSpecialty = summary(null, CaseStatus.OPEN, 1000, 1000);
+        index.index(legalCase);
+        index.index(withoutSpecialty);
+
+        // Act
+        index.index(withStatus(legalCase, CaseStatus.EVALUATION, 2000));
+
+        // Assert
+        assertTrue(ids(index.newestFirst(Set.of(1L), null)).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testLoadDoesNotUndoChangesAppliedMeanwhile() {
+        // Arrange
+        var index = new InMemoryOpenCaseSpecialtyIndex();
+        var closed = summary(1L, CaseStatus.OPEN, 1000, 1000);
+        var loaded = summary(1L, CaseStatus.OPEN, 2000, 2000);
+
+        // Act
+        index.beginLoad();
+        index.index(withStatus(closed, CaseStatus.CANCELED, 3000));
+        index.load(closed);
+        index.load(loaded);
+        index.endLoad();
+
+        // Assert
+        assertEquals(List.of(loaded.id()), ids(index.newestFirst(Set.of(1L), null)));
+    }
+
+    private static CaseSummaryView summary(Long specialtyId, CaseStatus status, long createdAt, long updatedAt) {
+        return new CaseSummaryView(UUID.randomUUID(), "Case", "Description", UUID.randomUUID(), null,
+                specialtyId, status, new Date(createdAt), new Date(updatedAt), 0L);
+    }
+
+    private static CaseSummaryView withStatus(CaseSummaryView legalCase, CaseStatus status, long updatedAt) {
+        return new CaseSummaryView(legalCase.id(), legalCase.title(), legalCase.description(), legalCase.clientId(),
+                legalCase.assignedLawyerId(), legalCase.specialtyId(), status, legalCase.createdAt(), new Date(updatedAt),
+                legalCase.version() + 1);
+    }
+
+    private static List<UUID> ids(Iterator<KeysetCursor> positions) {
+        var ids = new ArrayList<UUID>();
+        positions.forEachRemaining(position -> ids.add(position.id()));
+        return ids;
+    }
+}
@@ -0,0 +1,151 @@
+package com.qu3dena.lawconnect.backend.cases.infrastructure.storage.filesystem.services;
+
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.DocumentContentCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FileSystemDocumentContentStore}.
+ */
+class FileSystemDocumentContentStoreTest {
+
+    private static final String HELLO_SHA_256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testStoreKeysContentBySha256InShardedDirectories() {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+
+        // Act
+        var stored = store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(HELLO_SHA_256, stored.contentHash());
+        assertEquals(5, stored.size());
+        assertTrue(Files.exists(root.resolve("2c").resolve("f2").resolve(HELLO_SHA_256)));
+    }
+
+    @Test
+    void testStoreSameContentTwiceKeepsSingleCopy() throws IOException {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+
+        // Act
+        store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+        store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        try (var files = Files.list(root.resolve("2c").resolve("f2"))) {
+            assertEquals(1, files.count());
+        }
+        try (var temporaryFiles = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, temporaryFiles.count());
+        }
+    }
+
+    @Test
+    void testLoadReturnsStoredContent() throws IOException {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+        var stored = store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        var resource = store.load(stored.contentHash());
+
+        // Assert
+        assertTrue(resource.isPresent());
+        assertEquals("hello", resource.get().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testStoreDeflateKeepsDigestAndSizeOfOriginalContent() throws IOException {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+        var content = "hello".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        var stored = store.store(new ByteArrayInputStream(content), DocumentContentCodec.DEFLATE);
+
+        // Assert
+        var path = root.resolve(stored.contentHash().substring(0, 2))
+                .resolve(stored.contentHash().substring(2, 4))
+                .resolve(stored.contentHash() + ".deflate");
+        assertEquals(DocumentContentCodec.DEFLATE, stored.codec());
+        assertEquals(content.length, stored.size());
+        assertTrue(Files.size(path) < content.length);
+        try (var in = new InflaterInputStream(Files.newInputStream(path))) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testStoreKeepsExistingCopyWhateverTheRequestedCodec() {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+        store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        var stored = store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)), DocumentContentCodec.DEFLATE);
+
+        // Assert
+        assertEquals(DocumentContentCodec.IDENTITY, stored.codec());
+        assertFalse(Files.exists(root.resolve("2c").resolve("f2").resolve(HELLO_SHA_256 + ".deflate")));
+    }
+
+    @Test
+    void testLoadReadsTheCopyOfTheRecordedCodec() throws IOException {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+        var content = "hello".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        var stored = store.store(new ByteArrayInputStream(content), DocumentContentCodec.DEFLATE);
+
+        // An upload of the same bytes without compression published its own copy meanwhile
+        var directory = root.resolve(stored.contentHash().substring(0, 2)).resolve(stored.contentHash().substring(2, 4));
+        Files.write(directory.resolve(stored.contentHash()), content);
+
+        // Act
+        var deflated = store.load(stored.contentHash(), DocumentContentCodec.DEFLATE).orElseThrow();
+        var identity = store.load(stored.contentHash(), DocumentContentCodec.IDENTITY).orElseThrow();
+
+        // Assert
+        try (var in = new InflaterInputStream(deflated.getInputStream())) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        assertArrayEquals(content, identity.getContentAsByteArray());
+    }
+
+    @Test
+    void testDeleteRemovesContent() {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+        var stored = store.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        store.delete(stored.contentHash());
+
+        // Assert
+        assertFalse(store.exists(stored.contentHash()));
+        assertTrue(store.load(stored.contentHash()).isEmpty());
+    }
+
+    @Test
+    void testInvalidContentHashIsRejected() {
+        // Arrange
+        var store = new FileSystemDocumentContentStore(root.toString());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> store.load("../../etc/passwd"));
+    }
+}
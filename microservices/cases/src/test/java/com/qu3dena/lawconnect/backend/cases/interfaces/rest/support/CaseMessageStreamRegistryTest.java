@@ -0,0 +1,239 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.support;
+
+import com.qu3dena.lawconnect.backend.cases.application.internal.commandservices.CaseMessageBatchWriter;
+import com.qu3dena.lawconnect.backend.cases.application.internal.commandservices.CaseMessageGroupCommitter;
+import com.qu3dena.lawconnect.backend.cases.domain.model.commands.SendMessageCommand;
+import com.qu3dena.lawconnect.backend.cases.domain.model.entities.CaseMessage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.events.CaseMessageSentEvent;
+import com.qu3dena.lawconnect.backend.cases.domain.model.projections.CaseMessagePage;
+import com.qu3dena.lawconnect.backend.cases.domain.model.queries.GetMessagesByCaseIdQuery;
+import com.qu3dena.lawconnect.backend.cases.domain.model.valueobjects.CaseMessageCursor;
+import com.qu3dena.lawconnect.backend.cases.domain.services.MessageQueryService;
+import com.qu3dena.lawconnect.backend.cases.interfaces.rest.resources.MessageResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CaseMessageStreamRegistry}.
+ */
+class CaseMessageStreamRegistryTest {
+
+    private static final UUID CASE_ID = UUID.randomUUID();
+    private static final UUID SENDER_ID = UUID.randomUUID();
+
+    // The committed messages of the case, as the database returns them
+    private final List<CaseMessage> committed = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastSequenceNumber = new AtomicLong();
+    private final MessageQueryService queryService = mock(MessageQueryService.class);
+    private final CaseMessageStreamRegistry registry =
+            new CaseMessageStreamRegistry(queryService, Duration.ofMinutes(1), 10, Executors.newFixedThreadPool(2));
+
+    @BeforeEach
+    void setUp() {
+        when(queryService.handle(any(GetMessagesByCaseIdQuery.class))).thenAnswer(invocation -> read(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void testBlockedStreamDoesNotDelayTheNextFlush() throws Exception {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var stream = new RecordingEmitter(release);
+        registry.subscribe(CASE_ID, stream, null);
+
+        // The committed batch is announced on the flusher thread, as the commit listener is
+        var batchWriter = mock(CaseMessageBatchWriter.class);
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<SendMessageCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(command -> commit(message(command.content(), LocalDateTime.now()))).toList();
+        });
+        var committer = new CaseMessageGroupCommitter(batchWriter, true, 1, Duration.ofMillis(1), 10, Duration.ofSeconds(1));
+        committer.start();
+
+        try {
+            // Act
+            assertTimeoutPreemptively(Duration.ofSeconds(2),
+                    () -> committer.submit(new SendMessageCommand(CASE_ID, SENDER_ID, "first")));
+            assertTrue(stream.sending.await(5, TimeUnit.SECONDS), "The stream never started writing");
+            var second = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                    () -> committer.submit(new SendMessageCommand(CASE_ID, SENDER_ID, "second")));
+
+            // Assert
+            assertEquals("second", second.getContent());
+            assertEquals(2, committer.stats().batches());
+        } finally {
+            release.countDown();
+            committer.stop();
+        }
+    }
+
+    @Test
+    void testMessageCreatedFirstButCommittedLastIsNotSkipped() throws Exception {
+        // Arrange
+        var stream = new RecordingEmitter(new CountDownLatch(0));
+        registry.subscribe(CASE_ID, stream, null);
+        var now = LocalDateTime.now();
+        var createdFirst = message("created first", now);
+        var createdLast = message("created last", now.plusSeconds(1));
+
+        // Act
+        commit(createdLast);
+        assertTrue(stream.awaitEvents(1));
+        commit(createdFirst);
+
+        var reconnected = new RecordingEmitter(new CountDownLatch(0));
+        registry.subscribe(CASE_ID, reconnected, createdLast.cursor());
+
+        // Assert
+        assertTrue(stream.awaitEvents(2));
+        assertEquals(List.of("created last", "created first"), stream.contents());
+        assertTrue(reconnected.awaitEvents(1));
+        assertEquals(List.of("created first"), reconnected.contents());
+    }
+
+    @Test
+    void testNewMessagesAreHeldUntilTheReplayIsDone() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++)
+            commit(message("missed " + i, LocalDateTime.now()));
+        var release = new CountDownLatch(1);
+        var stream = new RecordingEmitter(release);
+
+        // Act
+        registry.subscribe(CASE_ID, stream, CaseMessageCursor.START);
+        assertTrue(stream.sending.await(5, TimeUnit.SECONDS), "The replay never started");
+        commit(message("new", LocalDateTime.now()));
+        release.countDown();
+
+        // Assert
+        assertTrue(stream.awaitEvents(4));
+        assertEquals(List.of("missed 0", "missed 1", "missed 2", "new"), stream.contents());
+    }
+
+    @Test
+    void testStreamTooFarBehindIsToldToReload() throws Exception {
+        // Arrange
+        for (int i = 0; i < 15; i++)
+            commit(message("missed " + i, LocalDateTime.now()));
+        var stream = new RecordingEmitter(new CountDownLatch(0));
+
+        // Act
+        registry.subscribe(CASE_ID, stream, CaseMessageCursor.START);
+        assertTrue(stream.awaitEvents(11));
+        commit(message("new", LocalDateTime.now()));
+
+        // Assert
+        assertTrue(stream.awaitEvents(12));
+        var contents = stream.contents();
+        assertEquals(12, contents.size());
+        assertEquals("missed 9", contents.get(9));
+        assertEquals("reset", contents.get(10));
+        assertEquals("new", contents.get(11));
+    }
+
+    private CaseMessage message(String content, LocalDateTime createdAt) {
+        var message = new CaseMessage(CASE_ID, SENDER_ID, content);
+        message.setId(UUID.randomUUID());
+        message.setCreatedAt(createdAt);
+        return message;
+    }
+
+    /**
+     * Commits a message: it is numbered in commit order, becomes readable and is announced.
+     */
+    private CaseMessage commit(CaseMessage message) {
+        message.setSequenceNumber(lastSequenceNumber.incrementAndGet());
+        committed.add(message);
+        registry.on(new CaseMessageSentEvent(message.getId(), message.getCaseId(), message.getSenderId(),
+                message.getContent(), message.getCreatedAt()));
+        return message;
+    }
+
+    private CaseMessagePage read(GetMessagesByCaseIdQuery query) {
+        if (query.after() != null) {
+            var rows = committed.stream()
+                    .filter(message -> message.cursor().compareTo(query.after()) > 0)
+                    .sorted(Comparator.comparing(CaseMessage::cursor))
+                    .limit(query.size() + 1)
+                    .toList();
+            return CaseMessagePage.of(rows, query.size());
+        }
+
+        var rows = committed.stream()
+                .sorted(Comparator.comparing(CaseMessage::cursor).reversed())
+                .limit(query.size() + 1)
+                .toList();
+        return CaseMessagePage.of(rows, query.size());
+    }
+
+    /**
+     * Emitter recording the events written to it, whose writes block until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final List<List<Object>> events = new CopyOnWriteArrayList<>();
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            events.add(builder.build().stream().map(DataWithMediaType::getData).toList());
+        }
+
+        /**
+         * Returns the content of each message sent, and {@code reset} for each reset, in order.
+         */
+        private List<String> contents() {
+            return events.stream()
+                    .map(event -> event.stream()
+                            .map(data -> data instanceof MessageResource message ? message.content()
+                                    : String.valueOf(data).contains("event:reset") ? "reset" : "")
+                            .filter(content -> !content.isEmpty())
+                            .findFirst()
+                            .orElse(""))
+                    .filter(content -> !content.isEmpty())
+                    .toList();
+        }
+
+        private boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (contents().size() < count && System.nanoTime() < deadline)
+                Thread.sleep(10);
+            return contents().size() >= count;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.qu3dena.lawconnect.backend.cases.interfaces.rest.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DataUrlDocumentUploadReader}.
+ */
+class DataUrlDocumentUploadReaderTest {
+
+    @Test
+    void testReadDecodesDataUrlIntoConsumer() throws IOException {
+        // Arrange
+        byte[] content = new byte[100_000];
+        new Random(42).nextBytes(content);
+        String base64 = Base64.getEncoder().encodeToString(content).replace("/", "\\/");
+        String body = "{\"filename\": \"contrato.pdf\", \"fileUrl\": \"data:application/pdf;base64," + base64
+                + "\", \"fileSize\": 100000, \"fileType\": \"application/pdf\"}";
+
+        // Act
+        var upload = DataUrlDocumentUploadReader.read(toStream(body), (mediaType, in) -> {
+            assertEquals("application/pdf", mediaType);
+            return readAll(in);
+        });
+
+        // Assert
+        assertArrayEquals(content, upload.content());
+        assertNull(upload.fileUrl());
+        assertEquals("contrato.pdf", upload.filename());
+        assertEquals(100_000L, upload.fileSize());
+        assertEquals("application/pdf", upload.fileType());
+    }
+
+    @Test
+    void testReadKeepsPlainFileUrl() throws IOException {
+        // Arrange
+        String body = "{\"fileUrl\":\"https://example.com/a\\u00f1o.pdf\",\"extra\":{\"tags\":[1,true,null]},\"filename\":null}";
+
+        // Act
+        var upload = DataUrlDocumentUploadReader.read(toStream(body), (mediaType, in) -> fail("No content expected"));
+
+        // Assert
+        assertEquals("https://example.com/año.pdf", upload.fileUrl());
+        assertNull(upload.filename());
+        assertNull(upload.content());
+    }
+
+    @Test
+    void testReadRejectsNonBase64DataUrl() {
+        // Arrange
+        String body = "{\"fileUrl\":\"data:text/plain,hola\"}";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> DataUrlDocumentUploadReader.read(toStream(body), (mediaType, in) -> readAll(in)));
+    }
+
+    @Test
+    void testReadRejectsMalformedBody() {
+        // Arrange
+        String body = "{\"filename\": \"a.pdf\"";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> DataUrlDocumentUploadReader.read(toStream(body), (mediaType, in) -> readAll(in)));
+    }
+
+    private static InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] readAll(InputStream in) {
+        try {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link KWayMergeIterator}.
+ */
+class KWayMergeIteratorTest {
+
+    @Test
+    void testMergesSortedSourcesInOrder() {
+        // Arrange
+        var sources = List.of(
+                List.of(1, 4, 7, 10).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(2, 3, 8).iterator(),
+                List.of(5, 6, 9, 11, 12).iterator());
+
+        // Act
+        var merged = drain(new KWayMergeIterator<>(sources, Comparator.naturalOrder()));
+
+        // Assert
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), merged);
+    }
+
+    @Test
+    void testEqualElementsKeepSourceOrder() {
+        // Arrange
+        var sources = List.of(
+                List.of("b1", "b2").iterator(),
+                List.of("a1", "b3").iterator());
+
+        // Act
+        var merged = drain(new KWayMergeIterator<>(sources, Comparator.comparing((String s) -> s.charAt(0))));
+
+        // Assert
+        assertEquals(List.of("a1", "b1", "b2", "b3"), merged);
+    }
+
+    @Test
+    void testAdvancesSourcesLazily() {
+        // Arrange
+        var pulled = new AtomicInteger();
+        var sources = List.of(counting(List.of(1, 3, 5, 7), pulled), counting(List.of(2, 4, 6, 8), pulled));
+        var merged = new KWayMergeIterator<>(sources, Comparator.<Integer>naturalOrder());
+
+        // Act
+        merged.next();
+        merged.next();
+        merged.next();
+
+        // Assert: the three elements taken plus the current head of each source
+        assertEquals(5, pulled.get());
+    }
+
+    @Test
+    void testNextOnEmptyMergeThrows() {
+        // Arrange
+        var merged = new KWayMergeIterator<Integer>(List.of(), Comparator.naturalOrder());
+
+        // Act & Assert
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        var items = new ArrayList<T>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+
+    private static Iterator<Integer> counting(List<Integer> items, AtomicInteger pulled) {
+        var delegate = items.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                pulled.incrementAndGet();
+                return delegate.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.qu3dena.lawconnect.backend.shared.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link KeysetCursor} value object.
+ */
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-03-01T10:15:30.123456789Z"), UUID.randomUUID());
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(Instant.now(), UUID.randomUUID());
+
+        // Act
+        String token = cursor.encode();
+
+        // Assert
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeMalformedCursor() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetCursor.decode("not a cursor")
+        );
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    void testDecodeBlankCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void testPageWithExtraRowHasNextCursor() {
+        // Arrange
+        Instant now = Instant.now();
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(now, UUID.randomUUID()),
+                new KeysetCursor(now.minusSeconds(1), UUID.randomUUID()),
+                new KeysetCursor(now.minusSeconds(2), UUID.randomUUID()));
+
+        // Act
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, row -> row);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertEquals(rows.get(1), page.nextCursor());
+    }
+
+    @Test
+    void testLastPageHasNoNextCursor() {
+        // Arrange
+        List<KeysetCursor> rows = List.of(new KeysetCursor(Instant.now(), UUID.randomUUID()));
+
+        // Act
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, row -> row);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertTrue(page.next().isEmpty());
+    }
+}
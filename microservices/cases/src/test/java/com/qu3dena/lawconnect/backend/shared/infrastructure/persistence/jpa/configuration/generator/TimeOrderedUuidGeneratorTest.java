@@ -0,0 +1,73 @@
+package com.qu3dena.lawconnect.backend.shared.infrastructure.persistence.jpa.configuration.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimeOrderedUuidGenerator}.
+ */
+class TimeOrderedUuidGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    void testGeneratesVersion7UuidsCarryingTheTimestamp() {
+        // Arrange
+        var generator = new TimeOrderedUuidGenerator(() -> NOW, new Random(7));
+
+        // Act
+        var id = generator.generate();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testIdsIncreaseAsUnsignedBytesWithinAndAcrossMilliseconds() {
+        // Arrange
+        var now = new AtomicLong(NOW);
+        var generator = new TimeOrderedUuidGenerator(now::get, new Random(7));
+        var ids = new ArrayList<UUID>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 1_000 == 0)
+                now.incrementAndGet();
+            ids.add(generator.generate());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++)
+            assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "Identifier " + i + " is out of order");
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void testIdsKeepIncreasingWhenTheClockGoesBack() {
+        // Arrange
+        var now = new AtomicLong(NOW);
+        var generator = new TimeOrderedUuidGenerator(now::get, new Random(7));
+        var before = generator.generate();
+
+        // Act
+        now.addAndGet(-1_000);
+        var after = generator.generate();
+
+        // Assert
+        assertTrue(compareUnsigned(before, after) < 0);
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
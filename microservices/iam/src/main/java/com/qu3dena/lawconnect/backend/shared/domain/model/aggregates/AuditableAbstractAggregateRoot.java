@@ -1,7 +1,9 @@
 package com.qu3dena.lawconnect.backend.shared.domain.model.aggregates;
 
+import com.qu3dena.lawconnect.backend.shared.infrastructure.persistence.jpa.configuration.generator.TimeOrderedUuidGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.AbstractAggregateRoot;
@@ -14,7 +16,7 @@ import java.util.UUID;
  * Abstract base class for aggregate roots that require auditing.
  * <p>
  * Provides automatic management of creation and update timestamps,
- * as well as a generated primary key.
+ * a generated primary key and a version incremented by every update.
  *
  * @param <T> the type of the aggregate root
  */
@@ -26,9 +28,10 @@ public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>>
 
     /**
      * The unique identifier for the aggregate root.
+     * Time-ordered, so new aggregates are appended at the end of the primary key index.
      */
     @Id
-    @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
     private UUID id;
 
@@ -48,4 +51,12 @@ public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>>
     @Column(nullable = false)
     private Date updatedAt;
 
+    /**
+     * The version of the aggregate.
+     * Incremented on every update, it guards concurrent updates and identifies the state of the aggregate.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
 }
@@ -0,0 +1,77 @@
+package com.qu3dena.lawconnect.backend.shared.infrastructure.persistence.jpa.configuration.generator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered version 7 UUIDs, as defined by RFC 9562.
+ * <p>
+ * The first 48 bits hold the Unix timestamp in milliseconds and the next 12 bits a counter, so identifiers
+ * generated by this instance always increase, even within the same millisecond, and sort by creation time when
+ * stored as {@code BINARY(16)}. New rows are then appended at the end of the clustered primary key index instead
+ * of being scattered across it as random UUIDs are. The remaining 62 bits are random.
+ * </p>
+ * <p>
+ * The counter starts at a random value below 2048 every millisecond; when more than the remaining values are
+ * generated within one millisecond it carries over into the timestamp, which keeps the identifiers increasing.
+ * </p>
+ *
+ * @author LawConnect Team
+ * @since 1.0.0
+ */
+public class TimeOrderedUuidGenerator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final Random random;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    /**
+     * Constructs a generator on the system clock; Hibernate creates one for each identifier mapped to it.
+     */
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    // inherited javadoc
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+    /**
+     * Generates the next identifier.
+     *
+     * @return a version 7 UUID greater than any generated before by this generator
+     */
+    public UUID generate() {
+        long start = clock.getAsLong() << COUNTER_BITS;
+        long next;
+        long last;
+        do {
+            last = lastTimestampAndCounter.get();
+            next = start > last ? start | random.nextInt(1 << (COUNTER_BITS - 1)) : last + 1;
+        } while (!lastTimestampAndCounter.compareAndSet(last, next));
+
+        long timestamp = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+        long mostSignificantBits = timestamp << 16 | VERSION_7 | counter;
+        long leastSignificantBits = VARIANT_RFC_9562 | (random.nextLong() & RANDOM_B_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
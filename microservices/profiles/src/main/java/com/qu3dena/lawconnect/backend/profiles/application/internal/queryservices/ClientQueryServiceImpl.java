@@ -3,6 +3,7 @@ package com.qu3dena.lawconnect.backend.profiles.application.internal.queryservic
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.ClientAggregate;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllClientsQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientVersionByUserIdQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.ClientQueryService;
 import com.qu3dena.lawconnect.backend.profiles.infrastructure.persistence.jpa.repositories.ClientRepository;
 import org.springframework.stereotype.Service;
@@ -49,4 +50,12 @@ public class ClientQueryServiceImpl implements ClientQueryService {
     public Optional<ClientAggregate> handle(GetClientByUserIdQuery query) {
         return clientRepository.findByUserId(query.userId());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Long> handle(GetClientVersionByUserIdQuery query) {
+        return clientRepository.findVersionByUserId(query.userId());
+    }
 }
@@ -3,6 +3,7 @@ package com.qu3dena.lawconnect.backend.profiles.application.internal.queryservic
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.LawyerAggregate;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllLawyersQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerVersionByUserIdQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerBySpecialtyQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.valueobjects.LawyerSpecialties;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.LawyerQueryService;
@@ -59,4 +60,12 @@ public class LawyerQueryServiceImpl implements LawyerQueryService {
     public Optional<LawyerAggregate> handle(GetLawyerByUserIdQuery query) {
         return lawyerRepository.findByUserId(query.userId());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Long> handle(GetLawyerVersionByUserIdQuery query) {
+        return lawyerRepository.findVersionByUserId(query.userId());
+    }
 }
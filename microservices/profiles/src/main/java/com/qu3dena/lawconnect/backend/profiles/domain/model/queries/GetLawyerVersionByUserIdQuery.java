@@ -0,0 +1,6 @@
+package com.qu3dena.lawconnect.backend.profiles.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetLawyerVersionByUserIdQuery(UUID userId) {
+}
@@ -3,6 +3,7 @@ package com.qu3dena.lawconnect.backend.profiles.domain.services;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.ClientAggregate;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllClientsQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientVersionByUserIdQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,4 +34,12 @@ public interface ClientQueryService {
      * @return an {@link Optional} containing the retrieved {@link ClientAggregate}, or empty if not found
      */
     Optional<ClientAggregate> handle(GetClientByUserIdQuery query);
+
+    /**
+     * Handles the retrieval of the version of a client profile by user ID, without loading the profile.
+     *
+     * @param query the query containing the user ID
+     * @return an {@link Optional} containing the version of the profile, or empty if not found
+     */
+    Optional<Long> handle(GetClientVersionByUserIdQuery query);
 }
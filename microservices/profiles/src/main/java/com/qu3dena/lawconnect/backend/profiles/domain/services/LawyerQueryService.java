@@ -3,6 +3,7 @@ package com.qu3dena.lawconnect.backend.profiles.domain.services;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.LawyerAggregate;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllLawyersQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerVersionByUserIdQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerBySpecialtyQuery;
 
 import java.util.List;
@@ -42,4 +43,12 @@ public interface LawyerQueryService {
      * @return an {@link Optional} containing the retrieved {@link LawyerAggregate}, or empty if no lawyer is found
      */
     Optional<LawyerAggregate> handle(GetLawyerByUserIdQuery query);
+
+    /**
+     * Handles the retrieval of the version of a lawyer profile by user ID, without loading the profile.
+     *
+     * @param query the query containing the user ID
+     * @return an {@link Optional} containing the version of the profile, or empty if not found
+     */
+    Optional<Long> handle(GetLawyerVersionByUserIdQuery query);
 }
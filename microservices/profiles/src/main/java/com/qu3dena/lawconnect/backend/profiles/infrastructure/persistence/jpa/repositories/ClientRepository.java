@@ -2,6 +2,8 @@ package com.qu3dena.lawconnect.backend.profiles.infrastructure.persistence.jpa.r
 
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.ClientAggregate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -28,4 +30,13 @@ public interface ClientRepository extends JpaRepository<ClientAggregate, UUID> {
     boolean existsByDni_Value(String dni);
 
     Optional<ClientAggregate> findByUserId(UUID dni);
+
+    /**
+     * Finds the version of the profile of a user without loading it.
+     *
+     * @param userId the unique identifier of the user
+     * @return an {@link Optional} containing the version of the profile, or empty if the user has none
+     */
+    @Query("select p.version from ClientAggregate p where p.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
 }
@@ -3,6 +3,8 @@ package com.qu3dena.lawconnect.backend.profiles.infrastructure.persistence.jpa.r
 import com.qu3dena.lawconnect.backend.profiles.domain.model.aggregates.LawyerAggregate;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.valueobjects.LawyerSpecialties;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -39,4 +41,13 @@ public interface LawyerRepository extends JpaRepository<LawyerAggregate, UUID> {
     Optional<LawyerAggregate> findBySpecialties_Name(LawyerSpecialties name);
 
     Optional<LawyerAggregate> findByUserId(UUID userId);
+
+    /**
+     * Finds the version of the profile of a user without loading it.
+     *
+     * @param userId the unique identifier of the user
+     * @return an {@link Optional} containing the version of the profile, or empty if the user has none
+     */
+    @Query("select p.version from LawyerAggregate p where p.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
 }
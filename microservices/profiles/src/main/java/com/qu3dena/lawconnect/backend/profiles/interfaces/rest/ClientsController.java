@@ -2,6 +2,7 @@ package com.qu3dena.lawconnect.backend.profiles.interfaces.rest;
 
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllClientsQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetClientVersionByUserIdQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.ClientCommandService;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.ClientQueryService;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.resources.ClientResource;
@@ -10,14 +11,17 @@ import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.resources.UpdateC
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.ClientResourceFromEntityAssembler;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.CreateClientCommandFromResourceAssembler;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.UpdateClientCommandFromResourceAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform.EntityTagFromVersionAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -77,19 +81,32 @@ public class ClientsController {
     @Operation(summary = "Get client profile by User id", description = "Get client profile by User id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Client profile found"),
+            @ApiResponse(responseCode = "304", description = "Client profile not modified"),
             @ApiResponse(responseCode = "404", description = "Client profile not found")
     })
     public ResponseEntity<ClientResource> getClientProfileByDni(
-            @PathVariable("userId") String userId
+            @PathVariable("userId") String userId,
+            WebRequest request
     ) {
-        var query = new GetClientByUserIdQuery(UUID.fromString(userId));
+        var profileUserId = UUID.fromString(userId);
+
+        // A still valid If-None-Match is answered from the version alone
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var version = queryService.handle(new GetClientVersionByUserIdQuery(profileUserId));
+            if (version.isPresent() && request.checkNotModified(EntityTagFromVersionAssembler.toEntityTag(profileUserId, version.get())))
+                return null;
+        }
+
+        var query = new GetClientByUserIdQuery(profileUserId);
         var maybeItem = queryService.handle(query);
 
         if (maybeItem.isEmpty())
             return ResponseEntity.notFound().build();
 
         var resource = ClientResourceFromEntityAssembler.toResourceFromEntity(maybeItem.get());
-        return ResponseEntity.ok(resource);
+        return ResponseEntity.ok()
+                .eTag(EntityTagFromVersionAssembler.toEntityTag(profileUserId, maybeItem.get().getVersion()))
+                .body(resource);
     }
 
     @PutMapping("{userId}")
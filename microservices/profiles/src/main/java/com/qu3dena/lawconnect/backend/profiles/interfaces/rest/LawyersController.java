@@ -2,6 +2,7 @@ package com.qu3dena.lawconnect.backend.profiles.interfaces.rest;
 
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetAllLawyersQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerByUserIdQuery;
+import com.qu3dena.lawconnect.backend.profiles.domain.model.queries.GetLawyerVersionByUserIdQuery;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.LawyerCommandService;
 import com.qu3dena.lawconnect.backend.profiles.domain.services.LawyerQueryService;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.resources.CreateLawyerResource;
@@ -12,14 +13,17 @@ import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.CreateL
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.LawyerResourceFromEntityAssembler;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.UpdateLawyerCommandFromResourceAssembler;
 import com.qu3dena.lawconnect.backend.profiles.interfaces.rest.transform.UpdateLawyerSpecialtiesCommandFromResourceAssembler;
+import com.qu3dena.lawconnect.backend.shared.interfaces.rest.transform.EntityTagFromVersionAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -79,19 +83,32 @@ public class LawyersController {
     @Operation(summary = "Get lawyer profile by User ID", description = "Get lawyer profile by User ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lawyer profile found"),
+            @ApiResponse(responseCode = "304", description = "Lawyer profile not modified"),
             @ApiResponse(responseCode = "404", description = "Lawyer profile not found")
     })
     public ResponseEntity<LawyerResource> getLawyerProfileByUserId(
-            @PathVariable("userId") String userId
+            @PathVariable("userId") String userId,
+            WebRequest request
     ) {
-        var query = new GetLawyerByUserIdQuery(UUID.fromString(userId));
+        var profileUserId = UUID.fromString(userId);
+
+        // A still valid If-None-Match is answered from the version alone
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var version = queryService.handle(new GetLawyerVersionByUserIdQuery(profileUserId));
+            if (version.isPresent() && request.checkNotModified(EntityTagFromVersionAssembler.toEntityTag(profileUserId, version.get())))
+                return null;
+        }
+
+        var query = new GetLawyerByUserIdQuery(profileUserId);
         var maybeItem = queryService.handle(query);
 
         if (maybeItem.isEmpty())
             return ResponseEntity.notFound().build();
 
         var resource = LawyerResourceFromEntityAssembler.toResourceFromEntity(maybeItem.get());
-        return ResponseEntity.ok(resource);
+        return ResponseEntity.ok()
+                .eTag(EntityTagFromVersionAssembler.toEntityTag(profileUserId, maybeItem.get().getVersion()))
+                .body(resource);
     }
 
     @PutMapping("{userId}/specialties")